@@ -0,0 +1,228 @@
+package com.hedera.mirror.common.converter;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+
+/**
+ * A compact, versioned binary encoding for a batch of topic messages published to Redis by the importer and consumed
+ * by the gRPC module. All numbers are big endian and fixed width and all byte arrays are length prefixed, so no field
+ * names are sent and no reflection is needed on either end:
+ *
+ * <pre>
+ * batch   = magic(1) version(1) count(4) message*
+ * message = consensusTimestamp(8) topicId(8) sequenceNumber(8) runningHashVersion(4) flags(1)
+ *           [chunkNum(4) chunkTotal(4)] [payerAccountId(8)] [validStartTimestamp(8)]
+ *           bytes(message) bytes(runningHash) bytes(initialTransactionId)
+ * bytes   = length(4) data(length), with a length of -1 representing null
+ * </pre>
+ * <p>
+ * The magic byte is one that msgpack never produces, which lets a consumer tell the two encodings apart while both are
+ * in use.
+ */
+public final class TopicMessageCodec {
+
+    public static final byte MAGIC = (byte) 0xC1;
+    public static final byte VERSION = 1;
+
+    private static final int HEADER_SIZE = 6;
+    private static final int FIXED_SIZE = 29;
+    private static final int FLAG_CHUNK = 1;
+    private static final int FLAG_PAYER = 1 << 1;
+    private static final int FLAG_VALID_START = 1 << 2;
+
+    private TopicMessageCodec() {
+    }
+
+    public static boolean isEncoded(byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_SIZE && bytes[0] == MAGIC;
+    }
+
+    public static byte[] encode(Collection<TopicMessage> topicMessages) {
+        int size = HEADER_SIZE;
+        for (TopicMessage topicMessage : topicMessages) {
+            size += size(topicMessage);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size)
+                .put(MAGIC)
+                .put(VERSION)
+                .putInt(topicMessages.size());
+
+        for (TopicMessage topicMessage : topicMessages) {
+            EntityId payerAccountId = topicMessage.getPayerAccountId();
+            boolean hasChunk = topicMessage.getChunkNum() != null && topicMessage.getChunkTotal() != null;
+            boolean hasPayer = !EntityId.isEmpty(payerAccountId);
+            boolean hasValidStart = topicMessage.getValidStartTimestamp() != null;
+            int flags = (hasChunk ? FLAG_CHUNK : 0) | (hasPayer ? FLAG_PAYER : 0) |
+                    (hasValidStart ? FLAG_VALID_START : 0);
+
+            buffer.putLong(topicMessage.getConsensusTimestamp())
+                    .putLong(topicMessage.getTopicId().getId())
+                    .putLong(topicMessage.getSequenceNumber())
+                    .putInt(topicMessage.getRunningHashVersion())
+                    .put((byte) flags);
+
+            if (hasChunk) {
+                buffer.putInt(topicMessage.getChunkNum()).putInt(topicMessage.getChunkTotal());
+            }
+
+            if (hasPayer) {
+                buffer.putLong(payerAccountId.getId());
+            }
+
+            if (hasValidStart) {
+                buffer.putLong(topicMessage.getValidStartTimestamp());
+            }
+
+            putBytes(buffer, topicMessage.getMessage());
+            putBytes(buffer, topicMessage.getRunningHash());
+            putBytes(buffer, topicMessage.getInitialTransactionId());
+        }
+
+        return buffer.array();
+    }
+
+    public static Reader reader(byte[] bytes) {
+        return new Reader(bytes);
+    }
+
+    private static int size(TopicMessage topicMessage) {
+        int size = FIXED_SIZE;
+        size += topicMessage.getChunkNum() != null && topicMessage.getChunkTotal() != null ? 8 : 0;
+        size += !EntityId.isEmpty(topicMessage.getPayerAccountId()) ? 8 : 0;
+        size += topicMessage.getValidStartTimestamp() != null ? 8 : 0;
+        size += size(topicMessage.getMessage());
+        size += size(topicMessage.getRunningHash());
+        size += size(topicMessage.getInitialTransactionId());
+        return size;
+    }
+
+    private static int size(byte[] bytes) {
+        return 4 + (bytes != null ? bytes.length : 0);
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    /**
+     * Iterates over the messages of an encoded batch, reading the fields of one message at a time into this reader
+     * instead of decoding the whole batch up front. Call {@link #next()} to advance to the next message before reading
+     * its fields. Lengths and counts are checked against the remaining bytes before anything is allocated for them, so
+     * a corrupt batch fails with an {@link IllegalArgumentException}.
+     */
+    @Getter
+    public static final class Reader {
+
+        @Getter(AccessLevel.NONE)
+        private final ByteBuffer buffer;
+        private final int count;
+        @Getter(AccessLevel.NONE)
+        private int position = 0;
+
+        private Integer chunkNum;
+        private Integer chunkTotal;
+        private long consensusTimestamp;
+        private byte[] initialTransactionId;
+        private byte[] message;
+        private Long payerAccountId;
+        private byte[] runningHash;
+        private int runningHashVersion;
+        private long sequenceNumber;
+        private long topicId;
+        private Long validStartTimestamp;
+
+        private Reader(byte[] bytes) {
+            if (!isEncoded(bytes)) {
+                throw new IllegalArgumentException("Not a binary encoded topic message batch");
+            }
+
+            buffer = ByteBuffer.wrap(bytes);
+            buffer.get(); // magic
+            byte version = buffer.get();
+
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported topic message encoding version " + version);
+            }
+
+            count = buffer.getInt();
+
+            if (count < 0 || count > buffer.remaining() / FIXED_SIZE) {
+                throw new IllegalArgumentException("Invalid topic message count " + count);
+            }
+        }
+
+        public boolean next() {
+            if (position >= count) {
+                return false;
+            }
+
+            try {
+                consensusTimestamp = buffer.getLong();
+                topicId = buffer.getLong();
+                sequenceNumber = buffer.getLong();
+                runningHashVersion = buffer.getInt();
+                int flags = buffer.get();
+                boolean hasChunk = (flags & FLAG_CHUNK) != 0;
+                chunkNum = hasChunk ? buffer.getInt() : null;
+                chunkTotal = hasChunk ? buffer.getInt() : null;
+                payerAccountId = (flags & FLAG_PAYER) != 0 ? buffer.getLong() : null;
+                validStartTimestamp = (flags & FLAG_VALID_START) != 0 ? buffer.getLong() : null;
+                message = getBytes();
+                runningHash = getBytes();
+                initialTransactionId = getBytes();
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException("Truncated topic message batch", e);
+            }
+
+            position++;
+            return true;
+        }
+
+        private byte[] getBytes() {
+            int length = buffer.getInt();
+
+            if (length == -1) {
+                return null;
+            }
+
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalArgumentException("Invalid topic message field length " + length);
+            }
+
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+}
@@ -21,20 +21,31 @@ package com.hedera.mirror.common.domain.transaction;
  */
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.ExtensionRegistryLite;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Set;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
+import lombok.experimental.NonFinal;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.util.Version;
 
@@ -43,8 +54,16 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.exception.ProtobufException;
 import com.hedera.mirror.common.util.DomainUtils;
 
+/**
+ * A transaction and its record as read from a record file. When constructed from raw bytes, the transaction and its
+ * body are decoded up front so malformed bytes are rejected when the record file is read. The record is only validated
+ * against its schema and its consensus timestamps read up front, while the record itself is decoded lazily on first
+ * access. Nested byte fields alias the raw bytes instead of copying them. Equality is based on the raw bytes so that it
+ * doesn't depend on which messages were decoded.
+ */
 @Builder(buildMethodName = "buildInternal")
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Log4j2
 @Value
 public class RecordItem implements StreamItem {
@@ -52,23 +71,35 @@ public class RecordItem implements StreamItem {
     static final String BAD_RECORD_BYTES_MESSAGE = "Failed to parse record bytes";
     static final String BAD_TRANSACTION_BODY_BYTES_MESSAGE = "Error parsing transactionBody from transaction";
 
+    @EqualsAndHashCode.Include
     private final Version hapiVersion;
-    private final Transaction transaction;
-    private final TransactionBodyAndSignatureMap transactionBodyAndSignatureMap;
-    private final TransactionRecord record;
+    @NonFinal
+    @ToString.Exclude
+    private Transaction transaction;
+    @NonFinal
+    @ToString.Exclude
+    private TransactionBodyAndSignatureMap transactionBodyAndSignatureMap;
+    @NonFinal
+    @ToString.Exclude
+    private TransactionRecord record;
     // This field is not TransactionType since in case of unknown type, we want exact numerical value rather than
     // -1 in enum.
-    private final int transactionType;
+    @NonFinal
+    @ToString.Exclude
+    private Integer transactionType;
+    @EqualsAndHashCode.Include
     private final byte[] transactionBytes;
+    @EqualsAndHashCode.Include
     private final byte[] recordBytes;
 
-    @Getter(lazy = true)
-    private long consensusTimestamp = DomainUtils.timestampInNanosMax(record.getConsensusTimestamp());
+    private final long consensusTimestamp;
 
     // transactions in stream always have a valid payerAccountId
     @Getter(lazy = true)
+    @ToString.Exclude
     private EntityId payerAccountId = EntityId.of(getTransactionBody().getTransactionID().getAccountID());
 
+    @EqualsAndHashCode.Include
     private final Integer transactionIndex;
 
     private final RecordItem parent;
@@ -79,22 +110,12 @@ public class RecordItem implements StreamItem {
      * Constructs RecordItem from serialized transactionBytes and recordBytes.
      */
     public RecordItem(Version hapiVersion, byte[] transactionBytes, byte[] recordBytes, Integer transactionIndex) {
-        try {
-            transaction = Transaction.parseFrom(transactionBytes);
-        } catch (InvalidProtocolBufferException e) {
-            throw new ProtobufException(BAD_TRANSACTION_BYTES_MESSAGE, e);
-        }
-        try {
-            record = TransactionRecord.parseFrom(recordBytes);
-        } catch (InvalidProtocolBufferException e) {
-            throw new ProtobufException(BAD_RECORD_BYTES_MESSAGE, e);
-        }
-        transactionBodyAndSignatureMap = parseTransactionBodyAndSignatureMap(transaction);
-        transactionType = getTransactionType(transactionBodyAndSignatureMap.getTransactionBody());
-
         this.hapiVersion = hapiVersion;
         this.transactionBytes = transactionBytes;
         this.recordBytes = recordBytes;
+        transaction = parse(transactionBytes, Transaction.parser(), BAD_TRANSACTION_BYTES_MESSAGE);
+        consensusTimestamp = getConsensusTimestamp(scanRecord(recordBytes));
+        transactionBodyAndSignatureMap = parseTransactionBodyAndSignatureMap(transaction);
         this.transactionIndex = transactionIndex;
         parent = null;
         previous = null;
@@ -114,6 +135,7 @@ public class RecordItem implements StreamItem {
         this.record = record;
         transactionBytes = transaction.toByteArray();
         recordBytes = record.toByteArray();
+        consensusTimestamp = getConsensusTimestamp(record);
         transactionIndex = null;
         parent = null;
         previous = null;
@@ -127,16 +149,16 @@ public class RecordItem implements StreamItem {
     private static TransactionBodyAndSignatureMap parseTransactionBodyAndSignatureMap(Transaction transaction) {
         try {
             if (!transaction.getSignedTransactionBytes().equals(ByteString.EMPTY)) {
-                SignedTransaction signedTransaction = SignedTransaction
-                        .parseFrom(transaction.getSignedTransactionBytes());
-                return new TransactionBodyAndSignatureMap(TransactionBody
-                        .parseFrom(signedTransaction.getBodyBytes()), signedTransaction.getSigMap());
+                SignedTransaction signedTransaction = parse(transaction.getSignedTransactionBytes(),
+                        SignedTransaction.parser());
+                return new TransactionBodyAndSignatureMap(parse(signedTransaction.getBodyBytes(),
+                        TransactionBody.parser()), signedTransaction.getSigMap());
             } else if (!transaction.getBodyBytes().equals(ByteString.EMPTY)) {
                 // Not possible to check existence of bodyBytes field since there is no 'hasBodyBytes()'.
                 // If unset, getBodyBytes() returns empty ByteString which always parses successfully to "empty"
                 // TransactionBody. However, every transaction should have a valid (non "empty") TransactionBody.
-                return new TransactionBodyAndSignatureMap(TransactionBody
-                        .parseFrom(transaction.getBodyBytes()), transaction.getSigMap());
+                return new TransactionBodyAndSignatureMap(parse(transaction.getBodyBytes(), TransactionBody.parser()),
+                        transaction.getSigMap());
             } else if (transaction.hasBody()) {
                 return new TransactionBodyAndSignatureMap(transaction.getBody(), transaction.getSigMap());
             }
@@ -146,6 +168,99 @@ public class RecordItem implements StreamItem {
         }
     }
 
+    /**
+     * Checks the record bytes against the record schema without building the messages, so malformed bytes are still
+     * rejected when the record file is read. Returns a record with only the consensus timestamps set.
+     */
+    private static TransactionRecord scanRecord(byte[] bytes) {
+        try {
+            CodedInputStream input = CodedInputStream.newInstance(bytes);
+            input.enableAliasing(true);
+            var timestamps = TransactionRecord.newBuilder();
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                int field = WireFormat.getTagFieldNumber(tag);
+
+                if (WireFormat.getTagWireType(tag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    if (!input.skipField(tag)) {
+                        break;
+                    }
+                } else if (field == TransactionRecord.CONSENSUSTIMESTAMP_FIELD_NUMBER) {
+                    timestamps.setConsensusTimestamp(readTimestamp(input));
+                } else if (field == TransactionRecord.PARENT_CONSENSUS_TIMESTAMP_FIELD_NUMBER) {
+                    timestamps.setParentConsensusTimestamp(readTimestamp(input));
+                } else {
+                    skipField(input, TransactionRecord.getDescriptor().findFieldByNumber(field), tag);
+                }
+            }
+
+            input.checkLastTagWas(0);
+            return timestamps.build();
+        } catch (IOException e) {
+            throw new ProtobufException(BAD_RECORD_BYTES_MESSAGE, e);
+        }
+    }
+
+    /**
+     * Skips a length delimited field, recursing into messages and checking strings are valid UTF-8 like the parser.
+     */
+    private static void skipField(CodedInputStream input, Descriptors.FieldDescriptor field, int tag)
+            throws IOException {
+        if (field == null) {
+            input.skipField(tag);
+        } else if (field.getJavaType() == Descriptors.FieldDescriptor.JavaType.MESSAGE) {
+            int limit = input.pushLimit(input.readRawVarint32());
+            skipMessage(input, field.getMessageType());
+            input.checkLastTagWas(0);
+            input.popLimit(limit);
+        } else if (field.getJavaType() == Descriptors.FieldDescriptor.JavaType.STRING) {
+            if (!input.readBytes().isValidUtf8()) {
+                throw new InvalidProtocolBufferException("Protocol message had invalid UTF-8.");
+            }
+        } else {
+            input.skipField(tag);
+        }
+    }
+
+    private static void skipMessage(CodedInputStream input, Descriptors.Descriptor descriptor) throws IOException {
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                skipField(input, descriptor.findFieldByNumber(WireFormat.getTagFieldNumber(tag)), tag);
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+    }
+
+    private static Timestamp readTimestamp(CodedInputStream input) throws IOException {
+        return input.readMessage(Timestamp.parser(), ExtensionRegistryLite.getEmptyRegistry());
+    }
+
+    private static long getConsensusTimestamp(TransactionRecord record) {
+        return DomainUtils.timestampInNanosMax(record.getConsensusTimestamp());
+    }
+
+    private static <T> T parse(byte[] bytes, Parser<T> parser, String message) {
+        try {
+            return parse(UnsafeByteOperations.unsafeWrap(bytes), parser);
+        } catch (InvalidProtocolBufferException e) {
+            throw new ProtobufException(message, e);
+        }
+    }
+
+    /**
+     * Parses the message with aliasing enabled so its bytes fields are slices of the given bytes instead of copies.
+     * This is safe since the raw bytes of an item are never modified after it is read.
+     */
+    private static <T> T parse(ByteString bytes, Parser<T> parser) throws InvalidProtocolBufferException {
+        CodedInputStream input = bytes.newCodedInput();
+        input.enableAliasing(true);
+
+        T message = parser.parseFrom(input);
+        input.checkLastTagWas(0);
+        return message;
+    }
+
     /**
      * Because body.getDataCase() can return null for unknown transaction types, we instead get oneof generically
      *
@@ -169,20 +284,48 @@ public class RecordItem implements StreamItem {
         return dataCase.getNumber();
     }
 
+    public synchronized Transaction getTransaction() {
+        if (transaction == null) {
+            transaction = parse(transactionBytes, Transaction.parser(), BAD_TRANSACTION_BYTES_MESSAGE);
+        }
+        return transaction;
+    }
+
+    public synchronized TransactionRecord getRecord() {
+        if (record == null) {
+            record = parse(recordBytes, TransactionRecord.parser(), BAD_RECORD_BYTES_MESSAGE);
+        }
+        return record;
+    }
+
+    public synchronized int getTransactionType() {
+        if (transactionType == null) {
+            transactionType = getTransactionType(getTransactionBody());
+        }
+        return transactionType;
+    }
+
     public TransactionBody getTransactionBody() {
-        return transactionBodyAndSignatureMap.getTransactionBody();
+        return getTransactionBodyAndSignatureMap().getTransactionBody();
     }
 
     public SignatureMap getSignatureMap() {
-        return transactionBodyAndSignatureMap.getSignatureMap();
+        return getTransactionBodyAndSignatureMap().getSignatureMap();
     }
 
     public boolean isSuccessful() {
-        return record.getReceipt().getStatus() == ResponseCodeEnum.SUCCESS;
+        return getRecord().getReceipt().getStatus() == ResponseCodeEnum.SUCCESS;
     }
 
     public boolean isChild() {
-        return record.hasParentConsensusTimestamp();
+        return getRecord().hasParentConsensusTimestamp();
+    }
+
+    private synchronized TransactionBodyAndSignatureMap getTransactionBodyAndSignatureMap() {
+        if (transactionBodyAndSignatureMap == null) {
+            transactionBodyAndSignatureMap = parseTransactionBodyAndSignatureMap(getTransaction());
+        }
+        return transactionBodyAndSignatureMap;
     }
 
     @Value
@@ -194,42 +337,57 @@ public class RecordItem implements StreamItem {
     // Necessary since Lombok doesn't use our setters for builders
     public static class RecordItemBuilder<C, B extends RecordItem.RecordItemBuilder> {
 
+        private boolean retainPrevious = true;
+
         public RecordItem build() {
+            // decode the transaction body of raw bytes up front so malformed bytes fail when the file is read
+            if (transaction == null) {
+                transaction = parse(transactionBytes, Transaction.parser(), BAD_TRANSACTION_BYTES_MESSAGE);
+                transactionBodyAndSignatureMap = parseTransactionBodyAndSignatureMap(transaction);
+            }
+
+            TransactionRecord timestamps = record != null ? record : scanRecord(recordBytes);
+
+            consensusTimestamp = getConsensusTimestamp(timestamps);
+
             // set parent, parent-child items are assured to exist in sequential order of [Parent, Child1,..., ChildN]
-            if (record.hasParentConsensusTimestamp() && previous != null) {
-                if (record.getParentConsensusTimestamp()
-                        .equals(previous.record.getConsensusTimestamp())) {
+            if (timestamps.hasParentConsensusTimestamp() && previous != null) {
+                long parentConsensusTimestamp = DomainUtils.timestampInNanosMax(
+                        timestamps.getParentConsensusTimestamp());
+
+                if (parentConsensusTimestamp == previous.consensusTimestamp) {
                     // check immediately preceding item
                     parent = previous;
-                } else if (previous.parent != null && record.getParentConsensusTimestamp()
-                        .equals(previous.parent.record.getConsensusTimestamp())) {
+                } else if (previous.parent != null &&
+                        parentConsensusTimestamp == previous.parent.consensusTimestamp) {
                     // check older siblings parent, if child count is > 1 this prevents having to search to parent
                     parent = previous.parent;
                 }
             }
 
+            if (!retainPrevious) {
+                previous = null;
+            }
+
             return buildInternal();
         }
 
+        /**
+         * Whether the built item should keep a reference to its previous item. The previous item is always used to
+         * resolve the parent, but keeping the reference makes every earlier item in the file reachable from the latest
+         * one, so streaming readers turn it off to let consumed items be garbage collected.
+         */
+        public B retainPrevious(boolean retainPrevious) {
+            this.retainPrevious = retainPrevious;
+            return (B) this;
+        }
+
         public B transactionBytes(byte[] transactionBytes) {
-            try {
-                transaction = Transaction.parseFrom(transactionBytes);
-            } catch (InvalidProtocolBufferException e) {
-                throw new ProtobufException(BAD_TRANSACTION_BYTES_MESSAGE, e);
-            }
-            transactionBodyAndSignatureMap = parseTransactionBodyAndSignatureMap(transaction);
-            transactionType = getTransactionType(transactionBodyAndSignatureMap.getTransactionBody());
             this.transactionBytes = transactionBytes;
             return (B) this;
         }
 
         public B recordBytes(byte[] recordBytes) {
-            try {
-                record = TransactionRecord.parseFrom(recordBytes);
-            } catch (InvalidProtocolBufferException e) {
-                throw new ProtobufException(BAD_RECORD_BYTES_MESSAGE, e);
-            }
-
             this.recordBytes = recordBytes;
             return (B) this;
         }
@@ -0,0 +1,159 @@
+package com.hedera.mirror.common.converter;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+
+class TopicMessageCodecTest {
+
+    @Test
+    void roundTrip() {
+        TopicMessage topicMessage1 = topicMessage(1L);
+        TopicMessage topicMessage2 = topicMessage(2L);
+        topicMessage2.setChunkNum(null);
+        topicMessage2.setChunkTotal(null);
+        topicMessage2.setInitialTransactionId(null);
+        topicMessage2.setPayerAccountId(EntityId.EMPTY);
+        topicMessage2.setValidStartTimestamp(null);
+
+        byte[] bytes = TopicMessageCodec.encode(List.of(topicMessage1, topicMessage2));
+
+        assertThat(TopicMessageCodec.isEncoded(bytes)).isTrue();
+        assertThat(decode(bytes))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(topicMessage1, withoutPayer(topicMessage2));
+    }
+
+    @Test
+    void empty() {
+        byte[] bytes = TopicMessageCodec.encode(List.of());
+        assertThat(bytes).hasSize(6);
+        assertThat(decode(bytes)).isEmpty();
+    }
+
+    @Test
+    void size() {
+        TopicMessage topicMessage = topicMessage(1L);
+        byte[] bytes = TopicMessageCodec.encode(List.of(topicMessage));
+        int payloadSize = topicMessage.getMessage().length + topicMessage.getRunningHash().length +
+                topicMessage.getInitialTransactionId().length;
+        assertThat(bytes.length - payloadSize).isEqualTo(6 + 29 + 12 + 8 + 8 + 8);
+    }
+
+    @Test
+    void isEncoded() {
+        assertThat(TopicMessageCodec.isEncoded(null)).isFalse();
+        assertThat(TopicMessageCodec.isEncoded(new byte[0])).isFalse();
+        assertThat(TopicMessageCodec.isEncoded(new byte[] {(byte) 0x8b, 1, 2, 3, 4, 5})).isFalse();
+    }
+
+    @Test
+    void unsupportedVersion() {
+        byte[] bytes = TopicMessageCodec.encode(List.of(topicMessage(1L)));
+        bytes[1] = 2;
+        assertThatThrownBy(() -> TopicMessageCodec.reader(bytes)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void truncated() {
+        byte[] bytes = TopicMessageCodec.encode(List.of(topicMessage(1L)));
+        TopicMessageCodec.Reader reader = TopicMessageCodec.reader(Arrays.copyOf(bytes, bytes.length - 1));
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void invalidCount() {
+        byte[] bytes = TopicMessageCodec.encode(List.of(topicMessage(1L)));
+        ByteBuffer.wrap(bytes).putInt(2, Integer.MAX_VALUE);
+        assertThatThrownBy(() -> TopicMessageCodec.reader(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("count");
+    }
+
+    @Test
+    void invalidLength() {
+        byte[] bytes = TopicMessageCodec.encode(List.of(topicMessage(1L)));
+        // the message is followed by the running hash and the initial transaction ID
+        int messageOffset = bytes.length - (4 + 12) - (4 + 12) - (4 + 2);
+        ByteBuffer.wrap(bytes).putInt(messageOffset, Integer.MAX_VALUE);
+        TopicMessageCodec.Reader reader = TopicMessageCodec.reader(bytes);
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("length");
+    }
+
+    private List<TopicMessage> decode(byte[] bytes) {
+        TopicMessageCodec.Reader reader = TopicMessageCodec.reader(bytes);
+        List<TopicMessage> topicMessages = new ArrayList<>();
+
+        while (reader.next()) {
+            TopicMessage topicMessage = new TopicMessage();
+            topicMessage.setChunkNum(reader.getChunkNum());
+            topicMessage.setChunkTotal(reader.getChunkTotal());
+            topicMessage.setConsensusTimestamp(reader.getConsensusTimestamp());
+            topicMessage.setInitialTransactionId(reader.getInitialTransactionId());
+            topicMessage.setMessage(reader.getMessage());
+            topicMessage.setPayerAccountId(reader.getPayerAccountId() != null ?
+                    EntityId.of(reader.getPayerAccountId(), EntityType.ACCOUNT) : null);
+            topicMessage.setRunningHash(reader.getRunningHash());
+            topicMessage.setRunningHashVersion(reader.getRunningHashVersion());
+            topicMessage.setSequenceNumber(reader.getSequenceNumber());
+            topicMessage.setTopicId(EntityId.of(reader.getTopicId(), EntityType.TOPIC));
+            topicMessage.setValidStartTimestamp(reader.getValidStartTimestamp());
+            topicMessages.add(topicMessage);
+        }
+
+        assertThat(topicMessages).hasSize(reader.getCount());
+        return topicMessages;
+    }
+
+    private TopicMessage withoutPayer(TopicMessage topicMessage) {
+        topicMessage.setPayerAccountId(null);
+        return topicMessage;
+    }
+
+    private TopicMessage topicMessage(long sequenceNumber) {
+        TopicMessage topicMessage = new TopicMessage();
+        topicMessage.setChunkNum(1);
+        topicMessage.setChunkTotal(2);
+        topicMessage.setConsensusTimestamp(1_000_000L + sequenceNumber);
+        topicMessage.setInitialTransactionId(new byte[] {1, 2});
+        topicMessage.setMessage("test message".getBytes());
+        topicMessage.setPayerAccountId(EntityId.of("0.1.1000", EntityType.ACCOUNT));
+        topicMessage.setRunningHash("running hash".getBytes());
+        topicMessage.setRunningHashVersion(3);
+        topicMessage.setSequenceNumber(sequenceNumber);
+        topicMessage.setTopicId(EntityId.of("0.0.1001", EntityType.TOPIC));
+        topicMessage.setValidStartTimestamp(4L);
+        return topicMessage;
+    }
+}
@@ -0,0 +1,208 @@
+package com.hedera.mirror.common.domain.transaction;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusMessageChunkInfo;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionReceipt;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import com.hederahashgraph.api.proto.java.TransferList;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.util.Version;
+
+/**
+ * Measures the bytes allocated per item when building record items from raw bytes and accessing them like the parser
+ * does, compared to decoding every message up front.
+ */
+@Log4j2
+@Tag("performance")
+class RecordItemPerformanceTest {
+
+    private static final int ITEMS = 10_000;
+    private static final Version HAPI_VERSION = new Version(0, 26, 0);
+
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @ParameterizedTest
+    @EnumSource(Workload.class)
+    void allocation(Workload workload) {
+        byte[][] transactions = new byte[ITEMS][];
+        byte[][] records = new byte[ITEMS][];
+
+        for (int i = 0; i < ITEMS; ++i) {
+            transactions[i] = workload.transaction(i);
+            records[i] = record(i);
+        }
+
+        Consumer<Integer> eager = i -> decode(transactions[i], records[i]);
+        Consumer<Integer> build = i -> recordItem(transactions[i], records[i]);
+        Consumer<Integer> full = i -> {
+            RecordItem recordItem = recordItem(transactions[i], records[i]);
+            recordItem.getTransactionBody();
+            recordItem.getSignatureMap();
+            recordItem.getRecord();
+        };
+
+        long eagerBytes = allocated(eager);
+        long buildBytes = allocated(build);
+        long fullBytes = allocated(full);
+
+        log.info("{} allocated {} bytes/item decoding eagerly, {} bytes/item building the item and " +
+                "{} bytes/item also decoding the record on access", workload, eagerBytes, buildBytes, fullBytes);
+        assertThat(buildBytes).isLessThan(eagerBytes);
+    }
+
+    private long allocated(Consumer<Integer> consumer) {
+        // warm up so class loading and JIT compilation are not measured
+        for (int i = 0; i < ITEMS; ++i) {
+            consumer.accept(i);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < ITEMS; ++i) {
+            consumer.accept(i);
+        }
+
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - start) / ITEMS;
+    }
+
+    private RecordItem recordItem(byte[] transactionBytes, byte[] recordBytes) {
+        return RecordItem.builder()
+                .hapiVersion(HAPI_VERSION)
+                .transactionBytes(transactionBytes)
+                .recordBytes(recordBytes)
+                .build();
+    }
+
+    private void decode(byte[] transactionBytes, byte[] recordBytes) {
+        try {
+            var transaction = Transaction.parseFrom(transactionBytes);
+            var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
+            TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+            TransactionRecord.parseFrom(recordBytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static AccountID accountId(long num) {
+        return AccountID.newBuilder().setAccountNum(num).build();
+    }
+
+    private static ByteString bytes(int length, int seed) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; ++i) {
+            bytes[i] = (byte) (seed + i);
+        }
+        return ByteString.copyFrom(bytes);
+    }
+
+    private static Timestamp timestamp(int index) {
+        return Timestamp.newBuilder().setSeconds(1_600_000_000L + index).setNanos(index).build();
+    }
+
+    private static byte[] record(int index) {
+        return TransactionRecord.newBuilder()
+                .setConsensusTimestamp(timestamp(index))
+                .setMemo("memo")
+                .setReceipt(TransactionReceipt.newBuilder().setStatusValue(22).setTopicSequenceNumber(index))
+                .setTransactionFee(100_000L)
+                .setTransactionHash(bytes(48, index))
+                .setTransactionID(transactionId(index))
+                .setTransferList(TransferList.newBuilder()
+                        .addAccountAmounts(AccountAmount.newBuilder().setAccountID(accountId(2)).setAmount(-100_000L))
+                        .addAccountAmounts(AccountAmount.newBuilder().setAccountID(accountId(3)).setAmount(10_000L))
+                        .addAccountAmounts(AccountAmount.newBuilder().setAccountID(accountId(98)).setAmount(90_000L)))
+                .build()
+                .toByteArray();
+    }
+
+    private static byte[] transactionBytes(int index, Consumer<TransactionBody.Builder> body) {
+        var transactionBody = TransactionBody.newBuilder()
+                .setMemo("memo")
+                .setNodeAccountID(accountId(3))
+                .setTransactionFee(100_000L)
+                .setTransactionID(transactionId(index));
+        body.accept(transactionBody);
+
+        var signatureMap = SignatureMap.newBuilder()
+                .addSigPair(SignaturePair.newBuilder().setEd25519(bytes(64, index)).setPubKeyPrefix(bytes(32, index)));
+        var signedTransaction = SignedTransaction.newBuilder()
+                .setBodyBytes(transactionBody.build().toByteString())
+                .setSigMap(signatureMap)
+                .build();
+
+        return Transaction.newBuilder()
+                .setSignedTransactionBytes(signedTransaction.toByteString())
+                .build()
+                .toByteArray();
+    }
+
+    private static TransactionID transactionId(int index) {
+        return TransactionID.newBuilder().setAccountID(accountId(2)).setTransactionValidStart(timestamp(index)).build();
+    }
+
+    private enum Workload {
+        CONSENSUS_SUBMIT_MESSAGE(i -> transactionBytes(i, body -> body.setConsensusSubmitMessage(
+                ConsensusSubmitMessageTransactionBody.newBuilder()
+                        .setChunkInfo(ConsensusMessageChunkInfo.newBuilder().setNumber(1).setTotal(1))
+                        .setMessage(bytes(256, i))
+                        .setTopicID(TopicID.newBuilder().setTopicNum(1000L))))),
+        CRYPTO_TRANSFER(i -> transactionBytes(i, body -> body.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+                .setTransfers(TransferList.newBuilder()
+                        .addAccountAmounts(AccountAmount.newBuilder().setAccountID(accountId(2)).setAmount(-100L))
+                        .addAccountAmounts(AccountAmount.newBuilder().setAccountID(accountId(98)).setAmount(100L))))));
+
+        private final IntFunction<byte[]> transaction;
+
+        Workload(IntFunction<byte[]> transaction) {
+            this.transaction = transaction;
+        }
+
+        private byte[] transaction(int index) {
+            return transaction.apply(index);
+        }
+    }
+}
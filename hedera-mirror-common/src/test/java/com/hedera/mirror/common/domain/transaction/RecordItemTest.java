@@ -24,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnknownFieldSet;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignaturePair;
@@ -379,6 +380,112 @@ class RecordItemTest {
         assertThat(recordItem.getTransactionType()).isEqualTo(unknownType);
     }
 
+    @Test
+    void builderWithBadTransactionBodyBytes() {
+        Transaction transaction = Transaction.newBuilder()
+                .setSignedTransactionBytes(ByteString.copyFrom(new byte[] {0x0, 0x1}))
+                .build();
+        var builder = RecordItem.builder()
+                .hapiVersion(DEFAULT_HAPI_VERSION)
+                .transactionBytes(transaction.toByteArray())
+                .recordBytes(TRANSACTION_RECORD.toByteArray());
+
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(ProtobufException.class)
+                .hasMessage(RecordItem.BAD_TRANSACTION_BODY_BYTES_MESSAGE);
+    }
+
+    @Test
+    void builderWithBadNestedRecordBytes() {
+        // a receipt with a truncated field is only detected when the nested message is checked
+        byte[] recordBytes = TransactionRecord.newBuilder()
+                .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1).setNanos(2))
+                .setUnknownFields(UnknownFieldSet.newBuilder()
+                        .addField(TransactionRecord.RECEIPT_FIELD_NUMBER, UnknownFieldSet.Field.newBuilder()
+                                .addLengthDelimited(ByteString.copyFrom(new byte[] {0x0a, 0x05, 0x01}))
+                                .build())
+                        .build())
+                .build()
+                .toByteArray();
+        var builder = RecordItem.builder()
+                .hapiVersion(DEFAULT_HAPI_VERSION)
+                .transactionBytes(Transaction.newBuilder()
+                        .setSignedTransactionBytes(SIGNED_TRANSACTION.toByteString())
+                        .build()
+                        .toByteArray())
+                .recordBytes(recordBytes);
+
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(ProtobufException.class)
+                .hasMessage(RecordItem.BAD_RECORD_BYTES_MESSAGE);
+    }
+
+    @Test
+    void lazyRecordDecoding() {
+        var transactionRecord = TRANSACTION_RECORD.toBuilder()
+                .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1).setNanos(2).build())
+                .build();
+        RecordItem recordItem = RecordItem.builder()
+                .hapiVersion(DEFAULT_HAPI_VERSION)
+                .transactionBytes(Transaction.newBuilder()
+                        .setSignedTransactionBytes(SIGNED_TRANSACTION.toByteString())
+                        .build()
+                        .toByteArray())
+                .recordBytes(transactionRecord.toByteArray())
+                .build();
+
+        assertThat(recordItem.getConsensusTimestamp()).isEqualTo(1_000_000_002L);
+        assertThat(recordItem.getRecord()).isEqualTo(transactionRecord).isSameAs(recordItem.getRecord());
+    }
+
+    @Test
+    void builderWithBadRecordBytes() {
+        var builder = RecordItem.builder()
+                .hapiVersion(DEFAULT_HAPI_VERSION)
+                .transactionBytes(Transaction.newBuilder()
+                        .setSignedTransactionBytes(SIGNED_TRANSACTION.toByteString())
+                        .build()
+                        .toByteArray())
+                .recordBytes(new byte[] {0x0, 0x1});
+
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(ProtobufException.class)
+                .hasMessage(RecordItem.BAD_RECORD_BYTES_MESSAGE);
+    }
+
+    @Test
+    void equalsIgnoresDecodedMessages() {
+        Transaction transaction = Transaction.newBuilder()
+                .setSignedTransactionBytes(SIGNED_TRANSACTION.toByteString())
+                .build();
+        RecordItem recordItem1 = new RecordItem(DEFAULT_HAPI_VERSION, transaction.toByteArray(),
+                TRANSACTION_RECORD.toByteArray(), 1);
+        RecordItem recordItem2 = new RecordItem(DEFAULT_HAPI_VERSION, transaction.toByteArray(),
+                TRANSACTION_RECORD.toByteArray(), 1);
+
+        recordItem1.getTransactionBody();
+        recordItem1.getRecord();
+
+        assertThat(recordItem1).isEqualTo(recordItem2).hasSameHashCodeAs(recordItem2);
+        assertThat(recordItem2.toString()).isEqualTo(recordItem1.toString());
+    }
+
+    @Test
+    void lazyDecodingFromBytes() {
+        Transaction transaction = Transaction.newBuilder()
+                .setSignedTransactionBytes(SIGNED_TRANSACTION.toByteString())
+                .build();
+        RecordItem recordItem = RecordItem.builder()
+                .hapiVersion(DEFAULT_HAPI_VERSION)
+                .transactionBytes(transaction.toByteArray())
+                .recordBytes(TRANSACTION_RECORD.toByteArray())
+                .build();
+
+        assertRecordItem(transaction, recordItem);
+        assertThat(recordItem.getTransactionType()).isEqualTo(TransactionBody.DataCase.CRYPTOTRANSFER.getNumber());
+        assertThat(recordItem.getTransactionBody()).isSameAs(recordItem.getTransactionBody());
+    }
+
     private void testException(byte[] transactionBytes, byte[] recordBytes, String expectedMessage) {
         assertThatThrownBy(() -> new RecordItem(DEFAULT_HAPI_VERSION, transactionBytes, recordBytes, null))
                 .isInstanceOf(ProtobufException.class)
@@ -24,6 +24,7 @@ import java.time.Duration;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -36,9 +37,17 @@ public class GrpcProperties {
 
     private boolean checkTopicExists = true;
 
+    private boolean demoteSlowSubscribers = false;
+
     @NotNull
     private Duration endTimeInterval = Duration.ofSeconds(30);
 
+    @DurationMin(millis = 0L)
+    @NotNull
+    private Duration entityCacheMissExpiry = Duration.ofSeconds(10L);
+
+    private boolean entityCachePreload = true;
+
     @Min(1)
     private int entityCacheSize = 50_000;
 
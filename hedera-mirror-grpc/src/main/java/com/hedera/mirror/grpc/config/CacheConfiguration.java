@@ -21,10 +21,13 @@ package com.hedera.mirror.grpc.config;
  */
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -37,14 +40,25 @@ import com.hedera.mirror.grpc.service.AddressBookProperties;
 @EnableCaching
 public class CacheConfiguration {
 
+    public static final String ADDRESS_BOOK_CACHE = "addressBookCache";
     public static final String ADDRESS_BOOK_ENTRY_CACHE = "addressBookEntryCache";
     public static final String ENTITY_CACHE = "entityCache";
 
+    // Caches the latest address book timestamp per file so that new address books are noticed after the expiry
+    @Bean(ADDRESS_BOOK_CACHE)
+    CacheManager addressBookCache(AddressBookProperties addressBookProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(addressBookProperties.getCacheExpiry())
+                .maximumSize(addressBookProperties.getCacheSize()));
+        return caffeineCacheManager;
+    }
+
+    // Caches immutable address book snapshots by timestamp, so they're only evicted when superseded
     @Bean(ADDRESS_BOOK_ENTRY_CACHE)
     CacheManager addressBookEntryCache(AddressBookProperties addressBookProperties) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
         caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(addressBookProperties.getCacheExpiry())
                 .maximumSize(addressBookProperties.getCacheSize()));
         return caffeineCacheManager;
     }
@@ -52,9 +66,40 @@ public class CacheConfiguration {
     @Bean(ENTITY_CACHE)
     @Primary
     CacheManager entityCache(GrpcProperties grpcProperties) {
-        int cacheSize = grpcProperties.getEntityCacheSize();
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
-        caffeineCacheManager.setCacheSpecification("expireAfterWrite=24h,maximumSize=" + cacheSize);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfter(new EntityExpiry(grpcProperties.getEntityCacheMissExpiry()))
+                .maximumSize(grpcProperties.getEntityCacheSize()));
         return caffeineCacheManager;
     }
+
+    /**
+     * Caches entities that exist for a day, but only briefly remembers entities that don't exist so that repeated
+     * lookups of a missing entity don't hit the database while still noticing when it's created.
+     */
+    static class EntityExpiry implements Expiry<Object, Object> {
+
+        private static final long FOUND_EXPIRY = Duration.ofDays(1L).toNanos();
+
+        private final long missExpiry;
+
+        EntityExpiry(Duration missExpiry) {
+            this.missExpiry = missExpiry.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return value instanceof NullValue ? missExpiry : FOUND_EXPIRY;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
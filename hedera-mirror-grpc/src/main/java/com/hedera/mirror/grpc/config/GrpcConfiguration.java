@@ -21,6 +21,7 @@ package com.hedera.mirror.grpc.config;
  */
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.BindableService;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
 import io.grpc.services.HealthStatusManager;
 import java.util.LinkedHashMap;
@@ -31,6 +32,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
 import net.devh.boot.grpc.server.service.GrpcServiceDefinition;
+import net.devh.boot.grpc.server.service.GrpcService;
 import net.devh.boot.grpc.server.service.GrpcServiceDiscoverer;
 import org.springframework.boot.actuate.health.CompositeHealthContributor;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -38,7 +40,12 @@ import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.hedera.mirror.api.proto.ConsensusServiceGrpc;
+import com.hedera.mirror.api.proto.NetworkServiceGrpc;
 import com.hedera.mirror.grpc.GrpcProperties;
+import com.hedera.mirror.grpc.controller.CachingMarshaller;
+import com.hedera.mirror.grpc.controller.ConsensusController;
+import com.hedera.mirror.grpc.controller.NetworkController;
 
 @Configuration
 @EntityScan({"com.hedera.mirror.common.domain.addressbook", "com.hedera.mirror.grpc.domain"})
@@ -58,6 +65,20 @@ class GrpcConfiguration {
         return CompositeHealthContributor.fromMap(healthIndicators);
     }
 
+    @Bean
+    @GrpcService
+    BindableService consensusService(ConsensusController consensusController) {
+        return () -> CachingMarshaller.cacheResponses(consensusController.bindService(),
+                ConsensusServiceGrpc.getSubscribeTopicMethod());
+    }
+
+    @Bean
+    @GrpcService
+    BindableService networkGrpcService(NetworkController networkController) {
+        return () -> CachingMarshaller.cacheResponses(networkController.bindService(),
+                NetworkServiceGrpc.getGetNodesMethod());
+    }
+
     @Bean
     GrpcServerConfigurer grpcServerConfigurer(GrpcProperties grpcProperties) {
         NettyProperties nettyProperties = grpcProperties.getNetty();
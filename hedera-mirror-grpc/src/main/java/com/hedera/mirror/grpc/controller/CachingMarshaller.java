@@ -0,0 +1,111 @@
+package com.hedera.mirror.grpc.controller;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.protobuf.MessageLite;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A response marshaller that serializes a given protobuf message instance only once and reuses the resulting bytes
+ * for every call that sends that same instance. grpc-java otherwise re-encodes the message for each call, which for a
+ * topic message fanned out to many subscribers means the same response is serialized once per subscriber. Entries are
+ * keyed by identity and weakly held so they're discarded as soon as the message itself is no longer referenced.
+ */
+public class CachingMarshaller<T extends MessageLite> implements MethodDescriptor.Marshaller<T> {
+
+    private final Cache<T, byte[]> cache = Caffeine.newBuilder().weakKeys().build();
+    private final MethodDescriptor.Marshaller<T> delegate;
+
+    CachingMarshaller(MethodDescriptor.Marshaller<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Rebuilds the service definition so the given method's responses are marshalled via a {@code CachingMarshaller}.
+     * All other methods are kept as is.
+     */
+    @SuppressWarnings("unchecked")
+    public static <Q, R extends MessageLite> ServerServiceDefinition cacheResponses(
+            ServerServiceDefinition definition, MethodDescriptor<Q, R> method) {
+        ServiceDescriptor serviceDescriptor = definition.getServiceDescriptor();
+        ServiceDescriptor.Builder serviceBuilder = ServiceDescriptor.newBuilder(serviceDescriptor.getName())
+                .setSchemaDescriptor(serviceDescriptor.getSchemaDescriptor());
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+
+        for (ServerMethodDefinition<?, ?> methodDefinition : definition.getMethods()) {
+            if (methodDefinition.getMethodDescriptor().getFullMethodName().equals(method.getFullMethodName())) {
+                var original = (ServerMethodDefinition<Q, R>) methodDefinition;
+                var descriptor = original.getMethodDescriptor();
+                methodDefinition = ServerMethodDefinition.create(descriptor.toBuilder()
+                        .setResponseMarshaller(new CachingMarshaller<>(descriptor.getResponseMarshaller()))
+                        .build(), original.getServerCallHandler());
+            }
+
+            serviceBuilder.addMethod(methodDefinition.getMethodDescriptor());
+            methods.add(methodDefinition);
+        }
+
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(serviceBuilder.build());
+        methods.forEach(builder::addMethod);
+        return builder.build();
+    }
+
+    @Override
+    public InputStream stream(T value) {
+        return new BytesInputStream(cache.get(value, MessageLite::toByteArray));
+    }
+
+    @Override
+    public T parse(InputStream stream) {
+        return delegate.parse(stream);
+    }
+
+    /**
+     * Lets grpc-java size the frame up front and copy the bytes directly to the transport.
+     */
+    private static class BytesInputStream extends ByteArrayInputStream implements Drainable, KnownLength {
+
+        private BytesInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public int drainTo(OutputStream target) throws IOException {
+            int length = count - pos;
+            target.write(buf, pos, length);
+            pos = count;
+            return length;
+        }
+    }
+}
@@ -22,9 +22,9 @@ package com.hedera.mirror.grpc.controller;
 
 import com.hederahashgraph.api.proto.java.Timestamp;
 import java.time.Instant;
+import javax.inject.Named;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import net.devh.boot.grpc.server.service.GrpcService;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -43,9 +43,12 @@ import com.hedera.mirror.grpc.util.ProtoUtil;
  * See the Front Controller pattern or Model-View-Controller (MVC) pattern. The service layer is generally reserved for
  * non-protocol specific business logic so to avoid confusion with our TopicMessageService we'll name this GRPC layer as
  * controller.
+ * <p>
+ * The service is exposed via GrpcConfiguration so that the topic message responses can be serialized once and shared
+ * across subscribers.
  */
-@GrpcService
 @Log4j2
+@Named
 @RequiredArgsConstructor
 public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusServiceImplBase {
 
@@ -20,14 +20,16 @@ package com.hedera.mirror.grpc.controller;
  * ‍
  */
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.protobuf.ByteString;
 import com.hederahashgraph.api.proto.java.NodeAddress;
 import com.hederahashgraph.api.proto.java.ServiceEndpoint;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import javax.inject.Named;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import net.devh.boot.grpc.server.service.GrpcService;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -39,18 +41,25 @@ import com.hedera.mirror.grpc.domain.AddressBookFilter;
 import com.hedera.mirror.grpc.service.NetworkService;
 import com.hedera.mirror.grpc.util.ProtoUtil;
 
-@GrpcService
+/**
+ * The service is exposed via GrpcConfiguration so that the node address responses can be serialized once and shared
+ * across clients.
+ */
 @Log4j2
+@Named
 @RequiredArgsConstructor
 public class NetworkController extends ReactorNetworkServiceGrpc.NetworkServiceImplBase {
 
     private final NetworkService networkService;
 
+    // Address book entries are served from an immutable snapshot, so convert each one only once while it's in use
+    private final Cache<AddressBookEntry, NodeAddress> nodeAddresses = Caffeine.newBuilder().weakKeys().build();
+
     @Override
     public Flux<NodeAddress> getNodes(Mono<AddressBookQuery> request) {
         return request.map(this::toFilter)
                 .flatMapMany(networkService::getNodes)
-                .map(this::toNodeAddress)
+                .map(e -> nodeAddresses.get(e, this::toNodeAddress))
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
@@ -170,9 +170,19 @@ public class TopicMessage implements Comparable<TopicMessage>, Persistable<Long>
             return this;
         }
 
+        public TopicMessageBuilder consensusTimestamp(long consensusTimestamp) {
+            this.consensusTimestamp = consensusTimestamp;
+            return this;
+        }
+
         public TopicMessageBuilder validStartTimestamp(Instant validStartTimestamp) {
             this.validStartTimestamp = InstantToLongConverter.INSTANCE.convert(validStartTimestamp);
             return this;
         }
+
+        public TopicMessageBuilder validStartTimestamp(Long validStartTimestamp) {
+            this.validStartTimestamp = validStartTimestamp;
+            return this;
+        }
     }
 }
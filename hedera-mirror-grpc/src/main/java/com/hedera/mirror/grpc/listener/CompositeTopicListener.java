@@ -27,12 +27,14 @@ import javax.annotation.PostConstruct;
 import javax.inject.Named;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Primary;
 import reactor.core.publisher.Flux;
 
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.listener.ListenerProperties.ListenerType;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 
 @Named
 @Log4j2
@@ -41,11 +43,12 @@ import com.hedera.mirror.grpc.listener.ListenerProperties.ListenerType;
 public class CompositeTopicListener implements TopicListener {
 
     private final ListenerProperties listenerProperties;
-    private final NotifyingTopicListener notifyingTopicListener;
+    private final ObjectProvider<NotifyingTopicListener> notifyingTopicListener;
     private final PollingTopicListener pollingTopicListener;
     private final RedisTopicListener redisTopicListener;
     private final SharedPollingTopicListener sharedPollingTopicListener;
     private final MeterRegistry meterRegistry;
+    private final TopicMessageCache topicMessageCache;
     private Timer consensusToPublishTimer;
 
     @PostConstruct
@@ -65,7 +68,9 @@ public class CompositeTopicListener implements TopicListener {
 
         return getTopicListener().listen(filter)
                 .filter(t -> filterMessage(t, filter))
-                .doOnNext(this::recordMetric);
+                .doOnNext(this::recordMetric)
+                .doOnSubscribe(s -> topicMessageCache.acquire(filter.getTopicId()))
+                .doFinally(s -> topicMessageCache.release(filter.getTopicId()));
     }
 
     private TopicListener getTopicListener() {
@@ -73,7 +78,7 @@ public class CompositeTopicListener implements TopicListener {
 
         switch (type) {
             case NOTIFY:
-                return notifyingTopicListener;
+                return notifyingTopicListener.getObject();
             case POLL:
                 return pollingTopicListener;
             case REDIS:
@@ -34,6 +34,9 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.grpc.listener")
 public class ListenerProperties {
 
+    @NotNull
+    private AdaptiveProperties adaptive = new AdaptiveProperties();
+
     private boolean enabled = true;
 
     @Min(8192)
@@ -54,6 +57,23 @@ public class ListenerProperties {
     @NotNull
     private ListenerType type = ListenerType.REDIS;
 
+    @Data
+    @Validated
+    public static class AdaptiveProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(millis = 50)
+        @NotNull
+        private Duration maxInterval = Duration.ofSeconds(5L);
+
+        @DurationMin(millis = 0)
+        @NotNull
+        private Duration minInterval = Duration.ofMillis(20L);
+
+        private boolean notify = false;
+    }
+
     public enum ListenerType {
         NOTIFY,
         POLL,
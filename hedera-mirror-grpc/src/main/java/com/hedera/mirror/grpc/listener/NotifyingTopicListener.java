@@ -22,6 +22,7 @@ package com.hedera.mirror.grpc.listener;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
 import io.vertx.pgclient.PgConnectOptions;
@@ -30,6 +31,7 @@ import io.vertx.pgclient.pubsub.PgSubscriber;
 import java.time.Duration;
 import java.util.Objects;
 import javax.inject.Named;
+import org.springframework.context.annotation.Lazy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
@@ -38,7 +40,9 @@ import reactor.util.retry.Retry;
 import com.hedera.mirror.grpc.DbProperties;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 
+@Lazy
 @Named
 public class NotifyingTopicListener extends SharedTopicListener {
 
@@ -46,9 +50,11 @@ public class NotifyingTopicListener extends SharedTopicListener {
     final ObjectMapper objectMapper;
     private final DbProperties dbProperties;
     private final Flux<TopicMessage> topicMessages;
+    private final TopicMessageDispatcher topicMessageDispatcher;
 
-    public NotifyingTopicListener(DbProperties dbProperties, ListenerProperties listenerProperties) {
-        super(listenerProperties);
+    public NotifyingTopicListener(DbProperties dbProperties, ListenerProperties listenerProperties,
+                                  MeterRegistry meterRegistry, TopicMessageCache topicMessageCache) {
+        super(listenerProperties, meterRegistry, topicMessageCache);
         this.dbProperties = dbProperties;
         objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
         channel = Mono.defer(this::createChannel).cache();
@@ -61,10 +67,19 @@ public class NotifyingTopicListener extends SharedTopicListener {
                 .doOnError(t -> log.error("Error listening for messages", t))
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
                 .share();
+        topicMessageDispatcher = new TopicMessageDispatcher("notify",
+                topicMessages.doOnNext(topicMessageCache::onNext), meterRegistry);
     }
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
+        return topicMessageDispatcher.listen(filter.getTopicId());
+    }
+
+    /**
+     * Notifications of new messages for all topics, for use by other listeners as a hint to poll for them.
+     */
+    Flux<TopicMessage> notifications() {
         return topicMessages;
     }
 
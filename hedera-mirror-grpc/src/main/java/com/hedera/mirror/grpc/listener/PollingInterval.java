@@ -0,0 +1,150 @@
+package com.hedera.mirror.grpc.listener;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Calculates the delay before the next poll of the database. When adaptive polling is enabled, it polls again after
+ * the minimum interval if the last poll returned a full page, backs off exponentially up to the maximum interval while
+ * polls come back empty, and otherwise uses the configured interval. It can optionally be woken up early by a hint that
+ * new messages are available.
+ */
+class PollingInterval {
+
+    static final String METRIC_INTERVAL = "hedera.mirror.listener.poll.interval";
+    static final String METRIC_SIZE = "hedera.mirror.listener.poll.size";
+
+    private final ListenerProperties.AdaptiveProperties adaptive;
+    private final Duration interval;
+    private final Timer intervalMetric;
+    private final double jitter;
+    private final DistributionSummary sizeMetric;
+    private final AtomicBoolean woken = new AtomicBoolean(false);
+    private final Sinks.Many<Boolean> wakeups = Sinks.many().multicast().directBestEffort();
+    private volatile Duration current;
+
+    PollingInterval(String name, ListenerProperties listenerProperties, MeterRegistry meterRegistry, double jitter) {
+        this.adaptive = listenerProperties.getAdaptive();
+        this.interval = listenerProperties.getInterval();
+        this.current = interval;
+        this.jitter = jitter;
+        this.intervalMetric = Timer.builder(METRIC_INTERVAL)
+                .description("The delay between polls of the database")
+                .publishPercentileHistogram()
+                .tag("type", name)
+                .register(meterRegistry);
+        this.sizeMetric = DistributionSummary.builder(METRIC_SIZE)
+                .description("The number of messages returned by a poll of the database")
+                .publishPercentileHistogram()
+                .tag("type", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delays the next poll based upon the results of the previous poll.
+     *
+     * @param count     the number of messages returned by the previous poll
+     * @param pageSize  the maximum number of messages the previous poll could return
+     * @param scheduler the scheduler to delay on
+     * @return a Mono that emits when it's time to poll again
+     */
+    Mono<Long> delay(long count, long pageSize, Scheduler scheduler) {
+        sizeMetric.record(count);
+        Duration next = next(count, pageSize);
+
+        if (woken.getAndSet(false)) {
+            next = Duration.ZERO;
+        }
+
+        intervalMetric.record(next);
+
+        if (next.isZero()) {
+            return Mono.just(0L);
+        }
+
+        Mono<Long> delay = Mono.delay(next, scheduler);
+
+        if (!isNotify()) {
+            return delay;
+        }
+
+        Mono<Long> wakeup = wakeups.asFlux().next().doOnNext(w -> woken.set(false)).thenReturn(0L);
+        return Mono.firstWithSignal(delay, wakeup);
+    }
+
+    /**
+     * Wakes up the poller while subscribed to the given hints, if enabled.
+     *
+     * @param flux  the polling flux
+     * @param hints a flux that emits when new messages may be available
+     * @return the polling flux
+     */
+    <T> Flux<T> wakeOn(Flux<T> flux, Flux<?> hints) {
+        if (!isNotify()) {
+            return flux;
+        }
+
+        return Flux.using(() -> hints.subscribe(h -> wake()), d -> flux, d -> d.dispose());
+    }
+
+    Duration next(long count, long pageSize) {
+        if (!adaptive.isEnabled()) {
+            current = interval;
+        } else if (count >= pageSize) {
+            current = adaptive.getMinInterval();
+        } else if (count <= 0) {
+            Duration backoff = current.isZero() ? adaptive.getMinInterval() : current.multipliedBy(2L);
+            current = backoff.compareTo(interval) < 0 ? interval : min(backoff, adaptive.getMaxInterval());
+        } else {
+            current = interval;
+        }
+
+        if (jitter <= 0 || current.isZero()) {
+            return current;
+        }
+
+        double factor = 1.0 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Duration.ofNanos((long) (current.toNanos() * factor));
+    }
+
+    void wake() {
+        woken.set(true);
+        wakeups.tryEmitNext(true);
+    }
+
+    private boolean isNotify() {
+        return adaptive.isEnabled() && adaptive.isNotify();
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
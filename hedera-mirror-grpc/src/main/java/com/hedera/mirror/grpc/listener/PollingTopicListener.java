@@ -20,6 +20,7 @@ package com.hedera.mirror.grpc.listener;
  * ‍
  */
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.atomic.AtomicLong;
@@ -28,11 +29,10 @@ import javax.inject.Named;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
 import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
-import reactor.retry.Jitter;
-import reactor.retry.Repeat;
 
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
@@ -45,6 +45,8 @@ public class PollingTopicListener implements TopicListener {
 
     private final ListenerProperties listenerProperties;
     private final TopicMessageRepository topicMessageRepository;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<NotifyingTopicListener> notifyingTopicListener;
     private final Scheduler scheduler = Schedulers
             .newParallel("poll", 4 * Runtime.getRuntime().availableProcessors(), true);
 
@@ -52,13 +54,15 @@ public class PollingTopicListener implements TopicListener {
     public Flux<TopicMessage> listen(TopicMessageFilter filter) {
         PollingContext context = new PollingContext(filter);
         Duration interval = listenerProperties.getInterval();
+        PollingInterval pollingInterval = new PollingInterval("poll", listenerProperties, meterRegistry, 0.1);
+        long topicId = filter.getTopicId().getId();
+        Flux<TopicMessage> hints = Flux.defer(() -> notifyingTopicListener.getObject().notifications())
+                .filter(t -> t.getTopicId() == topicId);
 
         return Flux.defer(() -> poll(context))
                 .delaySubscription(interval, scheduler)
-                .repeatWhen(Repeat.times(Long.MAX_VALUE)
-                        .fixedBackoff(interval)
-                        .jitter(Jitter.random(0.1))
-                        .withBackoffScheduler(scheduler))
+                .repeatWhen(r -> r.concatMap(count -> pollingInterval.delay(count, context.getPageSize(), scheduler)))
+                .as(f -> pollingInterval.wakeOn(f, hints))
                 .name("poll")
                 .metrics()
                 .doOnNext(context::onNext)
@@ -70,6 +74,7 @@ public class PollingTopicListener implements TopicListener {
         TopicMessage last = context.getLast();
         int limit = filter.hasLimit() ? (int) (filter.getLimit() - context.getCount().get()) : Integer.MAX_VALUE;
         int pageSize = Math.min(limit, listenerProperties.getMaxPageSize());
+        context.setPageSize(pageSize);
         Instant startTime = last != null ? last.getConsensusTimestampInstant().plusNanos(1) : filter.getStartTime();
 
         TopicMessageFilter newFilter = filter.toBuilder()
@@ -88,6 +93,7 @@ public class PollingTopicListener implements TopicListener {
         private final TopicMessageFilter filter;
         private final AtomicLong count = new AtomicLong(0L);
         private final AtomicReference<TopicMessage> last = new AtomicReference<>();
+        private volatile int pageSize;
 
         void onNext(TopicMessage topicMessage) {
             last.set(topicMessage);
@@ -20,6 +20,7 @@ package com.hedera.mirror.grpc.listener;
  * ‍
  */
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
@@ -28,7 +29,6 @@ import javax.inject.Named;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
-import org.springframework.data.redis.connection.ReactiveSubscription.Message;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
 import org.springframework.data.redis.listener.Topic;
@@ -40,6 +40,7 @@ import reactor.util.retry.Retry;
 
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 
 @Lazy
 @Log4j2
@@ -48,15 +49,19 @@ public class RedisTopicListener extends SharedTopicListener {
 
     private final Mono<ReactiveRedisMessageListenerContainer> container;
     private final SerializationPair<String> channelSerializer;
-    private final SerializationPair<TopicMessage> messageSerializer;
+    private final SerializationPair<byte[]> messageSerializer;
+    private final TopicMessageDecoder topicMessageDecoder;
     private final Map<String, Flux<TopicMessage>> topicMessages; // Topic name to active subscription
 
     public RedisTopicListener(ListenerProperties listenerProperties,
                               ReactiveRedisConnectionFactory connectionFactory,
-                              RedisSerializer<?> redisSerializer) {
-        super(listenerProperties);
+                              RedisSerializer<?> redisSerializer,
+                              MeterRegistry meterRegistry,
+                              TopicMessageCache topicMessageCache) {
+        super(listenerProperties, meterRegistry, topicMessageCache);
         this.channelSerializer = SerializationPair.fromSerializer(RedisSerializer.string());
-        this.messageSerializer = (SerializationPair<TopicMessage>) SerializationPair.fromSerializer(redisSerializer);
+        this.messageSerializer = SerializationPair.fromSerializer(RedisSerializer.byteArray());
+        this.topicMessageDecoder = new TopicMessageDecoder(redisSerializer);
         this.topicMessages = new ConcurrentHashMap<>();
 
         // Workaround Spring DATAREDIS-1208 by lazily starting connection once with retry
@@ -83,7 +88,8 @@ public class RedisTopicListener extends SharedTopicListener {
         Duration interval = listenerProperties.getInterval();
 
         return container.flatMapMany(r -> r.receive(Arrays.asList(topic), channelSerializer, messageSerializer))
-                .map(Message::getMessage)
+                .flatMapIterable(m -> topicMessageDecoder.decode(m.getMessage()))
+                .doOnNext(topicMessageCache::onNext)
                 .name("redis")
                 .metrics()
                 .doOnCancel(() -> unsubscribe(topic))
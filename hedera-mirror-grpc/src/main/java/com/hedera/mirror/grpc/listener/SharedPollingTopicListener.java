@@ -21,59 +21,67 @@ package com.hedera.mirror.grpc.listener;
  */
 
 import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 import javax.inject.Named;
 import lombok.Data;
 import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import reactor.core.publisher.Flux;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
-import reactor.retry.Repeat;
 import reactor.util.retry.Retry;
 
 import com.hedera.mirror.grpc.converter.InstantToLongConverter;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 
 @Named
 public class SharedPollingTopicListener extends SharedTopicListener {
 
     private final TopicMessageRepository topicMessageRepository;
     private final InstantToLongConverter instantToLongConverter;
-    private final Flux<TopicMessage> topicMessages;
+    private final TopicMessageDispatcher topicMessageDispatcher;
 
     public SharedPollingTopicListener(ListenerProperties listenerProperties,
                                       TopicMessageRepository topicMessageRepository,
-                                      InstantToLongConverter instantToLongConverter) {
-        super(listenerProperties);
+                                      InstantToLongConverter instantToLongConverter,
+                                      MeterRegistry meterRegistry,
+                                      ObjectProvider<NotifyingTopicListener> notifyingTopicListener,
+                                      TopicMessageCache topicMessageCache) {
+        super(listenerProperties, meterRegistry, topicMessageCache);
         this.topicMessageRepository = topicMessageRepository;
         this.instantToLongConverter = instantToLongConverter;
 
         Scheduler scheduler = Schedulers.newSingle("shared-poll", true);
         Duration interval = listenerProperties.getInterval();
         PollingContext context = new PollingContext();
+        PollingInterval pollingInterval = new PollingInterval("shared-poll", listenerProperties, meterRegistry, 0);
 
-        topicMessages = Flux.defer(() -> poll(context).subscribeOn(scheduler))
-                .repeatWhen(Repeat.times(Long.MAX_VALUE)
-                        .fixedBackoff(interval)
-                        .withBackoffScheduler(scheduler))
+        Flux<TopicMessage> topicMessages = Flux.defer(() -> poll(context).subscribeOn(scheduler))
+                .repeatWhen(r -> r.concatMap(count -> pollingInterval
+                        .delay(count, listenerProperties.getMaxPageSize(), scheduler)))
+                .as(f -> pollingInterval.wakeOn(f,
+                        Flux.defer(() -> notifyingTopicListener.getObject().notifications())))
                 .name("shared-poll")
                 .metrics()
                 .doOnCancel(() -> log.info("Cancelled polling"))
                 .doOnError(t -> log.error("Error polling the database", t))
                 .doOnSubscribe(context::onStart)
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
-                .share();
+                .doOnNext(topicMessageCache::onNext);
+        topicMessageDispatcher = new TopicMessageDispatcher("shared-poll", topicMessages, meterRegistry);
     }
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
-        return topicMessages;
+        return topicMessageDispatcher.listen(filter.getTopicId());
     }
 
     private Flux<TopicMessage> poll(PollingContext context) {
@@ -121,7 +129,8 @@ public class SharedPollingTopicListener extends SharedTopicListener {
 
         void onStart(Subscription subscription) {
             lastConsensusTimestamp = instantToLongConverter.convert(Instant.now());
-            log.info("Starting to poll every {}ms", listenerProperties.getInterval().toMillis());
+            log.info("Starting to poll every {}ms (adaptive: {})", listenerProperties.getInterval().toMillis(),
+                    listenerProperties.getAdaptive().isEnabled());
         }
     }
 }
@@ -20,39 +20,72 @@ package com.hedera.mirror.grpc.listener;
  * ‍
  */
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import reactor.core.Exceptions;
 import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 
-@RequiredArgsConstructor
 public abstract class SharedTopicListener implements TopicListener {
 
+    static final String METRIC_BUFFERED = "hedera.mirror.listener.buffered";
+
+    // Each subscriber is pinned to one of the workers, so a slow subscriber only shares its thread with a few others
+    private static final Scheduler SCHEDULER = Schedulers.newParallel("publish",
+            Runtime.getRuntime().availableProcessors(), true);
+
     protected final Logger log = LogManager.getLogger(getClass());
     protected final ListenerProperties listenerProperties;
+    protected final TopicMessageCache topicMessageCache;
+    private final AtomicLong buffered = new AtomicLong(0L);
+
+    protected SharedTopicListener(ListenerProperties listenerProperties, MeterRegistry meterRegistry,
+                                  TopicMessageCache topicMessageCache) {
+        this.listenerProperties = listenerProperties;
+        this.topicMessageCache = topicMessageCache;
+
+        Gauge.builder(METRIC_BUFFERED, buffered, AtomicLong::get)
+                .description("The number of messages buffered for subscribers that have yet to request them")
+                .tag("type", getClass().getSimpleName())
+                .register(meterRegistry);
+    }
 
     @Override
     public Flux<TopicMessage> listen(TopicMessageFilter filter) {
-        DirectProcessor<TopicMessage> overflowProcessor = DirectProcessor.create();
-        FluxSink<TopicMessage> overflowSink = overflowProcessor.sink();
-
-        // moving publishOn from after onBackpressureBuffer to after Flux.merge reduces CPU usage by up to 40%
-        Flux<TopicMessage> topicMessageFlux = getSharedListener(filter)
-                .doOnSubscribe(s -> log.info("Subscribing: {}", filter))
-                .onBackpressureBuffer(
-                        listenerProperties.getMaxBufferSize(),
-                        t -> overflowSink.error(Exceptions.failWithOverflow())
-                )
-                .doFinally(s -> overflowSink.complete());
-        return Flux.merge(listenerProperties.getPrefetch(), topicMessageFlux, overflowProcessor)
-                .publishOn(Schedulers.boundedElastic(), false, listenerProperties.getPrefetch());
+        return Flux.defer(() -> {
+            DirectProcessor<TopicMessage> overflowProcessor = DirectProcessor.create();
+            FluxSink<TopicMessage> overflowSink = overflowProcessor.sink();
+            AtomicLong pending = new AtomicLong(0L);
+
+            // moving publishOn from after onBackpressureBuffer to after Flux.merge reduces CPU usage by up to 40%
+            Flux<TopicMessage> topicMessageFlux = getSharedListener(filter)
+                    .doOnSubscribe(s -> log.info("Subscribing: {}", filter))
+                    .doOnNext(t -> onBuffered(pending, 1L))
+                    .onBackpressureBuffer(
+                            listenerProperties.getMaxBufferSize(),
+                            t -> overflowSink.error(Exceptions.failWithOverflow())
+                    )
+                    .doFinally(s -> overflowSink.complete());
+            return Flux.merge(listenerProperties.getPrefetch(), topicMessageFlux, overflowProcessor)
+                    .publishOn(SCHEDULER, false, listenerProperties.getPrefetch())
+                    .doOnNext(t -> onBuffered(pending, -1L))
+                    .doFinally(s -> onBuffered(pending, -pending.get()));
+        });
+    }
+
+    private void onBuffered(AtomicLong pending, long delta) {
+        pending.addAndGet(delta);
+        buffered.addAndGet(delta);
     }
 
     protected abstract Flux<TopicMessage> getSharedListener(TopicMessageFilter filter);
@@ -0,0 +1,68 @@
+package com.hedera.mirror.grpc.listener;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.hedera.mirror.common.converter.TopicMessageCodec;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+
+/**
+ * Decodes a raw Redis topic message payload into one or more topic messages. The importer either publishes a batch
+ * of messages in the binary {@link TopicMessageCodec} format or a single message via the configured serializer
+ * depending upon its configuration, so both are accepted to allow switching formats without downtime.
+ */
+@RequiredArgsConstructor
+class TopicMessageDecoder {
+
+    private final RedisSerializer<?> delegate;
+
+    List<TopicMessage> decode(byte[] bytes) {
+        if (!TopicMessageCodec.isEncoded(bytes)) {
+            TopicMessage topicMessage = (TopicMessage) delegate.deserialize(bytes);
+            return topicMessage != null ? List.of(topicMessage) : List.of();
+        }
+
+        TopicMessageCodec.Reader reader = TopicMessageCodec.reader(bytes);
+        List<TopicMessage> topicMessages = new ArrayList<>(reader.getCount());
+
+        while (reader.next()) {
+            topicMessages.add(TopicMessage.builder()
+                    .chunkNum(reader.getChunkNum())
+                    .chunkTotal(reader.getChunkTotal())
+                    .consensusTimestamp(reader.getConsensusTimestamp())
+                    .initialTransactionId(reader.getInitialTransactionId())
+                    .message(reader.getMessage())
+                    .payerAccountId(reader.getPayerAccountId())
+                    .runningHash(reader.getRunningHash())
+                    .runningHashVersion(reader.getRunningHashVersion())
+                    .sequenceNumber(reader.getSequenceNumber())
+                    .topicId(reader.getTopicId())
+                    .validStartTimestamp(reader.getValidStartTimestamp())
+                    .build());
+        }
+
+        return topicMessages;
+    }
+}
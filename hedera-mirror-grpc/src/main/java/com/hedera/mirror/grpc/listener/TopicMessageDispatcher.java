@@ -0,0 +1,182 @@
+package com.hedera.mirror.grpc.listener;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+
+/**
+ * Demultiplexes a shared stream of topic messages for all topics into per-topic sinks, so that a subscriber only
+ * receives the messages of the topic it's interested in. The shared stream is subscribed to once when the first
+ * subscriber arrives and cancelled when the last subscriber leaves. A topic's sink buffers messages for subscribers
+ * that have yet to request them and counts the messages it has to drop once that buffer is full.
+ */
+@Log4j2
+class TopicMessageDispatcher {
+
+    static final String METRIC_DISPATCH = "hedera.mirror.listener.dispatch";
+    static final String METRIC_DROPPED = "hedera.mirror.listener.dropped";
+    static final String METRIC_SUBSCRIBERS = "hedera.mirror.listener.subscribers";
+
+    private final String name;
+    private final Flux<TopicMessage> source;
+    private final Map<Long, TopicSink> topics = new ConcurrentHashMap<>(); // Topic ID to active sink
+    private final AtomicInteger subscribers = new AtomicInteger(0);
+    private final Timer dispatchTimer;
+    private final Counter droppedCounter;
+    private Disposable subscription;
+
+    TopicMessageDispatcher(String name, Flux<TopicMessage> source, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.source = source;
+        dispatchTimer = Timer.builder(METRIC_DISPATCH)
+                .description("The time it takes to dispatch a message to the subscribers of its topic")
+                .tag("listener", name)
+                .register(meterRegistry);
+        droppedCounter = Counter.builder(METRIC_DROPPED)
+                .description("The number of messages dropped since the subscribers of a topic fell too far behind")
+                .tag("listener", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_SUBSCRIBERS, subscribers, AtomicInteger::get)
+                .description("The number of subscribers to topics on a shared listener")
+                .tag("listener", name)
+                .register(meterRegistry);
+    }
+
+    Flux<TopicMessage> listen(EntityId topicId) {
+        return Flux.defer(() -> {
+            TopicSink topicSink = subscribe(topicId.getId());
+            return topicSink.sink.asFlux().doFinally(s -> unsubscribe(topicSink));
+        });
+    }
+
+    int getTopicCount() {
+        return topics.size();
+    }
+
+    private synchronized TopicSink subscribe(long topicId) {
+        TopicSink topicSink = topics.computeIfAbsent(topicId, TopicSink::new);
+        topicSink.subscribers.incrementAndGet();
+        subscribers.incrementAndGet();
+
+        if (subscription == null) {
+            log.info("Creating shared {} subscription", name);
+            subscription = source.subscribe(this::dispatch, this::onError, this::onComplete);
+        }
+
+        return topicSink;
+    }
+
+    private synchronized void unsubscribe(TopicSink topicSink) {
+        if (topicSink.closed) {
+            return; // Already accounted for by terminate()
+        }
+
+        subscribers.decrementAndGet();
+
+        if (topicSink.subscribers.decrementAndGet() <= 0 && topics.remove(topicSink.topicId, topicSink)) {
+            topicSink.close();
+        }
+
+        if (topics.isEmpty() && subscription != null) {
+            log.info("Cancelling shared {} subscription", name);
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    private void dispatch(TopicMessage topicMessage) {
+        TopicSink topicSink = topics.get(topicMessage.getTopicId());
+
+        if (topicSink != null) {
+            dispatchTimer.record(() -> topicSink.emit(topicMessage));
+        }
+    }
+
+    private void onComplete() {
+        terminate(TopicSink::complete);
+    }
+
+    private void onError(Throwable throwable) {
+        log.error("Shared {} subscription terminated with error", name, throwable);
+        terminate(t -> t.error(throwable));
+    }
+
+    private synchronized void terminate(Consumer<TopicSink> terminator) {
+        topics.values().forEach(topicSink -> {
+            topicSink.close();
+            terminator.accept(topicSink);
+        });
+        topics.clear();
+        subscribers.set(0);
+        subscription = null;
+    }
+
+    private class TopicSink {
+
+        private final long topicId;
+        private final Sinks.Many<TopicMessage> sink = Sinks.many()
+                .multicast()
+                .onBackpressureBuffer(Queues.SMALL_BUFFER_SIZE, false);
+        private final AtomicInteger subscribers = new AtomicInteger(0);
+        private volatile boolean closed = false;
+
+        private TopicSink(long topicId) {
+            this.topicId = topicId;
+        }
+
+        private void emit(TopicMessage topicMessage) {
+            Sinks.EmitResult result = sink.tryEmitNext(topicMessage);
+
+            if (result.isFailure() && !closed) {
+                droppedCounter.increment();
+                log.debug("Dropped message {} for topic {} on shared {} listener: {}",
+                        topicMessage.getSequenceNumber(), topicId, name, result);
+            }
+        }
+
+        private void complete() {
+            sink.tryEmitComplete();
+        }
+
+        private void error(Throwable throwable) {
+            sink.tryEmitError(throwable);
+        }
+
+        private void close() {
+            closed = true;
+        }
+    }
+}
@@ -21,17 +21,13 @@ package com.hedera.mirror.grpc.repository;
  */
 
 import java.util.List;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 import com.hedera.mirror.common.domain.addressbook.AddressBookEntry;
-import com.hedera.mirror.grpc.config.CacheConfiguration;
 
 public interface AddressBookEntryRepository extends CrudRepository<AddressBookEntry, AddressBookEntry.Id> {
 
-    @Cacheable(cacheManager = CacheConfiguration.ADDRESS_BOOK_ENTRY_CACHE, cacheNames = "address_book_entry",
-            unless = "#result == null or #result.size() == 0")
     @Query(value = "select * from address_book_entry where consensus_timestamp = ? and node_id >= ? " +
             "order by node_id asc limit ?", nativeQuery = true)
     List<AddressBookEntry> findByConsensusTimestampAndNodeId(long consensusTimestamp, long nodeId, int limit);
@@ -21,13 +21,16 @@ package com.hedera.mirror.grpc.repository;
  */
 
 import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 import com.hedera.mirror.common.domain.addressbook.AddressBook;
+import com.hedera.mirror.grpc.config.CacheConfiguration;
 
 public interface AddressBookRepository extends CrudRepository<AddressBook, Long> {
 
+    @Cacheable(cacheManager = CacheConfiguration.ADDRESS_BOOK_CACHE, cacheNames = "address_book", sync = true)
     @Query(value = "select max(start_consensus_timestamp) from address_book where file_id = ?", nativeQuery = true)
     Optional<Long> findLatestTimestamp(long fileId);
 }
@@ -20,14 +20,21 @@ package com.hedera.mirror.grpc.repository;
  * ‍
  */
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 import com.hedera.mirror.grpc.config.CacheConfiguration;
 import com.hedera.mirror.grpc.domain.Entity;
 
 public interface EntityRepository extends CrudRepository<Entity, Long> {
-    @Cacheable(cacheNames = "entity", cacheManager = CacheConfiguration.ENTITY_CACHE, unless = "#result == null")
+    String CACHE_NAME = "entity";
+
+    @Cacheable(cacheNames = CACHE_NAME, cacheManager = CacheConfiguration.ENTITY_CACHE, sync = true)
     Optional<Entity> findById(long entityId);
+
+    @Query(value = "select * from entity where type = 'TOPIC' order by id desc limit ?1", nativeQuery = true)
+    List<Entity> findTopics(int limit);
 }
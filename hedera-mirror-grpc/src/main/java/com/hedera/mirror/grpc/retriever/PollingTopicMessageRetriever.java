@@ -23,6 +23,7 @@ package com.hedera.mirror.grpc.retriever;
 import com.google.common.base.Stopwatch;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -46,12 +47,18 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
     private final RetrieverProperties retrieverProperties;
     private final TopicMessageRepository topicMessageRepository;
+    private final TopicMessageCache topicMessageCache;
+    private final TopicMessageCursor topicMessageCursor;
     private final Scheduler scheduler;
 
     public PollingTopicMessageRetriever(RetrieverProperties retrieverProperties,
-                                        TopicMessageRepository topicMessageRepository) {
+                                        TopicMessageRepository topicMessageRepository,
+                                        TopicMessageCache topicMessageCache,
+                                        TopicMessageCursor topicMessageCursor) {
         this.retrieverProperties = retrieverProperties;
         this.topicMessageRepository = topicMessageRepository;
+        this.topicMessageCache = topicMessageCache;
+        this.topicMessageCursor = topicMessageCursor;
         int threadCount = retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
         scheduler = Schedulers.newParallel("retriever", threadCount, true);
     }
@@ -62,8 +69,51 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
             return Flux.empty();
         }
 
+        return Flux.defer(() -> topicMessageCache.get(filter)
+                .map(this::fromCache)
+                .orElseGet(() -> throttled && retrieverProperties.getCursor().isEnabled() ?
+                        retrieveWithCursor(filter) : retrieveFromDatabase(filter, throttled)));
+    }
+
+    /**
+     * Streams the bulk of the range through a single cursor and then pages through whatever is left, either because
+     * the cursor was held for too long or because messages arrived after the cursor's snapshot was taken. If too many
+     * cursors are open already, the whole range is paged through.
+     */
+    private Flux<TopicMessage> retrieveWithCursor(TopicMessageFilter filter) {
+        AtomicReference<TopicMessage> last = new AtomicReference<>();
+        AtomicLong count = new AtomicLong(0L);
+
+        return topicMessageCursor.retrieve(filter)
+                .doOnNext(t -> {
+                    last.set(t);
+                    count.incrementAndGet();
+                })
+                .concatWith(Flux.defer(() -> {
+                    if (filter.hasLimit() && count.get() >= filter.getLimit()) {
+                        return Flux.empty();
+                    }
+
+                    TopicMessage lastMessage = last.get();
+                    TopicMessageFilter newFilter = filter.toBuilder()
+                            .limit(filter.hasLimit() ? filter.getLimit() - count.get() : 0L)
+                            .startTime(lastMessage != null ? lastMessage.getConsensusTimestampInstant().plusNanos(1) :
+                                    filter.getStartTime())
+                            .build();
+                    return retrieveFromDatabase(newFilter, true);
+                }));
+    }
+
+    private Flux<TopicMessage> fromCache(List<TopicMessage> topicMessages) {
+        return Flux.fromIterable(topicMessages)
+                .name("cache")
+                .metrics();
+    }
+
+    private Flux<TopicMessage> retrieveFromDatabase(TopicMessageFilter filter, boolean throttled) {
         PollingContext context = new PollingContext(filter, throttled);
         return Flux.defer(() -> poll(context))
+                .subscribeOn(scheduler)
                 .repeatWhen(Repeat.create(r -> !context.isComplete(), context.getNumRepeats())
                         .fixedBackoff(context.getFrequency())
                         .jitter(Jitter.random(0.1))
@@ -33,6 +33,12 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.grpc.retriever")
 public class RetrieverProperties {
 
+    @NotNull
+    private CacheProperties cache = new CacheProperties();
+
+    @NotNull
+    private CursorProperties cursor = new CursorProperties();
+
     private boolean enabled = true;
 
     @Min(32)
@@ -50,6 +56,37 @@ public class RetrieverProperties {
     @NotNull
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
+    @Data
+    @Validated
+    public static class CacheProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(seconds = 1)
+        @NotNull
+        private Duration maxAge = Duration.ofSeconds(60L);
+
+        @Min(1)
+        private int maxMessages = 1000;
+    }
+
+    @Data
+    @Validated
+    public static class CursorProperties {
+
+        private boolean enabled = false;
+
+        @Min(32)
+        private int fetchSize = 1000;
+
+        @Min(1)
+        private int maxConcurrent = 10;
+
+        @DurationMin(seconds = 1)
+        @NotNull
+        private Duration maxHoldTime = Duration.ofSeconds(30L);
+    }
+
     @Data
     @Validated
     public static class UnthrottledProperties {
@@ -0,0 +1,236 @@
+package com.hedera.mirror.grpc.retriever;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.inject.Named;
+import lombok.extern.log4j.Log4j2;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.grpc.converter.InstantToLongConverter;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+
+/**
+ * Keeps a bounded buffer of the most recent messages for each topic that currently has live subscribers. The buffers
+ * are filled once per message from the shared stream of the shared topic listeners, so they stay empty with the
+ * per-subscriber polling listener. They only hold a contiguous run of sequence numbers, so any request whose start time
+ * falls within a buffer's window can be answered without querying the database. A buffer is dropped once its topic has
+ * no more live subscribers since it would otherwise silently fall behind.
+ */
+@Log4j2
+@Named
+public class TopicMessageCache {
+
+    static final String METRIC = "hedera.mirror.retriever.cache";
+
+    private final RetrieverProperties.CacheProperties properties;
+    private final Map<Long, TopicBuffer> topics = new ConcurrentHashMap<>(); // Topic ID to recent messages
+    private final AtomicLong bytes = new AtomicLong(0L);
+    private final AtomicLong messages = new AtomicLong(0L);
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TopicMessageCache(RetrieverProperties retrieverProperties, MeterRegistry meterRegistry) {
+        this.properties = retrieverProperties.getCache();
+        hitCounter = Counter.builder(METRIC)
+                .description("The number of historical retrievals served from or missing the recent message cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        missCounter = Counter.builder(METRIC)
+                .description("The number of historical retrievals served from or missing the recent message cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(METRIC + ".messages", messages, AtomicLong::get)
+                .description("The number of messages held in the recent message cache")
+                .register(meterRegistry);
+        Gauge.builder(METRIC + ".size", bytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("The approximate size of the message payloads held in the recent message cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a live subscriber that will feed the topic's buffer via {@link #onNext(TopicMessage)}.
+     */
+    public void acquire(EntityId topicId) {
+        if (properties.isEnabled()) {
+            topics.compute(topicId.getId(), (k, v) -> {
+                TopicBuffer topicBuffer = v != null ? v : new TopicBuffer();
+                topicBuffer.feeders++;
+                return topicBuffer;
+            });
+        }
+    }
+
+    public void release(EntityId topicId) {
+        topics.computeIfPresent(topicId.getId(), (k, v) -> {
+            if (--v.feeders > 0) {
+                return v;
+            }
+
+            synchronized (v) {
+                v.clear();
+            }
+            return null;
+        });
+    }
+
+    public void onNext(TopicMessage topicMessage) {
+        TopicBuffer topicBuffer = topics.get(topicMessage.getTopicId());
+
+        if (topicBuffer != null) {
+            synchronized (topicBuffer) {
+                topicBuffer.add(topicMessage);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached messages matching the filter, or an empty optional if the buffer for the topic does not
+     * cover the requested start time and the database must be queried instead.
+     */
+    public Optional<List<TopicMessage>> get(TopicMessageFilter filter) {
+        TopicBuffer topicBuffer = properties.isEnabled() ? topics.get(filter.getTopicId().getId()) : null;
+        List<TopicMessage> result = null;
+
+        if (topicBuffer != null) {
+            synchronized (topicBuffer) {
+                result = topicBuffer.get(filter);
+            }
+        }
+
+        if (result == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        hitCounter.increment();
+        log.debug("[{}] Retrieved {} messages from cache", filter.getSubscriberId(), result.size());
+        return Optional.of(result);
+    }
+
+    // Guarded by the instance's monitor except for the feeder count which is guarded by the map's compute()
+    private class TopicBuffer {
+
+        private final Deque<TopicMessage> buffer = new ArrayDeque<>();
+        private Long evictedTimestamp; // The newest message evicted while the buffer was still contiguous
+        private int feeders = 0;
+
+        private void add(TopicMessage topicMessage) {
+            TopicMessage last = buffer.peekLast();
+
+            if (last != null) {
+                long sequenceNumber = topicMessage.getSequenceNumber();
+
+                if (sequenceNumber <= last.getSequenceNumber()) {
+                    return; // Already seen via another subscriber
+                }
+
+                if (sequenceNumber != last.getSequenceNumber() + 1) {
+                    log.debug("Clearing topic {} buffer due to gap between sequence {} and {}",
+                            topicMessage.getTopicId(), last.getSequenceNumber(), sequenceNumber);
+                    clear();
+                }
+            }
+
+            buffer.addLast(topicMessage);
+            messages.incrementAndGet();
+            bytes.addAndGet(size(topicMessage));
+            evict();
+        }
+
+        private List<TopicMessage> get(TopicMessageFilter filter) {
+            evict();
+            long startTime = filter.getStartTimeLong();
+
+            if (!covers(startTime)) {
+                return null;
+            }
+
+            Long endTime = InstantToLongConverter.INSTANCE.convert(filter.getEndTime());
+            long limit = filter.hasLimit() ? filter.getLimit() : Long.MAX_VALUE;
+            List<TopicMessage> result = new ArrayList<>();
+
+            boolean complete = endTime == null;
+
+            for (TopicMessage topicMessage : buffer) {
+                long timestamp = topicMessage.getConsensusTimestamp();
+
+                if ((endTime != null && timestamp >= endTime) || result.size() >= limit) {
+                    complete = true;
+                    break;
+                }
+
+                if (timestamp >= startTime) {
+                    result.add(topicMessage);
+                }
+            }
+
+            // A bounded request must be answered in full since nothing else will fill in what the buffer lacks
+            return complete || result.size() >= limit ? result : null;
+        }
+
+        private boolean covers(long startTime) {
+            if (evictedTimestamp != null) {
+                return evictedTimestamp < startTime;
+            }
+
+            TopicMessage first = buffer.peekFirst();
+            return first != null && (first.getSequenceNumber() == 1 || first.getConsensusTimestamp() <= startTime);
+        }
+
+        private void clear() {
+            messages.addAndGet(-buffer.size());
+            buffer.forEach(t -> bytes.addAndGet(-size(t)));
+            buffer.clear();
+            evictedTimestamp = null;
+        }
+
+        private void evict() {
+            long minTimestamp = InstantToLongConverter.INSTANCE.convert(Instant.now().minus(properties.getMaxAge()));
+
+            while (!buffer.isEmpty() && (buffer.size() > properties.getMaxMessages() ||
+                    buffer.peekFirst().getConsensusTimestamp() < minTimestamp)) {
+                TopicMessage topicMessage = buffer.removeFirst();
+                evictedTimestamp = topicMessage.getConsensusTimestamp();
+                messages.decrementAndGet();
+                bytes.addAndGet(-size(topicMessage));
+            }
+        }
+
+        private int size(TopicMessage topicMessage) {
+            byte[] message = topicMessage.getMessage();
+            return message != null ? message.length : 0;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.hedera.mirror.grpc.retriever;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Semaphore;
+import javax.inject.Named;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+
+import com.hedera.mirror.grpc.converter.InstantToLongConverter;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+
+/**
+ * Streams a range of topic messages through a single server-side cursor instead of issuing one query per page. Rows
+ * are fetched from the database in batches of the configured fetch size but are only read as the subscriber requests
+ * them. Since an open cursor pins a connection and a snapshot, the stream completes once the cursor has been held for
+ * the configured maximum time and it's up to the caller to resume from the last message received. For the same reason,
+ * the number of open cursors is capped and the stream completes without any messages when the cap is reached.
+ */
+@Log4j2
+@Named
+class TopicMessageCursor {
+
+    // Same planner hint as TopicMessageRepositoryCustomImpl so the (topic_id, consensus_timestamp) index is used
+    private static final String QUERY_HINT = "set local random_page_cost = 0";
+    private static final String SQL = "select * from topic_message where topic_id = ? and consensus_timestamp >= ? " +
+            "and consensus_timestamp < ? order by consensus_timestamp asc limit ?";
+
+    private final DataSource dataSource;
+    private final RetrieverProperties retrieverProperties;
+    private final Semaphore permits;
+
+    TopicMessageCursor(DataSource dataSource, RetrieverProperties retrieverProperties) {
+        this.dataSource = dataSource;
+        this.retrieverProperties = retrieverProperties;
+        permits = new Semaphore(retrieverProperties.getCursor().getMaxConcurrent());
+    }
+
+    Flux<TopicMessage> retrieve(TopicMessageFilter filter) {
+        var properties = retrieverProperties.getCursor();
+        return Flux.defer(() -> {
+                    if (!permits.tryAcquire()) {
+                        log.debug("[{}] Not opening a cursor since {} are already open", filter.getSubscriberId(),
+                                properties.getMaxConcurrent());
+                        return Flux.empty();
+                    }
+
+                    return Flux.using(() -> new Cursor(filter, properties.getFetchSize()),
+                                    cursor -> Flux.generate(cursor::next),
+                                    Cursor::close)
+                            .doFinally(s -> permits.release());
+                })
+                .take(properties.getMaxHoldTime())
+                .subscribeOn(Schedulers.boundedElastic())
+                .name("cursor")
+                .metrics();
+    }
+
+    private class Cursor {
+
+        private final TopicMessageFilter filter;
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final ResultSet resultSet;
+        private long count = 0;
+        private boolean closed = false;
+
+        private Cursor(TopicMessageFilter filter, int fetchSize) throws SQLException {
+            this.filter = filter;
+            Long endTime = InstantToLongConverter.INSTANCE.convert(filter.getEndTime());
+            connection = dataSource.getConnection();
+
+            try {
+                // The PostgreSQL driver only uses a cursor for forward only result sets in a transaction
+                connection.setAutoCommit(false);
+                connection.setReadOnly(true);
+
+                try (Statement hint = connection.createStatement()) {
+                    hint.execute(QUERY_HINT);
+                }
+
+                statement = connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setLong(1, filter.getTopicId().getId());
+                statement.setLong(2, filter.getStartTimeLong());
+                statement.setLong(3, endTime != null ? endTime : Long.MAX_VALUE);
+                statement.setLong(4, filter.hasLimit() ? filter.getLimit() : Long.MAX_VALUE);
+                resultSet = statement.executeQuery();
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+
+            log.debug("[{}] Opened cursor for {}", filter.getSubscriberId(), filter);
+        }
+
+        // Synchronized with close() since cancellation can happen on a different thread than the read
+        private synchronized void next(SynchronousSink<TopicMessage> sink) {
+            try {
+                if (!closed && resultSet.next()) {
+                    count++;
+                    sink.next(toTopicMessage(resultSet));
+                } else {
+                    sink.complete();
+                }
+            } catch (SQLException e) {
+                sink.error(e);
+            }
+        }
+
+        private synchronized void close() {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+
+            try (connection; statement; resultSet) {
+                connection.rollback();
+            } catch (SQLException e) {
+                log.warn("[{}] Unable to close cursor", filter.getSubscriberId(), e);
+            }
+
+            log.debug("[{}] Closed cursor after {} messages", filter.getSubscriberId(), count);
+        }
+
+        private TopicMessage toTopicMessage(ResultSet rs) throws SQLException {
+            return TopicMessage.builder()
+                    .chunkNum(rs.getObject("chunk_num", Integer.class))
+                    .chunkTotal(rs.getObject("chunk_total", Integer.class))
+                    .consensusTimestamp(rs.getLong("consensus_timestamp"))
+                    .initialTransactionId(rs.getBytes("initial_transaction_id"))
+                    .message(rs.getBytes("message"))
+                    .payerAccountId(rs.getObject("payer_account_id", Long.class))
+                    .runningHash(rs.getBytes("running_hash"))
+                    .runningHashVersion(rs.getInt("running_hash_version"))
+                    .sequenceNumber(rs.getLong("sequence_number"))
+                    .topicId(rs.getLong("topic_id"))
+                    .validStartTimestamp(rs.getObject("valid_start_timestamp", Long.class))
+                    .build();
+        }
+    }
+}
@@ -40,14 +40,6 @@ public class AddressBookProperties {
     @Min(0)
     private long cacheSize = 50L;
 
-    @DurationMin(millis = 100L)
-    @NotNull
-    private Duration maxPageDelay = Duration.ofMillis(250L);
-
-    @DurationMin(millis = 100L)
-    @NotNull
-    private Duration minPageDelay = Duration.ofMillis(100L);
-
     @Min(1)
     private int pageSize = 10;
 }
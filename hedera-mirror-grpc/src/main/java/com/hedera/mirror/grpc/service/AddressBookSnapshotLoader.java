@@ -0,0 +1,71 @@
+package com.hedera.mirror.grpc.service;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.inject.Named;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.annotation.Cacheable;
+
+import com.hedera.mirror.common.domain.addressbook.AddressBookEntry;
+import com.hedera.mirror.grpc.config.CacheConfiguration;
+import com.hedera.mirror.grpc.repository.AddressBookEntryRepository;
+
+/**
+ * Loads all the nodes of an address book into an immutable snapshot. An address book never changes once written, so
+ * the snapshot is cached by its consensus timestamp and only loaded again when a newer address book appears. Empty
+ * snapshots are not cached since the entries may not have been committed yet.
+ */
+@Log4j2
+@Named
+@RequiredArgsConstructor
+class AddressBookSnapshotLoader {
+
+    static final String CACHE_NAME = "address_book_entry";
+
+    private final AddressBookProperties addressBookProperties;
+    private final AddressBookEntryRepository addressBookEntryRepository;
+
+    @Cacheable(cacheManager = CacheConfiguration.ADDRESS_BOOK_ENTRY_CACHE, cacheNames = CACHE_NAME,
+            unless = "#result == null or #result.size() == 0")
+    public List<AddressBookEntry> load(long consensusTimestamp) {
+        int pageSize = addressBookProperties.getPageSize();
+        List<AddressBookEntry> nodes = new ArrayList<>();
+        List<AddressBookEntry> page;
+        long nextNodeId = 0L;
+
+        do {
+            page = addressBookEntryRepository.findByConsensusTimestampAndNodeId(consensusTimestamp, nextNodeId,
+                    pageSize);
+            nodes.addAll(page);
+
+            if (!page.isEmpty()) {
+                nextNodeId = page.get(page.size() - 1).getNodeId() + 1;
+            }
+        } while (page.size() >= pageSize);
+
+        log.info("Loaded {} address book entries for timestamp {}", nodes.size(), consensusTimestamp);
+        return Collections.unmodifiableList(nodes);
+    }
+}
@@ -0,0 +1,75 @@
+package com.hedera.mirror.grpc.service;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.Stopwatch;
+import javax.annotation.PostConstruct;
+import javax.inject.Named;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import com.hedera.mirror.grpc.GrpcProperties;
+import com.hedera.mirror.grpc.config.CacheConfiguration;
+import com.hedera.mirror.grpc.domain.Entity;
+import com.hedera.mirror.grpc.repository.EntityRepository;
+
+/**
+ * Warms the entity cache with the most recently created topics on startup so that subscribing to an existing topic
+ * doesn't require a database round trip to check that it exists.
+ */
+@ConditionalOnProperty(prefix = "spring.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Log4j2
+@Named
+@RequiredArgsConstructor
+class EntityCachePreloader {
+
+    @Qualifier(CacheConfiguration.ENTITY_CACHE)
+    private final CacheManager cacheManager;
+    private final EntityRepository entityRepository;
+    private final GrpcProperties grpcProperties;
+
+    @PostConstruct
+    void init() {
+        if (grpcProperties.isEntityCachePreload()) {
+            Mono.fromRunnable(this::preload)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .subscribe(null, e -> log.warn("Unable to preload entity cache: {}", e.getMessage()));
+        }
+    }
+
+    void preload() {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Cache cache = cacheManager.getCache(EntityRepository.CACHE_NAME);
+        var topics = entityRepository.findTopics(grpcProperties.getEntityCacheSize());
+
+        for (Entity topic : topics) {
+            cache.putIfAbsent(topic.getId(), topic);
+        }
+
+        log.info("Preloaded {} topics into the entity cache in {}", topics.size(), stopwatch);
+    }
+}
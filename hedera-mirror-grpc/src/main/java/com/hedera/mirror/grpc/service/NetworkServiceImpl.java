@@ -22,25 +22,17 @@ package com.hedera.mirror.grpc.service;
 
 import java.util.Collection;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
 import javax.inject.Named;
 import lombok.RequiredArgsConstructor;
-import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Flux;
-import reactor.core.scheduler.Schedulers;
-import reactor.retry.Jitter;
-import reactor.retry.Repeat;
 
 import com.hedera.mirror.common.domain.addressbook.AddressBookEntry;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.grpc.domain.AddressBookFilter;
 import com.hedera.mirror.grpc.exception.EntityNotFoundException;
-import com.hedera.mirror.grpc.repository.AddressBookEntryRepository;
 import com.hedera.mirror.grpc.repository.AddressBookRepository;
 
 @Log4j2
@@ -55,9 +47,8 @@ public class NetworkServiceImpl implements NetworkService {
             EntityId.of(0L, 0L, 102L, EntityType.FILE)
     );
 
-    private final AddressBookProperties addressBookProperties;
     private final AddressBookRepository addressBookRepository;
-    private final AddressBookEntryRepository addressBookEntryRepository;
+    private final AddressBookSnapshotLoader addressBookSnapshotLoader;
 
     @Override
     public Flux<AddressBookEntry> getNodes(AddressBookFilter filter) {
@@ -68,60 +59,11 @@ public class NetworkServiceImpl implements NetworkService {
 
         long timestamp = addressBookRepository.findLatestTimestamp(fileId.getId())
                 .orElseThrow(() -> new EntityNotFoundException(fileId));
-        var context = new AddressBookContext(timestamp);
 
-        return Flux.defer(() -> page(context))
-                .repeatWhen(Repeat.onlyIf(c -> !context.isComplete())
-                        .randomBackoff(addressBookProperties.getMinPageDelay(), addressBookProperties.getMaxPageDelay())
-                        .jitter(Jitter.random())
-                        .withBackoffScheduler(Schedulers.parallel()))
+        return Flux.defer(() -> Flux.fromIterable(addressBookSnapshotLoader.load(timestamp)))
                 .take(filter.getLimit() > 0 ? filter.getLimit() : Long.MAX_VALUE)
                 .name("addressBook")
                 .metrics()
-                .doOnNext(context::onNext)
-                .doOnSubscribe(s -> log.info("Querying for address book: {}", filter))
-                .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", context.getCount()));
-    }
-
-    private Flux<AddressBookEntry> page(AddressBookContext context) {
-        var timestamp = context.getTimestamp();
-        var nextNodeId = context.getNextNodeId();
-        var pageSize = addressBookProperties.getPageSize();
-        var nodes = addressBookEntryRepository.findByConsensusTimestampAndNodeId(timestamp, nextNodeId, pageSize);
-
-        if (nodes.size() < pageSize) {
-            context.completed();
-        }
-
-        log.info("Retrieved {} address book entries for timestamp {} and node ID {}",
-                nodes.size(), timestamp, nextNodeId);
-        return Flux.fromIterable(nodes);
-    }
-
-    @Value
-    private class AddressBookContext {
-
-        private final AtomicBoolean complete = new AtomicBoolean(false);
-        private final AtomicLong count = new AtomicLong(0L);
-        private final AtomicReference<AddressBookEntry> last = new AtomicReference<>();
-        private final long timestamp;
-
-        void onNext(AddressBookEntry entry) {
-            count.incrementAndGet();
-            last.set(entry);
-        }
-
-        long getNextNodeId() {
-            AddressBookEntry entry = last.get();
-            return entry != null ? entry.getNodeId() + 1 : 0L;
-        }
-
-        boolean isComplete() {
-            return complete.get();
-        }
-
-        void completed() {
-            complete.set(true);
-        }
+                .doOnSubscribe(s -> log.info("Querying for address book: {}", filter));
     }
 }
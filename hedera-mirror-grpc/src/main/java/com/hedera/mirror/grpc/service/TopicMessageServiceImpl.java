@@ -21,6 +21,7 @@ package com.hedera.mirror.grpc.service;
  */
 
 import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
@@ -30,9 +31,9 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.PostConstruct;
 import javax.inject.Named;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.validation.annotation.Validated;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SignalType;
@@ -51,17 +52,33 @@ import com.hedera.mirror.grpc.retriever.TopicMessageRetriever;
 
 @Named
 @Log4j2
-@RequiredArgsConstructor
 @Validated
 public class TopicMessageServiceImpl implements TopicMessageService {
 
+    static final String METRIC_DEMOTIONS = "hedera.mirror.subscribers.demotions";
+
     private final GrpcProperties grpcProperties;
     private final TopicListener topicListener;
     private final EntityRepository entityRepository;
     private final TopicMessageRetriever topicMessageRetriever;
     private final MeterRegistry meterRegistry;
+    private final Counter demotionsMetric;
     private final AtomicLong subscriberCount = new AtomicLong(0L);
 
+    public TopicMessageServiceImpl(GrpcProperties grpcProperties, TopicListener topicListener,
+                                   EntityRepository entityRepository, TopicMessageRetriever topicMessageRetriever,
+                                   MeterRegistry meterRegistry) {
+        this.grpcProperties = grpcProperties;
+        this.topicListener = topicListener;
+        this.entityRepository = entityRepository;
+        this.topicMessageRetriever = topicMessageRetriever;
+        this.meterRegistry = meterRegistry;
+        demotionsMetric = Counter.builder(METRIC_DEMOTIONS)
+                .description("The number of times a slow subscriber was demoted to reading from the database")
+                .tag("type", TopicMessage.class.getSimpleName())
+                .register(meterRegistry);
+    }
+
     @PostConstruct
     void init() {
         Gauge.builder("hedera.mirror.subscribers", () -> subscriberCount)
@@ -119,7 +136,33 @@ public class TopicMessageServiceImpl implements TopicMessageService {
 
         return topicListener.listen(newFilter)
                 .takeUntilOther(pastEndTime(topicContext))
-                .concatMap(t -> missingMessages(topicContext, t));
+                .concatMap(t -> missingMessages(topicContext, t))
+                .onErrorResume(e -> grpcProperties.isDemoteSlowSubscribers() && Exceptions.isOverflow(e),
+                        e -> catchUp(topicContext));
+    }
+
+    /**
+     * A subscriber that can't keep up with the incoming messages overflows its listener buffer. Rather than disconnect
+     * it or buffer messages for it without bound, demote it to reading from the database at its own pace until it has
+     * caught up and then resume listening for incoming messages.
+     */
+    private Flux<TopicMessage> catchUp(TopicContext topicContext) {
+        TopicMessageFilter filter = topicContext.getFilter();
+        TopicMessage last = topicContext.getLast();
+        long limit = filter.hasLimit() ? filter.getLimit() - topicContext.getCount().get() : 0;
+        Instant startTime = last != null ? last.getConsensusTimestampInstant().plusNanos(1) : filter.getStartTime();
+
+        TopicMessageFilter newFilter = filter.toBuilder()
+                .limit(limit)
+                .startTime(startTime)
+                .build();
+
+        log.warn("[{}] Subscriber to topic {} is too slow, catching up from the database after {} messages",
+                filter.getSubscriberId(), topicContext.getTopicId(), topicContext.getCount());
+        demotionsMetric.increment();
+
+        return topicMessageRetriever.retrieve(newFilter, true)
+                .concatWith(Flux.defer(() -> incomingMessages(topicContext)));
     }
 
     private Flux<Object> pastEndTime(TopicContext topicContext) {
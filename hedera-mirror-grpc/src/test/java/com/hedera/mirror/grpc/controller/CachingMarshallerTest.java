@@ -0,0 +1,91 @@
+package com.hedera.mirror.grpc.controller;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.mirror.api.proto.ConsensusServiceGrpc;
+import com.hedera.mirror.api.proto.ConsensusTopicResponse;
+import com.hedera.mirror.api.proto.ReactorConsensusServiceGrpc;
+
+class CachingMarshallerTest {
+
+    private final MethodDescriptor<?, ConsensusTopicResponse> method = ConsensusServiceGrpc.getSubscribeTopicMethod();
+    private final CachingMarshaller<ConsensusTopicResponse> marshaller =
+            new CachingMarshaller<>(method.getResponseMarshaller());
+
+    @Test
+    void stream() throws IOException {
+        ConsensusTopicResponse response = response(1L);
+
+        InputStream first = marshaller.stream(response);
+        InputStream second = marshaller.stream(response);
+
+        assertThat(first).isInstanceOf(Drainable.class).isInstanceOf(KnownLength.class);
+        assertThat(first.available()).isEqualTo(response.getSerializedSize());
+        assertThat(drain(first)).isEqualTo(response.toByteArray()).isEqualTo(drain(second));
+        assertThat(marshaller.stream(response(2L)).readAllBytes()).isEqualTo(response(2L).toByteArray());
+    }
+
+    @Test
+    void parse() {
+        ConsensusTopicResponse response = response(1L);
+        assertThat(marshaller.parse(marshaller.stream(response))).isEqualTo(response);
+    }
+
+    @Test
+    void cacheResponses() {
+        ServerServiceDefinition original = new ReactorConsensusServiceGrpc.ConsensusServiceImplBase() {
+        }.bindService();
+
+        ServerServiceDefinition definition = CachingMarshaller.cacheResponses(original, method);
+
+        assertThat(definition.getServiceDescriptor().getName())
+                .isEqualTo(original.getServiceDescriptor().getName());
+        assertThat(definition.getMethods()).hasSameSizeAs(original.getMethods());
+        assertThat(definition.getMethod(method.getFullMethodName()).getMethodDescriptor().getResponseMarshaller())
+                .isInstanceOf(CachingMarshaller.class);
+    }
+
+    private byte[] drain(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((Drainable) inputStream).drainTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private ConsensusTopicResponse response(long sequenceNumber) {
+        return ConsensusTopicResponse.newBuilder()
+                .setMessage(ByteString.copyFromUtf8("message"))
+                .setRunningHash(ByteString.copyFromUtf8("hash"))
+                .setSequenceNumber(sequenceNumber)
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.hedera.mirror.grpc.listener;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class PollingIntervalTest {
+
+    private static final long PAGE_SIZE = 10L;
+
+    private ListenerProperties listenerProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private PollingInterval pollingInterval;
+
+    @BeforeEach
+    void setup() {
+        listenerProperties = new ListenerProperties();
+        listenerProperties.getAdaptive().setEnabled(true);
+        listenerProperties.getAdaptive().setMaxInterval(Duration.ofSeconds(2L));
+        listenerProperties.getAdaptive().setMinInterval(Duration.ofMillis(20L));
+        listenerProperties.setInterval(Duration.ofMillis(500L));
+        meterRegistry = new SimpleMeterRegistry();
+        pollingInterval = new PollingInterval("test", listenerProperties, meterRegistry, 0);
+    }
+
+    @Test
+    void disabled() {
+        listenerProperties.getAdaptive().setEnabled(false);
+        assertThat(pollingInterval.next(PAGE_SIZE, PAGE_SIZE)).isEqualTo(Duration.ofMillis(500L));
+        assertThat(pollingInterval.next(0L, PAGE_SIZE)).isEqualTo(Duration.ofMillis(500L));
+    }
+
+    @Test
+    void fullPage() {
+        assertThat(pollingInterval.next(PAGE_SIZE, PAGE_SIZE)).isEqualTo(Duration.ofMillis(20L));
+        assertThat(pollingInterval.next(PAGE_SIZE, PAGE_SIZE)).isEqualTo(Duration.ofMillis(20L));
+        assertThat(pollingInterval.next(1L, PAGE_SIZE)).isEqualTo(Duration.ofMillis(500L));
+    }
+
+    @Test
+    void backoff() {
+        assertThat(pollingInterval.next(0L, PAGE_SIZE)).isEqualTo(Duration.ofSeconds(1L));
+        assertThat(pollingInterval.next(0L, PAGE_SIZE)).isEqualTo(Duration.ofSeconds(2L));
+        assertThat(pollingInterval.next(0L, PAGE_SIZE)).isEqualTo(Duration.ofSeconds(2L));
+        assertThat(pollingInterval.next(PAGE_SIZE, PAGE_SIZE)).isEqualTo(Duration.ofMillis(20L));
+        assertThat(pollingInterval.next(0L, PAGE_SIZE)).isEqualTo(Duration.ofMillis(500L));
+        assertThat(pollingInterval.next(1L, PAGE_SIZE)).isEqualTo(Duration.ofMillis(500L));
+    }
+
+    @Test
+    void jitter() {
+        pollingInterval = new PollingInterval("test", listenerProperties, meterRegistry, 0.1);
+        assertThat(pollingInterval.next(1L, PAGE_SIZE)).isBetween(Duration.ofMillis(450L), Duration.ofMillis(550L));
+    }
+
+    @Test
+    void metrics() {
+        pollingInterval.delay(5L, PAGE_SIZE, Schedulers.immediate());
+        pollingInterval.delay(PAGE_SIZE, PAGE_SIZE, Schedulers.immediate());
+
+        assertThat(meterRegistry.find(PollingInterval.METRIC_SIZE).tag("type", "test").summary())
+                .isNotNull()
+                .satisfies(s -> assertThat(s.totalAmount()).isEqualTo(15.0));
+        assertThat(meterRegistry.find(PollingInterval.METRIC_INTERVAL).tag("type", "test").timer())
+                .isNotNull()
+                .satisfies(t -> assertThat(t.count()).isEqualTo(2L));
+    }
+
+    @Test
+    void wake() {
+        listenerProperties.getAdaptive().setNotify(true);
+
+        pollingInterval.delay(0L, PAGE_SIZE, Schedulers.parallel())
+                .as(StepVerifier::create)
+                .expectSubscription()
+                .then(pollingInterval::wake)
+                .expectNext(0L)
+                .expectComplete()
+                .verify(Duration.ofMillis(500L));
+
+        // Woken up while not waiting polls immediately next time
+        pollingInterval.wake();
+        pollingInterval.delay(0L, PAGE_SIZE, Schedulers.parallel())
+                .as(StepVerifier::create)
+                .expectNext(0L)
+                .expectComplete()
+                .verify(Duration.ofMillis(100L));
+    }
+
+    @Test
+    void wakeOn() {
+        listenerProperties.getAdaptive().setNotify(true);
+        Sinks.Many<Object> hints = Sinks.many().multicast().directBestEffort();
+
+        pollingInterval.wakeOn(Flux.never(), hints.asFlux())
+                .as(StepVerifier::create)
+                .expectSubscription()
+                .then(() -> hints.tryEmitNext(1))
+                .thenCancel()
+                .verify(Duration.ofMillis(500L));
+
+        assertThat(hints.currentSubscriberCount()).isZero();
+        pollingInterval.delay(0L, PAGE_SIZE, Schedulers.parallel())
+                .as(StepVerifier::create)
+                .expectNext(0L)
+                .expectComplete()
+                .verify(Duration.ofMillis(100L));
+    }
+
+    @Test
+    void wakeOnDisabled() {
+        Sinks.Many<Object> hints = Sinks.many().multicast().directBestEffort();
+        Flux<Object> flux = Flux.never();
+        assertThat(pollingInterval.wakeOn(flux, hints.asFlux())).isSameAs(flux);
+    }
+}
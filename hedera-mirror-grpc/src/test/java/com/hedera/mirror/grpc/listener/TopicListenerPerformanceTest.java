@@ -0,0 +1,227 @@
+package com.hedera.mirror.grpc.listener;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.sun.management.ThreadMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import javax.annotation.Resource;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.hedera.mirror.api.proto.ConsensusTopicQuery;
+import com.hedera.mirror.api.proto.ReactorConsensusServiceGrpc;
+import com.hedera.mirror.grpc.GrpcIntegrationTest;
+import com.hedera.mirror.grpc.domain.DomainBuilder;
+import com.hedera.mirror.grpc.domain.StreamMessage;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import com.hedera.mirror.grpc.util.ProtoUtil;
+
+/**
+ * Drives concurrent subscribeTopic streams through the in-process gRPC server for each listener type and reports the
+ * end-to-end latency from publish to client, the throughput, the peak heap and the allocation rate. The load can be
+ * changed with the hedera.mirror.grpc.performance.* system properties.
+ */
+@Tag("performance")
+class TopicListenerPerformanceTest extends GrpcIntegrationTest {
+
+    private static final long TOPIC_NUM = 100L;
+
+    @GrpcClient("local")
+    private ReactorConsensusServiceGrpc.ReactorConsensusServiceStub grpcConsensusService;
+
+    @Resource
+    private DomainBuilder domainBuilder;
+
+    @Resource
+    private JdbcTemplate jdbcTemplate;
+
+    @Resource
+    private ListenerProperties listenerProperties;
+
+    @Resource
+    private MeterRegistry meterRegistry;
+
+    @Resource
+    private NotifyingTopicListener notifyingTopicListener;
+
+    @Resource
+    private ReactiveRedisOperations<String, StreamMessage> redisOperations;
+
+    @Value("${hedera.mirror.grpc.performance.maxLatency:5s}")
+    private Duration maxLatency;
+
+    @Value("${hedera.mirror.grpc.performance.messages:500}")
+    private int messages;
+
+    @Value("${hedera.mirror.grpc.performance.subscribers:50}")
+    private int subscribers;
+
+    @Value("${hedera.mirror.grpc.performance.timeout:60s}")
+    private Duration timeout;
+
+    private ListenerProperties.ListenerType defaultType;
+
+    @BeforeEach
+    void setup() {
+        defaultType = listenerProperties.getType();
+        listenerProperties.setEnabled(true);
+        domainBuilder.entity().block();
+    }
+
+    @AfterEach
+    void after() {
+        listenerProperties.setEnabled(false);
+        listenerProperties.setType(defaultType);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ListenerProperties.ListenerType.class)
+    void subscribe(ListenerProperties.ListenerType type) throws Exception {
+        listenerProperties.setType(type);
+        Timer latency = Timer.builder("latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(new SimpleMeterRegistry());
+        ConsensusTopicQuery query = ConsensusTopicQuery.newBuilder()
+                .setConsensusStartTime(ProtoUtil.toTimestamp(Instant.now()))
+                .setLimit(messages)
+                .setTopicID(TopicID.newBuilder().setTopicNum(TOPIC_NUM).build())
+                .build();
+
+        CompletableFuture<Long> received = Flux.range(0, subscribers)
+                .flatMap(i -> grpcConsensusService.subscribeTopic(Mono.just(query)), subscribers)
+                .doOnNext(r -> latency.record(Duration.between(ProtoUtil.fromTimestamp(r.getConsensusTimestamp()),
+                        Instant.now())))
+                .count()
+                .toFuture();
+        awaitSubscribers();
+
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        long allocatedBefore = allocatedBytes();
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        publish(type);
+        long count = received.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        Duration elapsed = stopwatch.elapsed();
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        long allocated = allocatedBytes() - allocatedBefore;
+        HistogramSnapshot snapshot = latency.takeSnapshot();
+        ValueAtPercentile[] percentiles = snapshot.percentileValues();
+
+        log.info("{} with {} subscribers received {} messages in {}: {} msg/s, latency p50 {} ms, p99 {} ms, " +
+                        "max {} ms, peak heap {} MiB, allocation rate {} MiB/s",
+                type, subscribers, count, elapsed, Math.round(count / seconds),
+                Math.round(percentiles[0].value(TimeUnit.MILLISECONDS)),
+                Math.round(percentiles[1].value(TimeUnit.MILLISECONDS)),
+                Math.round(snapshot.max(TimeUnit.MILLISECONDS)), peakHeap() / 1024 / 1024,
+                Math.round(allocated / 1024.0 / 1024.0 / seconds));
+
+        assertThat(count).isEqualTo((long) messages * subscribers);
+        assertThat(percentiles[1].value(TimeUnit.MILLISECONDS)).isLessThan(maxLatency.toMillis());
+    }
+
+    // Wait until every stream reached the service, then give the listeners a chance to start polling or listening
+    private void awaitSubscribers() {
+        Gauge gauge = meterRegistry.get("hedera.mirror.subscribers").gauge();
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        while (gauge.value() < subscribers && stopwatch.elapsed().compareTo(timeout) < 0) {
+            Uninterruptibles.sleepUninterruptibly(10L, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(gauge.value()).isEqualTo(subscribers);
+        Uninterruptibles.sleepUninterruptibly(listenerProperties.getInterval().multipliedBy(2L));
+    }
+
+    // Simulates the importer by inserting each message and then notifying the listener like it would
+    private void publish(ListenerProperties.ListenerType type) {
+        Instant last = Instant.EPOCH;
+
+        for (int i = 0; i < messages; ++i) {
+            Instant now = Instant.now();
+            Instant consensusTimestamp = now.isAfter(last) ? now : last.plusNanos(1L);
+            TopicMessage topicMessage = domainBuilder.topicMessage(t -> t.consensusTimestamp(consensusTimestamp))
+                    .block();
+            last = consensusTimestamp;
+
+            switch (type) {
+                case NOTIFY:
+                    jdbcTemplate.queryForMap("select pg_notify('topic_message', ?)", toJson(topicMessage));
+                    break;
+                case REDIS:
+                    redisOperations.convertAndSend("topic." + topicMessage.getTopicId(), topicMessage).block();
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private String toJson(TopicMessage topicMessage) {
+        try {
+            return notifyingTopicListener.objectMapper.writeValueAsString(topicMessage);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // Threads that exit during the run are not counted, so this slightly underestimates the allocations
+    private static long allocatedBytes() {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] allocated = threadMXBean.getThreadAllocatedBytes(threadMXBean.getAllThreadIds());
+        return LongStream.of(allocated).filter(b -> b > 0).sum();
+    }
+
+    private static long peakHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans()
+                .stream()
+                .filter(p -> p.getType() == MemoryType.HEAP)
+                .mapToLong(p -> p.getPeakUsage().getUsed())
+                .sum();
+    }
+}
@@ -0,0 +1,155 @@
+package com.hedera.mirror.grpc.listener;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import com.hedera.mirror.common.converter.TopicMessageCodec;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.grpc.domain.StreamMessage;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+
+/**
+ * Compares the payload size, decode time and bytes allocated per message of the binary batch format against the
+ * MessagePack serializer that publishes one payload per message.
+ */
+@Log4j2
+@Tag("performance")
+class TopicMessageDecoderPerformanceTest {
+
+    private static final int MESSAGES = 100_000;
+
+    private final Jackson2JsonRedisSerializer<StreamMessage> msgpackSerializer = msgpackSerializer();
+    private final TopicMessageDecoder decoder = new TopicMessageDecoder(msgpackSerializer);
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 100})
+    void decode(int batchSize) {
+        List<byte[]> msgpackPayloads = new ArrayList<>(MESSAGES);
+        List<byte[]> binaryPayloads = new ArrayList<>(MESSAGES / batchSize);
+        List<com.hedera.mirror.common.domain.topic.TopicMessage> batch = new ArrayList<>(batchSize);
+
+        for (int i = 1; i <= MESSAGES; ++i) {
+            var topicMessage = topicMessage(i);
+            msgpackPayloads.add(msgpackSerializer.serialize(toStreamMessage(topicMessage)));
+            batch.add(topicMessage);
+
+            if (batch.size() == batchSize) {
+                binaryPayloads.add(TopicMessageCodec.encode(batch));
+                batch.clear();
+            }
+        }
+
+        Result msgpack = measure(msgpackPayloads, p -> decoder.decode(p));
+        Result binary = measure(binaryPayloads, p -> decoder.decode(p));
+
+        log.info("Batch size {}: msgpack {}, binary {}", batchSize, msgpack, binary);
+        assertThat(binary.bytes).isLessThan(msgpack.bytes);
+        assertThat(binary.allocated).isLessThan(msgpack.allocated);
+    }
+
+    private Result measure(List<byte[]> payloads, Consumer<byte[]> consumer) {
+        // warm up so class loading and JIT compilation are not measured
+        payloads.forEach(consumer);
+
+        long threadId = Thread.currentThread().getId();
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        payloads.forEach(consumer);
+        long nanos = System.nanoTime() - start;
+        allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocated;
+
+        long bytes = payloads.stream().mapToLong(p -> p.length).sum();
+        return new Result(bytes / MESSAGES, nanos / MESSAGES, allocated / MESSAGES);
+    }
+
+    private Jackson2JsonRedisSerializer<StreamMessage> msgpackSerializer() {
+        var jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(StreamMessage.class);
+        jackson2JsonRedisSerializer.setObjectMapper(new ObjectMapper(new MessagePackFactory()));
+        return jackson2JsonRedisSerializer;
+    }
+
+    private com.hedera.mirror.common.domain.topic.TopicMessage topicMessage(long sequenceNumber) {
+        var topicMessage = new com.hedera.mirror.common.domain.topic.TopicMessage();
+        topicMessage.setChunkNum(1);
+        topicMessage.setChunkTotal(1);
+        topicMessage.setConsensusTimestamp(1_600_000_000_000_000_000L + sequenceNumber);
+        topicMessage.setInitialTransactionId(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        topicMessage.setMessage(new byte[256]);
+        topicMessage.setPayerAccountId(EntityId.of("0.0.1000", EntityType.ACCOUNT));
+        topicMessage.setRunningHash(new byte[48]);
+        topicMessage.setRunningHashVersion(3);
+        topicMessage.setSequenceNumber(sequenceNumber);
+        topicMessage.setTopicId(EntityId.of("0.0.1001", EntityType.TOPIC));
+        topicMessage.setValidStartTimestamp(1_600_000_000_000_000_000L);
+        return topicMessage;
+    }
+
+    private TopicMessage toStreamMessage(com.hedera.mirror.common.domain.topic.TopicMessage topicMessage) {
+        return TopicMessage.builder()
+                .chunkNum(topicMessage.getChunkNum())
+                .chunkTotal(topicMessage.getChunkTotal())
+                .consensusTimestamp(topicMessage.getConsensusTimestamp())
+                .initialTransactionId(topicMessage.getInitialTransactionId())
+                .message(topicMessage.getMessage())
+                .payerAccountId(topicMessage.getPayerAccountId().getId())
+                .runningHash(topicMessage.getRunningHash())
+                .runningHashVersion(topicMessage.getRunningHashVersion())
+                .sequenceNumber(topicMessage.getSequenceNumber())
+                .topicId(topicMessage.getTopicId().getId())
+                .validStartTimestamp(topicMessage.getValidStartTimestamp())
+                .build();
+    }
+
+    private static class Result {
+
+        private final long bytes;
+        private final long nanos;
+        private final long allocated;
+
+        private Result(long bytes, long nanos, long allocated) {
+            this.bytes = bytes;
+            this.nanos = nanos;
+            this.allocated = allocated;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d bytes/message, %d ns/message, %d bytes allocated/message", bytes, nanos,
+                    allocated);
+        }
+    }
+}
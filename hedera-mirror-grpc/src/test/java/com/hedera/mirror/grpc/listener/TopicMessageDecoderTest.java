@@ -0,0 +1,118 @@
+package com.hedera.mirror.grpc.listener;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import com.hedera.mirror.common.converter.TopicMessageCodec;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.grpc.domain.StreamMessage;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+
+class TopicMessageDecoderTest {
+
+    private final Jackson2JsonRedisSerializer<StreamMessage> msgpackSerializer = msgpackSerializer();
+    private final TopicMessageDecoder decoder = new TopicMessageDecoder(msgpackSerializer);
+
+    @Test
+    void binary() {
+        var topicMessage1 = commonTopicMessage(1L);
+        var topicMessage2 = commonTopicMessage(2L);
+        topicMessage2.setChunkNum(null);
+        topicMessage2.setChunkTotal(null);
+        topicMessage2.setPayerAccountId(null);
+        topicMessage2.setValidStartTimestamp(null);
+
+        List<TopicMessage> topicMessages = decoder.decode(TopicMessageCodec.encode(
+                List.of(topicMessage1, topicMessage2)));
+
+        assertThat(topicMessages).hasSize(2).first().satisfies(t -> {
+            assertThat(t.getChunkNum()).isEqualTo(1);
+            assertThat(t.getChunkTotal()).isEqualTo(2);
+            assertThat(t.getConsensusTimestamp()).isEqualTo(topicMessage1.getConsensusTimestamp());
+            assertThat(t.getInitialTransactionId()).isEqualTo(topicMessage1.getInitialTransactionId());
+            assertThat(t.getMessage()).isEqualTo(topicMessage1.getMessage());
+            assertThat(t.getPayerAccountId()).isEqualTo(topicMessage1.getPayerAccountId().getId());
+            assertThat(t.getRunningHash()).isEqualTo(topicMessage1.getRunningHash());
+            assertThat(t.getRunningHashVersion()).isEqualTo(topicMessage1.getRunningHashVersion());
+            assertThat(t.getSequenceNumber()).isEqualTo(1L);
+            assertThat(t.getTopicId()).isEqualTo(topicMessage1.getTopicId().getId());
+            assertThat(t.getValidStartTimestamp()).isEqualTo(topicMessage1.getValidStartTimestamp());
+        });
+        assertThat(topicMessages.get(1)).satisfies(t -> {
+            assertThat(t.getChunkNum()).isNull();
+            assertThat(t.getChunkTotal()).isNull();
+            assertThat(t.getPayerAccountId()).isNull();
+            assertThat(t.getSequenceNumber()).isEqualTo(2L);
+            assertThat(t.getValidStartTimestamp()).isNull();
+        });
+    }
+
+    @Test
+    void msgpack() {
+        TopicMessage topicMessage = TopicMessage.builder()
+                .consensusTimestamp(10L)
+                .message(new byte[] {1, 2, 3})
+                .runningHash(new byte[] {4, 5, 6})
+                .runningHashVersion(2)
+                .sequenceNumber(1L)
+                .topicId(1001L)
+                .build();
+
+        assertThat(decoder.decode(msgpackSerializer.serialize(topicMessage)))
+                .containsExactly(topicMessage);
+    }
+
+    @Test
+    void empty() {
+        assertThat(decoder.decode(null)).isEmpty();
+        assertThat(decoder.decode(new byte[0])).isEmpty();
+    }
+
+    private Jackson2JsonRedisSerializer<StreamMessage> msgpackSerializer() {
+        var jackson2JsonRedisSerializer = new Jackson2JsonRedisSerializer<>(StreamMessage.class);
+        jackson2JsonRedisSerializer.setObjectMapper(new ObjectMapper(new MessagePackFactory()));
+        return jackson2JsonRedisSerializer;
+    }
+
+    private com.hedera.mirror.common.domain.topic.TopicMessage commonTopicMessage(long sequenceNumber) {
+        var topicMessage = new com.hedera.mirror.common.domain.topic.TopicMessage();
+        topicMessage.setChunkNum(1);
+        topicMessage.setChunkTotal(2);
+        topicMessage.setConsensusTimestamp(1_000_000L + sequenceNumber);
+        topicMessage.setInitialTransactionId(new byte[] {1, 2});
+        topicMessage.setMessage("test message".getBytes());
+        topicMessage.setPayerAccountId(EntityId.of("0.1.1000", EntityType.ACCOUNT));
+        topicMessage.setRunningHash("running hash".getBytes());
+        topicMessage.setRunningHashVersion(2);
+        topicMessage.setSequenceNumber(sequenceNumber);
+        topicMessage.setTopicId(EntityId.of("0.0.1001", EntityType.TOPIC));
+        topicMessage.setValidStartTimestamp(4L);
+        return topicMessage;
+    }
+}
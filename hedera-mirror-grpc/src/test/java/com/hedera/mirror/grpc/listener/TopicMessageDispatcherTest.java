@@ -0,0 +1,190 @@
+package com.hedera.mirror.grpc.listener;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.util.concurrent.Queues;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+
+class TopicMessageDispatcherTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(1L);
+    private static final EntityId TOPIC_ID1 = EntityId.of(100L, EntityType.TOPIC);
+    private static final EntityId TOPIC_ID2 = EntityId.of(101L, EntityType.TOPIC);
+
+    private SimpleMeterRegistry meterRegistry;
+    private Sinks.Many<TopicMessage> source;
+    private TopicMessageDispatcher dispatcher;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        source = Sinks.many().multicast().directBestEffort();
+        dispatcher = new TopicMessageDispatcher("test", source.asFlux(), meterRegistry);
+    }
+
+    @Test
+    void dispatchesByTopic() {
+        var stepVerifier1 = dispatcher.listen(TOPIC_ID1)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 3L)
+                .thenCancel()
+                .verifyLater();
+        var stepVerifier2 = dispatcher.listen(TOPIC_ID2)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(2L)
+                .thenCancel()
+                .verifyLater();
+
+        assertThat(dispatcher.getTopicCount()).isEqualTo(2);
+        source.tryEmitNext(topicMessage(TOPIC_ID1, 1L));
+        source.tryEmitNext(topicMessage(TOPIC_ID2, 2L));
+        source.tryEmitNext(topicMessage(EntityId.of(102L, EntityType.TOPIC), 4L));
+        source.tryEmitNext(topicMessage(TOPIC_ID1, 3L));
+
+        stepVerifier1.verify(WAIT);
+        stepVerifier2.verify(WAIT);
+        assertThat(dispatcher.getTopicCount()).isZero();
+        assertThat(source.currentSubscriberCount()).isZero();
+    }
+
+    @Test
+    void multipleSubscribersSameTopic() {
+        var stepVerifier1 = dispatcher.listen(TOPIC_ID1)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L)
+                .thenCancel()
+                .verifyLater();
+        var stepVerifier2 = dispatcher.listen(TOPIC_ID1)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L)
+                .thenCancel()
+                .verifyLater();
+
+        assertThat(dispatcher.getTopicCount()).isEqualTo(1);
+        assertThat(source.currentSubscriberCount()).isEqualTo(1);
+        assertThat(meterRegistry.find(TopicMessageDispatcher.METRIC_SUBSCRIBERS).tag("listener", "test").gauge())
+                .isNotNull()
+                .returns(2.0, g -> g.value());
+
+        source.tryEmitNext(topicMessage(TOPIC_ID1, 1L));
+        source.tryEmitNext(topicMessage(TOPIC_ID1, 2L));
+
+        stepVerifier1.verify(WAIT);
+        stepVerifier2.verify(WAIT);
+        assertThat(meterRegistry.find(TopicMessageDispatcher.METRIC_SUBSCRIBERS).gauge())
+                .isNotNull()
+                .returns(0.0, g -> g.value());
+    }
+
+    @Test
+    void dispatchLatency() {
+        var stepVerifier = dispatcher.listen(TOPIC_ID1)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L)
+                .thenCancel()
+                .verifyLater();
+
+        source.tryEmitNext(topicMessage(TOPIC_ID1, 1L));
+
+        assertThat(meterRegistry.find(TopicMessageDispatcher.METRIC_DISPATCH).tag("listener", "test").timer())
+                .isNotNull()
+                .returns(1L, t -> t.count());
+        source.tryEmitNext(topicMessage(TOPIC_ID1, 2L));
+        stepVerifier.verify(WAIT);
+    }
+
+    @Test
+    void slowSubscriber() {
+        int count = Queues.SMALL_BUFFER_SIZE + 2;
+
+        dispatcher.listen(TOPIC_ID1)
+                .as(f -> StepVerifier.create(f, 0L))
+                .then(() -> {
+                    for (long i = 1; i <= count; ++i) {
+                        source.tryEmitNext(topicMessage(TOPIC_ID1, i));
+                    }
+                })
+                .thenRequest(count)
+                .expectNextCount(Queues.SMALL_BUFFER_SIZE)
+                .thenCancel()
+                .verify(WAIT);
+
+        assertThat(meterRegistry.find(TopicMessageDispatcher.METRIC_DROPPED).counter())
+                .isNotNull()
+                .returns(2.0, c -> c.count());
+    }
+
+    @Test
+    void sourceError() {
+        var stepVerifier = dispatcher.listen(TOPIC_ID1)
+                .as(StepVerifier::create)
+                .expectError(IllegalStateException.class)
+                .verifyLater();
+
+        source.tryEmitError(new IllegalStateException());
+
+        stepVerifier.verify(WAIT);
+        assertThat(dispatcher.getTopicCount()).isZero();
+    }
+
+    @Test
+    void resubscribe() {
+        dispatcher.listen(TOPIC_ID1)
+                .as(StepVerifier::create)
+                .thenCancel()
+                .verify(WAIT);
+
+        assertThat(source.currentSubscriberCount()).isZero();
+
+        dispatcher.listen(TOPIC_ID1)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .then(() -> source.tryEmitNext(topicMessage(TOPIC_ID1, 1L)))
+                .expectNext(1L)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    private TopicMessage topicMessage(EntityId topicId, long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(Instant.ofEpochSecond(sequenceNumber))
+                .sequenceNumber(sequenceNumber)
+                .topicId(topicId.getId())
+                .build();
+    }
+}
@@ -56,6 +56,9 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
     @Resource
     private RetrieverProperties retrieverProperties;
 
+    @Resource
+    private TopicMessageCache topicMessageCache;
+
     private long unthrottledMaxPolls;
 
     private Duration unthrottledPollingFrequency;
@@ -111,6 +114,34 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
                 .verify(Duration.ofMillis(500));
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void fromCache(boolean throttled) {
+        TopicMessage cached = TopicMessage.builder()
+                .consensusTimestamp(Instant.now())
+                .sequenceNumber(1L)
+                .topicId(TOPIC_ID.getId())
+                .build();
+        retrieverProperties.getCache().setEnabled(true);
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(cached);
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(Instant.EPOCH)
+                .topicId(TOPIC_ID)
+                .build();
+
+        try {
+            pollingTopicMessageRetriever.retrieve(filter, throttled)
+                    .as(StepVerifier::create)
+                    .expectNext(cached)
+                    .expectComplete()
+                    .verify(Duration.ofMillis(500));
+        } finally {
+            topicMessageCache.release(TOPIC_ID);
+            retrieverProperties.getCache().setEnabled(false);
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void lessThanPageSize(boolean throttle) {
@@ -0,0 +1,227 @@
+package com.hedera.mirror.grpc.retriever;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+
+class TopicMessageCacheTest {
+
+    private static final EntityId TOPIC_ID = EntityId.of(100L, EntityType.TOPIC);
+
+    private final Instant now = Instant.now();
+    private SimpleMeterRegistry meterRegistry;
+    private RetrieverProperties retrieverProperties;
+    private TopicMessageCache topicMessageCache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        retrieverProperties = new RetrieverProperties();
+        retrieverProperties.getCache().setEnabled(true);
+        topicMessageCache = new TopicMessageCache(retrieverProperties, meterRegistry);
+    }
+
+    @Test
+    void noSubscribers() {
+        topicMessageCache.onNext(topicMessage(1));
+        assertThat(topicMessageCache.get(filter(now.minusSeconds(10L)))).isEmpty();
+        assertThat(count("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void hit() {
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(topicMessage(1));
+        topicMessageCache.onNext(topicMessage(2));
+        topicMessageCache.onNext(topicMessage(3));
+
+        assertThat(topicMessageCache.get(filter(now.minusSeconds(10L))))
+                .get()
+                .extracting(this::sequenceNumbers)
+                .isEqualTo(List.of(1L, 2L, 3L));
+        assertThat(topicMessageCache.get(filter(timestamp(2))))
+                .get()
+                .extracting(this::sequenceNumbers)
+                .isEqualTo(List.of(2L, 3L));
+        assertThat(count("hit")).isEqualTo(2.0);
+        assertThat(meterRegistry.find(TopicMessageCache.METRIC + ".messages").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void duplicatesIgnored() {
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(topicMessage(1));
+        topicMessageCache.onNext(topicMessage(1));
+        topicMessageCache.onNext(topicMessage(2));
+        topicMessageCache.onNext(topicMessage(2));
+
+        assertThat(topicMessageCache.get(filter(timestamp(1))))
+                .get()
+                .extracting(this::sequenceNumbers)
+                .isEqualTo(List.of(1L, 2L));
+    }
+
+    @Test
+    void gapClearsBuffer() {
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(topicMessage(5));
+        topicMessageCache.onNext(topicMessage(6));
+        topicMessageCache.onNext(topicMessage(8));
+
+        assertThat(topicMessageCache.get(filter(timestamp(6)))).isEmpty();
+        assertThat(topicMessageCache.get(filter(timestamp(8))))
+                .get()
+                .extracting(this::sequenceNumbers)
+                .isEqualTo(List.of(8L));
+    }
+
+    @Test
+    void startTimeBeforeWindow() {
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(topicMessage(5));
+        assertThat(topicMessageCache.get(filter(timestamp(4)))).isEmpty();
+    }
+
+    @Test
+    void startTimeAfterLatest() {
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(topicMessage(5));
+        assertThat(topicMessageCache.get(filter(timestamp(10)))).get().asList().isEmpty();
+    }
+
+    @Test
+    void maxMessages() {
+        retrieverProperties.getCache().setMaxMessages(2);
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(topicMessage(1));
+        topicMessageCache.onNext(topicMessage(2));
+        topicMessageCache.onNext(topicMessage(3));
+
+        assertThat(topicMessageCache.get(filter(timestamp(1)))).isEmpty();
+        assertThat(topicMessageCache.get(filter(timestamp(1).plusNanos(1))))
+                .get()
+                .extracting(this::sequenceNumbers)
+                .isEqualTo(List.of(2L, 3L));
+    }
+
+    @Test
+    void maxAge() {
+        retrieverProperties.getCache().setMaxAge(Duration.ofSeconds(1L));
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(topicMessage(1, now.minusSeconds(5L)));
+        topicMessageCache.onNext(topicMessage(2));
+
+        assertThat(topicMessageCache.get(filter(now.minusSeconds(5L)))).isEmpty();
+        assertThat(topicMessageCache.get(filter(now.minusSeconds(4L))))
+                .get()
+                .extracting(this::sequenceNumbers)
+                .isEqualTo(List.of(2L));
+    }
+
+    @Test
+    void endTimeAndLimit() {
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(topicMessage(1));
+        topicMessageCache.onNext(topicMessage(2));
+        topicMessageCache.onNext(topicMessage(3));
+
+        var endTime = filter(timestamp(1)).toBuilder().endTime(timestamp(3)).build();
+        assertThat(topicMessageCache.get(endTime))
+                .get()
+                .extracting(this::sequenceNumbers)
+                .isEqualTo(List.of(1L, 2L));
+
+        var limit = filter(timestamp(1)).toBuilder().limit(1).build();
+        assertThat(topicMessageCache.get(limit))
+                .get()
+                .extracting(this::sequenceNumbers)
+                .isEqualTo(List.of(1L));
+
+        // The buffer can't tell if there are messages it hasn't received yet before the end time
+        var incomplete = filter(timestamp(2)).toBuilder().endTime(timestamp(10)).build();
+        assertThat(topicMessageCache.get(incomplete)).isEmpty();
+    }
+
+    @Test
+    void release() {
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(topicMessage(1));
+        topicMessageCache.release(TOPIC_ID);
+
+        assertThat(topicMessageCache.get(filter(timestamp(1)))).isEmpty();
+        assertThat(meterRegistry.find(TopicMessageCache.METRIC + ".messages").gauge().value()).isZero();
+        assertThat(meterRegistry.find(TopicMessageCache.METRIC + ".size").gauge().value()).isZero();
+    }
+
+    @Test
+    void disabled() {
+        retrieverProperties.getCache().setEnabled(false);
+        topicMessageCache.acquire(TOPIC_ID);
+        topicMessageCache.onNext(topicMessage(1));
+        assertThat(topicMessageCache.get(filter(timestamp(1)))).isEmpty();
+    }
+
+    private double count(String result) {
+        return meterRegistry.find(TopicMessageCache.METRIC).tag("result", result).counter().count();
+    }
+
+    private TopicMessageFilter filter(Instant startTime) {
+        return TopicMessageFilter.builder()
+                .startTime(startTime)
+                .topicId(TOPIC_ID)
+                .build();
+    }
+
+    private List<Long> sequenceNumbers(List<TopicMessage> topicMessages) {
+        return topicMessages.stream().map(TopicMessage::getSequenceNumber).collect(Collectors.toList());
+    }
+
+    private Instant timestamp(long sequenceNumber) {
+        return now.plusMillis(sequenceNumber);
+    }
+
+    private TopicMessage topicMessage(long sequenceNumber) {
+        return topicMessage(sequenceNumber, timestamp(sequenceNumber));
+    }
+
+    private TopicMessage topicMessage(long sequenceNumber, Instant consensusTimestamp) {
+        return TopicMessage.builder()
+                .consensusTimestamp(consensusTimestamp)
+                .message(new byte[] {0, 1, 2})
+                .sequenceNumber(sequenceNumber)
+                .topicId(TOPIC_ID.getId())
+                .build();
+    }
+}
@@ -0,0 +1,214 @@
+package com.hedera.mirror.grpc.retriever;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import javax.annotation.Resource;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.test.StepVerifier;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.grpc.GrpcIntegrationTest;
+import com.hedera.mirror.grpc.domain.DomainBuilder;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+
+class TopicMessageCursorTest extends GrpcIntegrationTest {
+
+    private static final Duration WAIT = Duration.ofMillis(1000L);
+    private static final EntityId TOPIC_ID = EntityId.of(100L, EntityType.TOPIC);
+
+    @Resource
+    private DataSource dataSource;
+
+    @Autowired
+    private DomainBuilder domainBuilder;
+
+    @Resource
+    private RetrieverProperties retrieverProperties;
+
+    @Resource
+    private TopicMessageCursor topicMessageCursor;
+
+    @Resource
+    private PollingTopicMessageRetriever pollingTopicMessageRetriever;
+
+    private Duration maxHoldTime;
+
+    @BeforeEach
+    void setup() {
+        maxHoldTime = retrieverProperties.getCursor().getMaxHoldTime();
+        retrieverProperties.getCursor().setFetchSize(2);
+    }
+
+    @AfterEach
+    void teardown() {
+        retrieverProperties.getCursor().setEnabled(false);
+        retrieverProperties.getCursor().setFetchSize(1000);
+        retrieverProperties.getCursor().setMaxHoldTime(maxHoldTime);
+    }
+
+    @Test
+    void noMessages() {
+        topicMessageCursor.retrieve(filter().build())
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void moreThanFetchSize() {
+        TopicMessage first = domainBuilder.topicMessages(5, Instant.now()).blockFirst();
+        domainBuilder.topicMessage(t -> t.topicId(101L)).block();
+
+        topicMessageCursor.retrieve(filter().build())
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L, 3L, 4L, 5L)
+                .expectComplete()
+                .verify(WAIT);
+
+        topicMessageCursor.retrieve(filter().build())
+                .take(1)
+                .as(StepVerifier::create)
+                .assertNext(t -> assertThat(t)
+                        .usingRecursiveComparison()
+                        .ignoringFields("consensusTimestampInstant", "response")
+                        .isEqualTo(first))
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void limitAndEndTime() {
+        Instant now = Instant.now();
+        domainBuilder.topicMessages(5, now).blockLast();
+
+        topicMessageCursor.retrieve(filter().limit(3L).build())
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L, 3L)
+                .expectComplete()
+                .verify(WAIT);
+
+        topicMessageCursor.retrieve(filter().endTime(now.plusNanos(2)).build())
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void backpressure() {
+        domainBuilder.topicMessages(5, Instant.now()).blockLast();
+
+        topicMessageCursor.retrieve(filter().build())
+                .map(TopicMessage::getSequenceNumber)
+                .as(p -> StepVerifier.create(p, 1))
+                .expectNext(1L)
+                .thenRequest(2)
+                .expectNext(2L, 3L)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    @Test
+    void maxHoldTime() {
+        domainBuilder.topicMessages(5, Instant.now()).blockLast();
+        retrieverProperties.getCursor().setMaxHoldTime(Duration.ofMillis(100L));
+
+        topicMessageCursor.retrieve(filter().build())
+                .map(TopicMessage::getSequenceNumber)
+                .as(p -> StepVerifier.create(p, 1))
+                .expectNext(1L)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void maxConcurrent() {
+        domainBuilder.topicMessages(2, Instant.now()).blockLast();
+        RetrieverProperties properties = new RetrieverProperties();
+        properties.getCursor().setMaxConcurrent(1);
+        TopicMessageCursor cursor = new TopicMessageCursor(dataSource, properties);
+
+        // the first cursor is still open when the second retrieval starts
+        cursor.retrieve(filter().build())
+                .map(TopicMessage::getSequenceNumber)
+                .as(p -> StepVerifier.create(p, 1))
+                .expectNext(1L)
+                .then(() -> cursor.retrieve(filter().build())
+                        .as(StepVerifier::create)
+                        .expectComplete()
+                        .verify(WAIT))
+                .thenCancel()
+                .verify(WAIT);
+
+        cursor.retrieve(filter().build())
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void retrieverFallsBackToPaging() {
+        domainBuilder.topicMessages(5, Instant.now()).blockLast();
+        retrieverProperties.getCursor().setEnabled(true);
+        retrieverProperties.getCursor().setMaxHoldTime(Duration.ZERO);
+
+        pollingTopicMessageRetriever.retrieve(filter().build(), true)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L, 3L, 4L, 5L)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void retrieverWithCursor() {
+        domainBuilder.topicMessages(5, Instant.now()).blockLast();
+        retrieverProperties.getCursor().setEnabled(true);
+
+        pollingTopicMessageRetriever.retrieve(filter().limit(4L).build(), true)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L, 3L, 4L)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    private TopicMessageFilter.TopicMessageFilterBuilder filter() {
+        return TopicMessageFilter.builder()
+                .startTime(Instant.EPOCH)
+                .topicId(TOPIC_ID);
+    }
+}
@@ -0,0 +1,89 @@
+package com.hedera.mirror.grpc.service;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hedera.mirror.common.domain.addressbook.AddressBookEntry;
+import com.hedera.mirror.grpc.repository.AddressBookEntryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AddressBookSnapshotLoaderTest {
+
+    private static final long TIMESTAMP = 1L;
+
+    @Mock
+    private AddressBookEntryRepository addressBookEntryRepository;
+
+    private AddressBookProperties addressBookProperties;
+    private AddressBookSnapshotLoader addressBookSnapshotLoader;
+
+    @BeforeEach
+    void setup() {
+        addressBookProperties = new AddressBookProperties();
+        addressBookProperties.setPageSize(2);
+        addressBookSnapshotLoader = new AddressBookSnapshotLoader(addressBookProperties, addressBookEntryRepository);
+    }
+
+    @Test
+    void empty() {
+        when(addressBookEntryRepository.findByConsensusTimestampAndNodeId(TIMESTAMP, 0L, 2)).thenReturn(List.of());
+        assertThat(addressBookSnapshotLoader.load(TIMESTAMP)).isEmpty();
+    }
+
+    @Test
+    void lessThanPageSize() {
+        var node0 = addressBookEntry(0L);
+        when(addressBookEntryRepository.findByConsensusTimestampAndNodeId(TIMESTAMP, 0L, 2)).thenReturn(List.of(node0));
+        assertThat(addressBookSnapshotLoader.load(TIMESTAMP)).containsExactly(node0);
+    }
+
+    @Test
+    void multiplePages() {
+        var node0 = addressBookEntry(0L);
+        var node1 = addressBookEntry(1L);
+        var node3 = addressBookEntry(3L);
+        var node4 = addressBookEntry(4L);
+        when(addressBookEntryRepository.findByConsensusTimestampAndNodeId(TIMESTAMP, 0L, 2))
+                .thenReturn(List.of(node0, node1));
+        when(addressBookEntryRepository.findByConsensusTimestampAndNodeId(TIMESTAMP, 2L, 2))
+                .thenReturn(List.of(node3, node4));
+        when(addressBookEntryRepository.findByConsensusTimestampAndNodeId(TIMESTAMP, 5L, 2)).thenReturn(List.of());
+
+        List<AddressBookEntry> nodes = addressBookSnapshotLoader.load(TIMESTAMP);
+
+        assertThat(nodes).containsExactly(node0, node1, node3, node4);
+        assertThatThrownBy(() -> nodes.add(node0)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private AddressBookEntry addressBookEntry(long nodeId) {
+        return AddressBookEntry.builder().consensusTimestamp(TIMESTAMP).nodeId(nodeId).build();
+    }
+}
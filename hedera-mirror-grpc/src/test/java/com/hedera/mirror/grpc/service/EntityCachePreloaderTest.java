@@ -0,0 +1,84 @@
+package com.hedera.mirror.grpc.service;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.grpc.GrpcProperties;
+import com.hedera.mirror.grpc.domain.Entity;
+import com.hedera.mirror.grpc.repository.EntityRepository;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCachePreloaderTest {
+
+    @Mock
+    private EntityRepository entityRepository;
+
+    private Cache cache;
+    private EntityCachePreloader entityCachePreloader;
+    private GrpcProperties grpcProperties;
+
+    @BeforeEach
+    void setup() {
+        var cacheManager = new ConcurrentMapCacheManager();
+        cache = cacheManager.getCache(EntityRepository.CACHE_NAME);
+        grpcProperties = new GrpcProperties();
+        entityCachePreloader = new EntityCachePreloader(cacheManager, entityRepository, grpcProperties);
+    }
+
+    @Test
+    void preload() {
+        var topic1 = topic(1L);
+        var topic2 = topic(2L);
+        var existing = topic(2L);
+        cache.put(2L, existing);
+        when(entityRepository.findTopics(grpcProperties.getEntityCacheSize())).thenReturn(List.of(topic1, topic2));
+
+        entityCachePreloader.preload();
+
+        assertThat(cache.get(1L, Entity.class)).isSameAs(topic1);
+        assertThat(cache.get(2L, Entity.class)).isSameAs(existing);
+    }
+
+    @Test
+    void disabled() {
+        grpcProperties.setEntityCachePreload(false);
+        entityCachePreloader.init();
+        verify(entityRepository, never()).findTopics(grpcProperties.getEntityCacheSize());
+    }
+
+    private Entity topic(long id) {
+        return Entity.builder().id(id).num(id).realm(0L).shard(0L).type(EntityType.TOPIC).build();
+    }
+}
@@ -20,6 +20,7 @@ package com.hedera.mirror.grpc.service;
  * ‍
  */
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
@@ -150,6 +152,25 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 .verify(Duration.ofMillis(100));
     }
 
+    @Test
+    void topicNotFoundCached() {
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .topicId(EntityId.of(999L, EntityType.TOPIC))
+                .build();
+
+        topicMessageService.subscribeTopic(filter)
+                .as(StepVerifier::create)
+                .expectError(EntityNotFoundException.class)
+                .verify(Duration.ofMillis(100));
+
+        domainBuilder.entity(e -> e.num(999L).id(999L)).block();
+
+        topicMessageService.subscribeTopic(filter)
+                .as(StepVerifier::create)
+                .expectError(EntityNotFoundException.class)
+                .verify(Duration.ofMillis(100));
+    }
+
     @Test
     void topicNotFoundWithCheckTopicExistsFalse() {
         grpcProperties.setCheckTopicExists(false);
@@ -638,6 +659,75 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 .verify(Duration.ofMillis(700));
     }
 
+    @Test
+    void slowSubscriberCatchesUp() {
+        TopicListener topicListener = Mockito.mock(TopicListener.class);
+        EntityRepository entityRepository = Mockito.mock(EntityRepository.class);
+        TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GrpcProperties properties = new GrpcProperties();
+        properties.setDemoteSlowSubscribers(true);
+        topicMessageService = new TopicMessageServiceImpl(properties, topicListener, entityRepository,
+                topicMessageRetriever, meterRegistry);
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(Instant.EPOCH)
+                .topicId(topicId)
+                .build();
+
+        Mockito.when(entityRepository.findById(filter.getTopicId().getId()))
+                .thenReturn(Optional.of(Entity.builder().type(EntityType.TOPIC).build()));
+        Mockito.when(topicListener.listen(ArgumentMatchers.any()))
+                .thenReturn(Flux.just(topicMessage(1)).concatWith(Flux.error(Exceptions.failWithOverflow())),
+                        Flux.just(topicMessage(4)));
+        Mockito.when(topicMessageRetriever.retrieve(ArgumentMatchers.eq(filter), ArgumentMatchers.eq(true)))
+                .thenReturn(Flux.empty());
+        Mockito.when(topicMessageRetriever.retrieve(ArgumentMatchers
+                        .argThat(t -> t.getStartTime().equals(topicMessage(1).getConsensusTimestampInstant()
+                                .plusNanos(1))), ArgumentMatchers.eq(true)))
+                .thenReturn(Flux.just(topicMessage(2), topicMessage(3)));
+
+        topicMessageService.subscribeTopic(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L, 3L, 4L)
+                .expectComplete()
+                .verify(Duration.ofMillis(700));
+
+        assertThat(meterRegistry.counter(TopicMessageServiceImpl.METRIC_DEMOTIONS, "type", "TopicMessage").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void slowSubscriberDemotionDisabled() {
+        TopicListener topicListener = Mockito.mock(TopicListener.class);
+        EntityRepository entityRepository = Mockito.mock(EntityRepository.class);
+        TopicMessageRetriever topicMessageRetriever = Mockito.mock(TopicMessageRetriever.class);
+        GrpcProperties properties = new GrpcProperties();
+        properties.setDemoteSlowSubscribers(false);
+        topicMessageService = new TopicMessageServiceImpl(properties, topicListener, entityRepository,
+                topicMessageRetriever, new SimpleMeterRegistry());
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(Instant.EPOCH)
+                .topicId(topicId)
+                .build();
+
+        Mockito.when(entityRepository.findById(filter.getTopicId().getId()))
+                .thenReturn(Optional.of(Entity.builder().type(EntityType.TOPIC).build()));
+        Mockito.when(topicListener.listen(ArgumentMatchers.any()))
+                .thenReturn(Flux.just(topicMessage(1)).concatWith(Flux.error(Exceptions.failWithOverflow())));
+        Mockito.when(topicMessageRetriever.retrieve(ArgumentMatchers.eq(filter), ArgumentMatchers.eq(true)))
+                .thenReturn(Flux.empty());
+
+        topicMessageService.subscribeTopic(filter)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L)
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verify(Duration.ofMillis(700));
+    }
+
     private void missingMessagesFromListenerTest(TopicMessageFilter filter, Flux<TopicMessage> missingMessages) {
         TopicListener topicListener = Mockito.mock(TopicListener.class);
         EntityRepository entityRepository = Mockito.mock(EntityRepository.class);
@@ -21,10 +21,12 @@ package com.hedera.mirror.importer.config;
  */
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -44,6 +46,9 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
+import com.hedera.mirror.importer.downloader.provider.LocalStreamFileProvider;
+import com.hedera.mirror.importer.downloader.provider.S3StreamFileProvider;
+import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
 
 @Configuration
 @Log4j2
@@ -104,6 +109,20 @@ public class CloudStorageConfiguration {
         return clientBuilder.build();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "hedera.mirror.importer.downloader", name = "cloudProvider", havingValue = "LOCAL")
+    StreamFileProvider localStreamFileProvider() {
+        Path path = downloaderProperties.getMirrorProperties().getDataPath();
+        log.info("Configured to read stream files from the local directory {}", path);
+        return new LocalStreamFileProvider(path);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(StreamFileProvider.class)
+    StreamFileProvider s3StreamFileProvider(S3AsyncClient s3AsyncClient) {
+        return new S3StreamFileProvider(downloaderProperties, s3AsyncClient);
+    }
+
     private S3AsyncClientBuilder asyncClientBuilder(String region) {
         SdkAsyncHttpClient httpClient = NettyNioAsyncHttpClient.builder()
                 .maxConcurrency(downloaderProperties.getMaxConcurrency())
@@ -20,6 +20,9 @@ package com.hedera.mirror.importer.config;
  * ‍
  */
 
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.channel.NullChannel;
@@ -28,10 +31,13 @@ import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.dsl.IntegrationFlows;
 import org.springframework.integration.dsl.MessageChannels;
 import org.springframework.integration.dsl.Pollers;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.PollableChannel;
 
 import com.hedera.mirror.common.domain.StreamFile;
 import com.hedera.mirror.common.domain.StreamType;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.parser.ParserProperties;
 import com.hedera.mirror.importer.parser.StreamFileParser;
 import com.hedera.mirror.importer.parser.balance.AccountBalanceFileParser;
@@ -81,8 +87,19 @@ public class MessagingConfiguration {
     }
 
     @Bean
-    IntegrationFlow integrationFlowRecord(RecordFileParser parser) {
-        return integrationFlow(parser);
+    IntegrationFlow integrationFlowRecord(RecordFileParser parser, RecordParserProperties properties,
+                                          @Qualifier(CHANNEL_RECORD) MessageChannel channel) {
+        if (properties.getBatchMaxFiles() <= 1 || !(channel instanceof PollableChannel)) {
+            return integrationFlow(parser);
+        }
+
+        PollableChannel pollableChannel = (PollableChannel) channel;
+        return IntegrationFlows.from(CHANNEL_RECORD)
+                .handle(RecordFile.class, (r, h) -> {
+                    parser.parse(drain(r, pollableChannel, properties));
+                    return null;
+                }, e -> e.poller(Pollers.fixedDelay(properties.getFrequency())))
+                .get();
     }
 
     @Bean
@@ -114,6 +131,32 @@ public class MessagingConfiguration {
                 .get();
     }
 
+    /**
+     * Collects the record files queued behind the first one so they can be parsed in a single transaction. The batch is
+     * closed once it has the maximum number of files or the maximum wait since the first file has elapsed, whichever
+     * comes first, so a slow stream never holds parsed files back for longer than that. The queue preserves the
+     * consensus order of the files.
+     */
+    private List<RecordFile> drain(RecordFile recordFile, PollableChannel channel,
+                                   RecordParserProperties properties) {
+        int maxFiles = properties.getBatchMaxFiles();
+        long deadline = System.currentTimeMillis() + properties.getBatchMaxWait().toMillis();
+        List<RecordFile> recordFiles = new ArrayList<>(maxFiles);
+        recordFiles.add(recordFile);
+
+        while (recordFiles.size() < maxFiles) {
+            long remaining = Math.max(deadline - System.currentTimeMillis(), 0L);
+            Message<?> message = channel.receive(remaining);
+            if (message == null) {
+                break;
+            }
+
+            recordFiles.add((RecordFile) message.getPayload());
+        }
+
+        return recordFiles;
+    }
+
     private String channelName(StreamType streamType) {
         return CHANNEL_STREAM + "." + streamType.toString().toLowerCase();
     }
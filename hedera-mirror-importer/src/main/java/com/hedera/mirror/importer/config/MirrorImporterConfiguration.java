@@ -45,6 +45,7 @@ import com.hedera.mirror.importer.leader.LeaderService;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
 import com.hedera.mirror.importer.parser.batch.BatchPersister;
 import com.hedera.mirror.importer.parser.batch.BatchUpserter;
+import com.hedera.mirror.importer.parser.batch.MergeBatchUpserter;
 import com.hedera.mirror.importer.repository.upsert.TokenDissociateTransferUpsertQueryGenerator;
 
 @Configuration
@@ -90,8 +91,12 @@ public class MirrorImporterConfiguration {
     @Bean(name = TOKEN_DISSOCIATE_BATCH_PERSISTER)
     BatchPersister tokenDissociateTransferBatchPersister(DataSource dataSource, MeterRegistry meterRegistry,
                                                          CommonParserProperties parserProperties) {
-        return new BatchUpserter(TokenTransfer.class, dataSource, meterRegistry, parserProperties,
-                new TokenDissociateTransferUpsertQueryGenerator());
+        var generator = new TokenDissociateTransferUpsertQueryGenerator();
+        if (parserProperties.isMergeUpsert()) {
+            return new MergeBatchUpserter(TokenTransfer.class, dataSource, meterRegistry, parserProperties, generator);
+        }
+
+        return new BatchUpserter(TokenTransfer.class, dataSource, meterRegistry, parserProperties, generator);
     }
 
     @Configuration
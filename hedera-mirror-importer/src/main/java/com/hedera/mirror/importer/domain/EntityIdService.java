@@ -22,6 +22,7 @@ package com.hedera.mirror.importer.domain;
 
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Collection;
 
 import com.hedera.mirror.common.domain.Aliasable;
 import com.hedera.mirror.common.domain.entity.EntityId;
@@ -96,6 +97,16 @@ public interface EntityIdService {
      */
     EntityId lookup(AliasNotFoundAction action, ContractID... contractIds);
 
+    /**
+     * Resolves the aliases and EVM addresses among the given IDs in bulk and caches the results, so later lookups of
+     * the same IDs are served from the cache instead of issuing a query each. IDs that can't be resolved are skipped
+     * and left for the regular lookup to handle.
+     *
+     * @param accountIds The protobuf account IDs
+     * @param contractIds The protobuf contract IDs
+     */
+    void preload(Collection<AccountID> accountIds, Collection<ContractID> contractIds);
+
     /**
      * Used to notify the system of new aliases for potential use in future lookups.
      *
@@ -24,13 +24,24 @@ import static com.hedera.mirror.common.domain.entity.EntityType.ACCOUNT;
 import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
 import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_MANAGER_ALIAS;
 
+import com.google.common.collect.Iterables;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.GeneratedMessageV3;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import javax.inject.Named;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
@@ -45,6 +56,7 @@ import com.hedera.mirror.common.exception.InvalidEntityException;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.exception.AliasNotFoundException;
 import com.hedera.mirror.importer.exception.InvalidDatasetException;
+import com.hedera.mirror.importer.repository.AliasEntityId;
 import com.hedera.mirror.importer.repository.ContractRepository;
 import com.hedera.mirror.importer.repository.EntityRepository;
 
@@ -52,15 +64,32 @@ import com.hedera.mirror.importer.repository.EntityRepository;
 @Named
 public class EntityIdServiceImpl implements EntityIdService {
 
+    // Stays well below the maximum number of bind parameters of a single statement
+    private static final int PRELOAD_BATCH_SIZE = 1000;
+
     private final Cache cache;
     private final ContractRepository contractRepository;
     private final EntityRepository entityRepository;
 
+    // Metrics
+    private final Counter preloadHitMetric;
+    private final Counter preloadMissMetric;
+    private final DistributionSummary preloadBatchSizeMetric;
+
     public EntityIdServiceImpl(@Named(CACHE_MANAGER_ALIAS) CacheManager cacheManager,
-                               ContractRepository contractRepository, EntityRepository entityRepository) {
+                               ContractRepository contractRepository, EntityRepository entityRepository,
+                               MeterRegistry meterRegistry) {
         this.cache = cacheManager.getCache("entityId");
         this.contractRepository = contractRepository;
         this.entityRepository = entityRepository;
+
+        Counter.Builder preloadMetric = Counter.builder("hedera.mirror.importer.entityid.preload")
+                .description("The number of aliases and EVM addresses to preload by whether they were already cached");
+        preloadHitMetric = preloadMetric.tag("result", "hit").register(meterRegistry);
+        preloadMissMetric = preloadMetric.tag("result", "miss").register(meterRegistry);
+        preloadBatchSizeMetric = DistributionSummary.builder("hedera.mirror.importer.entityid.preload.batch")
+                .description("The number of aliases or EVM addresses resolved in a single query")
+                .register(meterRegistry);
     }
 
     @Override
@@ -114,6 +143,66 @@ public class EntityIdServiceImpl implements EntityIdService {
         return EntityId.EMPTY;
     }
 
+    @Override
+    public void preload(Collection<AccountID> accountIds, Collection<ContractID> contractIds) {
+        Map<ByteBuffer, List<Integer>> aliases = new HashMap<>();
+        Map<ByteBuffer, List<Integer>> evmAddresses = new HashMap<>();
+
+        for (AccountID accountId : accountIds) {
+            if (accountId.getAccountCase() == AccountID.AccountCase.ALIAS && isCacheMiss(accountId)) {
+                byte[] alias = DomainUtils.toBytes(accountId.getAlias());
+                if (alias.length == DomainUtils.EVM_ADDRESS_LENGTH) {
+                    addEvmAddress(evmAddresses, accountId, alias, accountId.getShardNum(), accountId.getRealmNum());
+                } else {
+                    aliases.computeIfAbsent(ByteBuffer.wrap(alias), k -> new ArrayList<>()).add(accountId.hashCode());
+                }
+            }
+        }
+
+        for (ContractID contractId : contractIds) {
+            if (contractId.getContractCase() == ContractID.ContractCase.EVM_ADDRESS && isCacheMiss(contractId)) {
+                byte[] evmAddress = DomainUtils.toBytes(contractId.getEvmAddress());
+                addEvmAddress(evmAddresses, contractId, evmAddress, contractId.getShardNum(),
+                        contractId.getRealmNum());
+            }
+        }
+
+        preload(aliases, ACCOUNT, entityRepository::findByAliasIn);
+        preload(evmAddresses, CONTRACT, contractRepository::findByEvmAddressIn);
+    }
+
+    private boolean isCacheMiss(GeneratedMessageV3 entityIdProto) {
+        boolean miss = cache.get(entityIdProto.hashCode()) == null;
+        (miss ? preloadMissMetric : preloadHitMetric).increment();
+        return miss;
+    }
+
+    private void addEvmAddress(Map<ByteBuffer, List<Integer>> evmAddresses, GeneratedMessageV3 entityIdProto,
+                               byte[] evmAddress, long shardNum, long realmNum) {
+        // Same as findByEvmAddress, an evmAddress in the 'shard.realm.num' form doesn't need a query
+        EntityId entityId = DomainUtils.fromEvmAddress(evmAddress);
+        if (entityId != null && entityId.getShardNum() == shardNum && entityId.getRealmNum() == realmNum) {
+            cache.put(entityIdProto.hashCode(), entityId);
+        } else {
+            evmAddresses.computeIfAbsent(ByteBuffer.wrap(evmAddress), k -> new ArrayList<>())
+                    .add(entityIdProto.hashCode());
+        }
+    }
+
+    private void preload(Map<ByteBuffer, List<Integer>> cacheKeys, EntityType type,
+                         Function<Collection<byte[]>, List<AliasEntityId>> finder) {
+        for (List<ByteBuffer> batch : Iterables.partition(cacheKeys.keySet(), PRELOAD_BATCH_SIZE)) {
+            List<byte[]> aliases = batch.stream().map(ByteBuffer::array).collect(Collectors.toList());
+            preloadBatchSizeMetric.record(aliases.size());
+
+            for (AliasEntityId aliasEntityId : finder.apply(aliases)) {
+                EntityId entityId = EntityId.of(aliasEntityId.getId(), type);
+                cacheKeys.getOrDefault(ByteBuffer.wrap(aliasEntityId.getAlias()), List.of())
+                        .forEach(key -> cache.put(key, entityId));
+            }
+        }
+    }
+
     @Override
     public void notify(Aliasable aliasable) {
         if (aliasable == null || (aliasable.getDeleted() != null && aliasable.getDeleted())) {
@@ -59,10 +59,15 @@ public class CommonDownloaderProperties {
     @Min(0)
     private int maxConcurrency = 1000; // aws sdk default = 50
 
+    @Min(0)
+    private int prefetch = 0;
+
     private String region = "us-east-1";
 
     private String secretKey;
 
+    private boolean signatureQuorum = false;
+
     public String getBucketName() {
         return StringUtils.isNotBlank(bucketName) ? bucketName : mirrorProperties.getNetwork().getBucketName();
     }
@@ -85,7 +90,8 @@ public class CommonDownloaderProperties {
     @RequiredArgsConstructor
     public enum CloudProvider {
         S3("https://s3.amazonaws.com"),
-        GCP("https://storage.googleapis.com");
+        GCP("https://storage.googleapis.com"),
+        LOCAL(null);
 
         private final String endpoint;
     }
@@ -29,6 +29,7 @@ import com.google.common.base.Stopwatch;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.TreeMultimap;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.nio.file.Path;
@@ -36,12 +37,17 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -49,14 +55,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import lombok.Value;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import software.amazon.awssdk.core.async.AsyncResponseTransformer;
-import software.amazon.awssdk.services.s3.S3AsyncClient;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
-import software.amazon.awssdk.services.s3.model.RequestPayer;
-import software.amazon.awssdk.services.s3.model.S3Object;
 
 import com.hedera.mirror.common.domain.StreamFile;
 import com.hedera.mirror.common.domain.StreamType;
@@ -68,6 +69,7 @@ import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
 import com.hedera.mirror.importer.domain.FileStreamSignature;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.domain.StreamFilename;
+import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
 import com.hedera.mirror.importer.exception.HashMismatchException;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
 import com.hedera.mirror.importer.exception.SignatureVerificationException;
@@ -81,6 +83,7 @@ public abstract class Downloader<T extends StreamFile> {
     private static final String HASH_TYPE_FILE = "File";
     private static final String HASH_TYPE_METADATA = "Metadata";
     private static final String HASH_TYPE_RUNNING = "Running";
+    private static final double NODE_LATENCY_WEIGHT = 0.2;
 
     protected final Logger log = LogManager.getLogger(getClass());
     protected final DownloaderProperties downloaderProperties;
@@ -90,26 +93,29 @@ public abstract class Downloader<T extends StreamFile> {
     protected final StreamFileNotifier streamFileNotifier;
     protected final MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor;
     protected final AtomicReference<Optional<T>> lastStreamFile = new AtomicReference<>(Optional.empty());
-    private final S3AsyncClient s3Client;
+    private final StreamFileProvider streamFileProvider;
     private final AddressBookService addressBookService;
     private final ExecutorService signatureDownloadThreadPool; // One per node during the signature download process
     private final MirrorProperties mirrorProperties;
     private final CommonDownloaderProperties commonDownloaderProperties;
     private final StreamType streamType;
+    private final Map<EntityId, Double> nodeLatencies = new ConcurrentHashMap<>(); // Moving average in nanoseconds
     // Metrics
     private final MeterRegistry meterRegistry;
     private final Timer cloudStorageLatencyMetric;
     private final Timer downloadLatencyMetric;
     private final Timer streamCloseMetric;
     private final Timer.Builder streamVerificationMetric;
+    private final AtomicInteger prefetchDepth = new AtomicInteger(0);
+    private final Timer prefetchStallMetric;
 
-    protected Downloader(S3AsyncClient s3Client,
+    protected Downloader(StreamFileProvider streamFileProvider,
                          AddressBookService addressBookService, DownloaderProperties downloaderProperties,
                          MeterRegistry meterRegistry, NodeSignatureVerifier nodeSignatureVerifier,
                          SignatureFileReader signatureFileReader, StreamFileReader<T, ?> streamFileReader,
                          StreamFileNotifier streamFileNotifier,
                          MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor) {
-        this.s3Client = s3Client;
+        this.streamFileProvider = streamFileProvider;
         this.addressBookService = addressBookService;
         this.downloaderProperties = downloaderProperties;
         this.meterRegistry = meterRegistry;
@@ -146,6 +152,16 @@ public abstract class Downloader<T extends StreamFile> {
         streamVerificationMetric = Timer.builder("hedera.mirror.download.stream.verification")
                 .description("The duration in seconds it took to verify consensus and hash chain of a stream file")
                 .tag("type", streamType.toString());
+
+        Gauge.builder("hedera.mirror.download.prefetch.depth", prefetchDepth, AtomicInteger::get)
+                .description("The number of data files being prefetched ahead of the stream file being verified")
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
+
+        prefetchStallMetric = Timer.builder("hedera.mirror.download.prefetch.stall")
+                .description("The time spent waiting for a prefetched data file download to complete")
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
     }
 
     public abstract void download();
@@ -194,9 +210,14 @@ public abstract class Downloader<T extends StreamFile> {
         Multimap<String, FileStreamSignature> sigFilesMap = Multimaps
                 .synchronizedSortedSetMultimap(TreeMultimap.create());
 
+        if (commonDownloaderProperties.isSignatureQuorum()) {
+            return downloadQuorumSigFiles(addressBook, startAfterFilename, sigFilesMap);
+        }
+
         Set<EntityId> nodeAccountIds = addressBook.getNodeSet();
         List<Callable<Object>> tasks = new ArrayList<>(nodeAccountIds.size());
         AtomicInteger totalDownloads = new AtomicInteger();
+        Map<String, AtomicInteger> verifiedCounts = new ConcurrentHashMap<>();
         log.info("Downloading signature files created after file: {}", startAfterFilename);
 
         /*
@@ -209,13 +230,14 @@ public abstract class Downloader<T extends StreamFile> {
                 Stopwatch stopwatch = Stopwatch.createStarted();
 
                 try {
-                    List<S3Object> s3Objects = listFiles(startAfterFilename, nodeAccountIdStr);
-                    List<PendingDownload> pendingDownloads = downloadSignatureFiles(nodeAccountIdStr, s3Objects);
+                    List<String> keys = listFiles(startAfterFilename, nodeAccountIdStr);
+                    List<PendingDownload> pendingDownloads = downloadSignatureFiles(nodeAccountIdStr, keys);
                     AtomicInteger count = new AtomicInteger();
                     pendingDownloads.forEach(pendingDownload -> {
                         try {
                             parseSignatureFile(pendingDownload, nodeAccountId)
                                     .ifPresent(fileStreamSignature -> {
+                                        verifySignature(fileStreamSignature, addressBook, verifiedCounts);
                                         sigFilesMap.put(fileStreamSignature.getFilename(), fileStreamSignature);
                                         count.incrementAndGet();
                                         totalDownloads.incrementAndGet();
@@ -254,27 +276,120 @@ public abstract class Downloader<T extends StreamFile> {
         return sigFilesMap;
     }
 
-    private List<S3Object> listFiles(String lastFilename, String nodeAccountId) throws ExecutionException,
+    /**
+     * Lists the signature files of every node, but downloads each signature file from only as many nodes as needed for
+     * its file hash to reach consensus. Nodes are tried in order of their recent download latency, with nodes that have
+     * no latency yet tried first in random order. Signatures are verified as they arrive and a download from the next
+     * node is only started when a download fails, its signature is invalid or its file hash differs. Once a file hash
+     * reaches consensus, the outstanding downloads for that file are cancelled.
+     *
+     * @param addressBook        the current address book
+     * @param startAfterFilename the filename to list the signature files after
+     * @param sigFilesMap        the multi-map to put the downloaded signature files into
+     * @return a multi-map of signature file objects from different nodes, grouped by filename
+     */
+    private Multimap<String, FileStreamSignature> downloadQuorumSigFiles(AddressBook addressBook,
+                                                                         String startAfterFilename,
+                                                                         Multimap<String, FileStreamSignature> sigFilesMap)
+            throws InterruptedException {
+        List<EntityId> nodeAccountIds = new ArrayList<>(addressBook.getNodeSet());
+        Collections.shuffle(nodeAccountIds);
+        nodeAccountIds.sort(Comparator.comparingDouble(n -> nodeLatencies.getOrDefault(n, 0.0)));
+        log.info("Downloading signature files created after file: {}", startAfterFilename);
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Map<EntityId, CompletableFuture<List<String>>> listings = new HashMap<>();
+        nodeAccountIds.forEach(n -> listings.put(n, listFilesAsync(startAfterFilename, n.entityIdToString())));
+
+        // The candidate nodes of each signature file in latency order
+        Map<String, List<SignatureCandidate>> candidates = new HashMap<>();
+        for (EntityId nodeAccountId : nodeAccountIds) {
+            try {
+                String s3Prefix = getS3Prefix(nodeAccountId.entityIdToString());
+                getSignatureFilenames(listings.get(nodeAccountId).get()).forEach(s -> candidates
+                        .computeIfAbsent(s.getFilename(), k -> new ArrayList<>())
+                        .add(new SignatureCandidate(nodeAccountId, s, s3Prefix)));
+            } catch (ExecutionException e) {
+                log.error("Error listing signature files for node {} after {}", nodeAccountId, stopwatch, e);
+            }
+        }
+
+        long nodeCount = addressBook.getNodeAccountIDPubKeyMap().size();
+        List<CompletableFuture<Void>> quorums = candidates.values()
+                .stream()
+                .map(c -> new SignatureQuorum(addressBook, c, nodeCount, sigFilesMap).start())
+                .collect(Collectors.toList());
+
+        try {
+            CompletableFuture.allOf(quorums.toArray(new CompletableFuture[0])).get();
+        } catch (ExecutionException e) {
+            log.error("Error downloading signature files after {}", stopwatch, e);
+        }
+
+        if (!sigFilesMap.isEmpty()) {
+            var rate = (int) (1000000.0 * sigFilesMap.size() / stopwatch.elapsed(TimeUnit.MICROSECONDS));
+            log.info("Downloaded {} signatures for {} files in {} ({}/s)", sigFilesMap.size(),
+                    sigFilesMap.keySet().size(), stopwatch, rate);
+        }
+
+        return sigFilesMap;
+    }
+
+    /**
+     * Updates the moving average latency of the node. A cancelled download was cut short when the others reached
+     * consensus, so its elapsed time only proves the node is no faster than its average and can't lower it.
+     */
+    private void recordNodeLatency(EntityId nodeAccountId, Duration latency, boolean cancelled) {
+        double nanos = latency.toNanos();
+        nodeLatencies.merge(nodeAccountId, nanos, (avg, n) -> {
+            double sample = cancelled ? Math.max(n, avg) : n;
+            return avg + NODE_LATENCY_WEIGHT * (sample - avg);
+        });
+    }
+
+    /**
+     * Verifies the signature on the node's download thread so the verification of a batch is spread across the thread
+     * pool. Verification is skipped if enough signatures with the same file hash are already verified to reach
+     * consensus, in which case the signature is left for {@link NodeSignatureVerifier#verify(Collection)} to skip.
+     */
+    private void verifySignature(FileStreamSignature fileStreamSignature, AddressBook addressBook,
+                                 Map<String, AtomicInteger> verifiedCounts) {
+        String key = fileStreamSignature.getFilename() + "/" + fileStreamSignature.getFileHashAsHex();
+        AtomicInteger verifiedCount = verifiedCounts.computeIfAbsent(key, k -> new AtomicInteger());
+        long nodeCount = addressBook.getNodeAccountIDPubKeyMap().size();
+
+        if (verifiedCount.get() > 0 && nodeSignatureVerifier.canReachConsensus(verifiedCount.get(), nodeCount)) {
+            return;
+        }
+
+        if (nodeSignatureVerifier.verifySignature(fileStreamSignature, addressBook)) {
+            verifiedCount.incrementAndGet();
+        }
+    }
+
+    private List<String> listFiles(String lastFilename, String nodeAccountId) throws ExecutionException,
             InterruptedException {
+        return listFilesAsync(lastFilename, nodeAccountId).get();
+    }
+
+    private CompletableFuture<List<String>> listFilesAsync(String lastFilename, String nodeAccountId) {
         // batchSize (number of items we plan do download in a single batch) times 2 for file + sig.
         int listSize = (downloaderProperties.getBatchSize() * 2);
         String s3Prefix = getS3Prefix(nodeAccountId);
-        // Not using ListObjectsV2Request because it does not work with GCP.
-        ListObjectsRequest listRequest = ListObjectsRequest.builder()
-                .bucket(commonDownloaderProperties.getBucketName())
-                .prefix(s3Prefix)
-                .delimiter("/")
-                .marker(s3Prefix + lastFilename)
-                .maxKeys(listSize)
-                .requestPayer(RequestPayer.REQUESTER)
-                .build();
-        return s3Client.listObjects(listRequest).get().contents();
+        return streamFileProvider.list(s3Prefix, s3Prefix + lastFilename, listSize);
     }
 
-    private List<PendingDownload> downloadSignatureFiles(String nodeAccountId, List<S3Object> s3Objects) {
+    private List<PendingDownload> downloadSignatureFiles(String nodeAccountId, List<String> keys) {
+        String s3Prefix = getS3Prefix(nodeAccountId);
+        return getSignatureFilenames(keys)
+                .stream()
+                .map(s -> pendingDownload(s, s3Prefix))
+                .collect(Collectors.toList());
+    }
+
+    private List<StreamFilename> getSignatureFilenames(List<String> keys) {
         // group the signature filenames by its instant
-        Map<Instant, Optional<StreamFilename>> signatureFilenamesByInstant = s3Objects.stream()
-                .map(S3Object::key)
+        Map<Instant, Optional<StreamFilename>> signatureFilenamesByInstant = keys.stream()
                 .map(key -> key.substring(key.lastIndexOf('/') + 1))
                 .map(filename -> {
                     try {
@@ -287,11 +402,10 @@ public abstract class Downloader<T extends StreamFile> {
                 .filter(s -> s != null && s.getFileType() == SIGNATURE)
                 .collect(groupingBy(StreamFilename::getInstant, maxBy(StreamFilename.EXTENSION_COMPARATOR)));
 
-        String s3Prefix = getS3Prefix(nodeAccountId);
         return signatureFilenamesByInstant.values()
                 .stream()
                 .filter(Optional::isPresent)
-                .map(s -> pendingDownload(s.get(), s3Prefix))
+                .map(Optional::get)
                 .collect(Collectors.toList());
     }
 
@@ -335,7 +449,7 @@ public abstract class Downloader<T extends StreamFile> {
 
     /**
      * Returns a PendingDownload for which the caller can waitForCompletion() to wait for the download to complete. This
-     * either queues or begins the download (depending on the AWS TransferManager).
+     * either queues or begins the download (depending on the StreamFileProvider).
      *
      * @param streamFilename
      * @param s3Prefix
@@ -343,12 +457,7 @@ public abstract class Downloader<T extends StreamFile> {
      */
     private PendingDownload pendingDownload(StreamFilename streamFilename, String s3Prefix) {
         String s3Key = s3Prefix + streamFilename.getFilename();
-        var request = GetObjectRequest.builder()
-                .bucket(commonDownloaderProperties.getBucketName())
-                .key(s3Key)
-                .requestPayer(RequestPayer.REQUESTER)
-                .build();
-        var future = s3Client.getObject(request, AsyncResponseTransformer.toBytes());
+        var future = streamFileProvider.get(s3Key);
         return new PendingDownload(future, streamFilename, s3Key);
     }
 
@@ -359,102 +468,165 @@ public abstract class Downloader<T extends StreamFile> {
      * file. (3) compare the hash of data file with Hash which has been agreed on by valid signatures, if match, move
      * the data file into `valid` directory; else download the data file from other valid node folder and compare the
      * hash until we find a match.
+     * <p>
+     * If prefetch is enabled, the data files of the next signature groups are verified and downloaded ahead of time so
+     * that their downloads overlap with the processing of the current group. Hash chain verification still happens in
+     * order.
      *
      * @param sigFilesMap signature files grouped by filename
      */
     private void verifySigsAndDownloadDataFiles(Multimap<String, FileStreamSignature> sigFilesMap) {
         Instant endDate = mirrorProperties.getEndDate();
+        List<String> sigFilenames = new ArrayList<>(sigFilesMap.keySet());
+        Map<String, Prefetch> prefetches = new HashMap<>();
 
-        for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
-            if (ShutdownHelper.isStopping()) {
-                return;
-            }
-
-            Instant startTime = Instant.now();
-            String sigFilename = sigFilenameIter.next();
-            Collection<FileStreamSignature> signatures = sigFilesMap.get(sigFilename);
-            boolean valid = false;
-
-            try {
-                nodeSignatureVerifier.verify(signatures);
-            } catch (SignatureVerificationException ex) {
-                if (sigFilenameIter.hasNext()) {
-                    log.warn("Signature verification failed but still have files in the batch, try to process the " +
-                            "next group: {}", ex.getMessage());
-                    continue;
-                }
-                throw ex;
-            }
-
-            for (FileStreamSignature signature : signatures) {
+        try {
+            for (int index = 0; index < sigFilenames.size(); index++) {
                 if (ShutdownHelper.isStopping()) {
                     return;
                 }
 
-                // Ignore signatures that didn't validate or weren't in the majority
-                if (signature.getStatus() != FileStreamSignature.SignatureStatus.CONSENSUS_REACHED) {
-                    continue;
-                }
+                Instant startTime = Instant.now();
+                String sigFilename = sigFilenames.get(index);
+                Collection<FileStreamSignature> signatures = sigFilesMap.get(sigFilename);
+                boolean hasNext = index < sigFilenames.size() - 1;
+                boolean valid = false;
+
+                prefetch(sigFilesMap, sigFilenames, index + 1, prefetches);
+                Prefetch prefetch = prefetches.remove(sigFilename);
+                prefetchDepth.set(prefetches.size());
 
                 try {
-                    PendingDownload pendingDownload = downloadSignedDataFile(signature);
-                    if (!pendingDownload.waitForCompletion()) {
+                    if (prefetch == null) {
+                        nodeSignatureVerifier.verify(signatures);
+                    } else if (prefetch.getException() != null) {
+                        throw prefetch.getException();
+                    }
+                } catch (SignatureVerificationException ex) {
+                    if (hasNext) {
+                        log.warn("Signature verification failed but still have files in the batch, try to process " +
+                                "the next group: {}", ex.getMessage());
                         continue;
                     }
+                    throw ex;
+                }
 
-                    StreamFilename dataFilename = pendingDownload.getStreamFilename();
-                    StreamFileData streamFileData = new StreamFileData(dataFilename, pendingDownload.getBytes());
-                    T streamFile = streamFileReader.read(streamFileData);
-                    streamFile.setNodeAccountId(signature.getNodeAccountId());
-
-                    verify(streamFile, signature);
-
-                    if (downloaderProperties.isWriteFiles()) {
-                        Utility.archiveFile(streamFile.getName(), streamFile.getBytes(),
-                                downloaderProperties.getNodeStreamPath(signature.getNodeAccountIdString()));
+                for (FileStreamSignature signature : signatures) {
+                    if (ShutdownHelper.isStopping()) {
+                        return;
                     }
 
-                    if (downloaderProperties.isWriteSignatures()) {
-                        signatures.forEach(s -> {
-                            Path destination = downloaderProperties.getNodeStreamPath(s.getNodeAccountIdString());
-                            Utility.archiveFile(s.getFilename(), s.getBytes(), destination);
-                        });
+                    // Ignore signatures that didn't validate or weren't in the majority
+                    if (signature.getStatus() != FileStreamSignature.SignatureStatus.CONSENSUS_REACHED) {
+                        continue;
                     }
 
-                    if (!downloaderProperties.isPersistBytes()) {
-                        streamFile.setBytes(null);
-                    }
+                    try {
+                        PendingDownload pendingDownload;
+                        if (prefetch != null && prefetch.getSignature() == signature) {
+                            pendingDownload = prefetch.getPendingDownload();
+                            Stopwatch stall = Stopwatch.createStarted();
+                            pendingDownload.waitForCompletion();
+                            prefetchStallMetric.record(stall.elapsed());
+                        } else {
+                            pendingDownload = downloadSignedDataFile(signature);
+                        }
 
-                    if (dataFilename.getInstant().isAfter(endDate)) {
-                        downloaderProperties.setEnabled(false);
-                        log.warn("Disabled polling after downloading all files <= endDate ({})", endDate);
-                        return;
+                        if (!pendingDownload.waitForCompletion()) {
+                            continue;
+                        }
+
+                        StreamFilename dataFilename = pendingDownload.getStreamFilename();
+                        StreamFileData streamFileData = new StreamFileData(dataFilename, pendingDownload.getBytes());
+                        T streamFile = streamFileReader.read(streamFileData);
+                        streamFile.setNodeAccountId(signature.getNodeAccountId());
+
+                        verify(streamFile, signature);
+
+                        if (downloaderProperties.isWriteFiles()) {
+                            Utility.archiveFile(streamFile.getName(), streamFile.getBytes(),
+                                    downloaderProperties.getNodeStreamPath(signature.getNodeAccountIdString()));
+                        }
+
+                        if (downloaderProperties.isWriteSignatures()) {
+                            signatures.forEach(s -> {
+                                Path destination = downloaderProperties.getNodeStreamPath(s.getNodeAccountIdString());
+                                Utility.archiveFile(s.getFilename(), s.getBytes(), destination);
+                            });
+                        }
+
+                        if (!downloaderProperties.isPersistBytes()) {
+                            streamFile.setBytes(null);
+                        }
+
+                        if (dataFilename.getInstant().isAfter(endDate)) {
+                            downloaderProperties.setEnabled(false);
+                            log.warn("Disabled polling after downloading all files <= endDate ({})", endDate);
+                            return;
+                        }
+
+                        onVerified(pendingDownload, streamFile);
+                        valid = true;
+                        break;
+                    } catch (HashMismatchException e) {
+                        log.warn("Failed to verify data file from node {} corresponding to {}. Will retry another " +
+                                "node", signature.getNodeAccountIdString(), sigFilename, e);
+                    } catch (InterruptedException e) {
+                        log.warn("Failed to download data file from node {} corresponding to {}",
+                                signature.getNodeAccountIdString(), sigFilename, e);
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        log.error("Error downloading data file from node {} corresponding to {}. Will retry another " +
+                                "node", signature.getNodeAccountIdString(), sigFilename, e);
                     }
+                }
 
-                    onVerified(pendingDownload, streamFile);
-                    valid = true;
-                    break;
-                } catch (HashMismatchException e) {
-                    log.warn("Failed to verify data file from node {} corresponding to {}. Will retry another node",
-                            signature.getNodeAccountIdString(), sigFilename, e);
-                } catch (InterruptedException e) {
-                    log.warn("Failed to download data file from node {} corresponding to {}",
-                            signature.getNodeAccountIdString(), sigFilename, e);
-                    Thread.currentThread().interrupt();
-                } catch (Exception e) {
-                    log.error("Error downloading data file from node {} corresponding to {}. Will retry another node",
-                            signature.getNodeAccountIdString(), sigFilename, e);
+                if (!valid) {
+                    log.error("None of the data files could be verified, signatures: {}", signatures);
                 }
+
+                streamVerificationMetric.tag("success", String.valueOf(valid))
+                        .register(meterRegistry)
+                        .record(Duration.between(startTime, Instant.now()));
             }
+        } finally {
+            prefetches.values().forEach(Prefetch::cancel);
+            prefetchDepth.set(0);
+        }
+    }
 
-            if (!valid) {
-                log.error("None of the data files could be verified, signatures: {}", signatures);
+    /**
+     * Verifies the signatures and starts the data file download for up to the configured number of signature groups
+     * following the current one. At most that number of prefetched downloads are in flight at any time.
+     *
+     * @param sigFilesMap  signature files grouped by filename
+     * @param sigFilenames the ordered signature filenames
+     * @param start        the index of the first signature group to prefetch
+     * @param prefetches   the in-flight prefetches keyed by signature filename
+     */
+    private void prefetch(Multimap<String, FileStreamSignature> sigFilesMap, List<String> sigFilenames, int start,
+                          Map<String, Prefetch> prefetches) {
+        int end = Math.min(sigFilenames.size(), start + commonDownloaderProperties.getPrefetch());
+
+        for (int index = start; index < end && !ShutdownHelper.isStopping(); index++) {
+            String sigFilename = sigFilenames.get(index);
+            if (prefetches.containsKey(sigFilename)) {
+                continue;
             }
 
-            streamVerificationMetric.tag("success", String.valueOf(valid))
-                    .register(meterRegistry)
-                    .record(Duration.between(startTime, Instant.now()));
+            Collection<FileStreamSignature> signatures = sigFilesMap.get(sigFilename);
+            try {
+                nodeSignatureVerifier.verify(signatures);
+                signatures.stream()
+                        .filter(s -> s.getStatus() == FileStreamSignature.SignatureStatus.CONSENSUS_REACHED)
+                        .findFirst()
+                        .ifPresent(s -> prefetches.put(sigFilename, new Prefetch(s, downloadSignedDataFile(s), null)));
+            } catch (SignatureVerificationException e) {
+                prefetches.put(sigFilename, new Prefetch(null, null, e));
+            }
         }
+
+        prefetchDepth.set(prefetches.size());
     }
 
     private PendingDownload downloadSignedDataFile(FileStreamSignature fileStreamSignature) {
@@ -477,7 +649,7 @@ public abstract class Downloader<T extends StreamFile> {
                     long latency = streamFile.getConsensusStart() - last.getConsensusStart();
                     streamCloseMetric.record(latency, TimeUnit.NANOSECONDS);
                 });
-        Instant cloudStorageTime = pendingDownload.getObjectResponse().lastModified();
+        Instant cloudStorageTime = pendingDownload.getLastModified();
         Instant consensusEnd = Instant.ofEpochSecond(0, streamFile.getConsensusEnd());
         cloudStorageLatencyMetric.record(Duration.between(consensusEnd, cloudStorageTime));
         downloadLatencyMetric.record(Duration.between(consensusEnd, Instant.now()));
@@ -551,4 +723,135 @@ public abstract class Downloader<T extends StreamFile> {
 
         return streamFile.getPreviousHash().contentEquals(expectedPreviousHash);
     }
+
+    @Value
+    private static class SignatureCandidate {
+        private final EntityId nodeAccountId;
+        private final StreamFilename streamFilename;
+        private final String s3Prefix;
+    }
+
+    /**
+     * Downloads the signature file of a single stream file from its candidate nodes until its file hash reaches
+     * consensus or there are no more candidates.
+     */
+    private class SignatureQuorum {
+
+        private final AddressBook addressBook;
+        private final List<SignatureCandidate> candidates;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final Map<String, Integer> hashCounts = new HashMap<>();
+        private final List<PendingDownload> inFlight = new ArrayList<>();
+        private final long nodeCount;
+        private final Multimap<String, FileStreamSignature> sigFilesMap;
+        private int next = 0;
+        private int verified = 0; // The highest count of verified signatures for a single file hash
+
+        SignatureQuorum(AddressBook addressBook, List<SignatureCandidate> candidates, long nodeCount,
+                        Multimap<String, FileStreamSignature> sigFilesMap) {
+            this.addressBook = addressBook;
+            this.candidates = candidates;
+            this.nodeCount = nodeCount;
+            this.sigFilesMap = sigFilesMap;
+        }
+
+        synchronized CompletableFuture<Void> start() {
+            downloadMore();
+            return done;
+        }
+
+        /**
+         * Starts downloads from the next candidates until the ones in flight could reach consensus if they all succeed
+         * with the leading file hash.
+         */
+        private void downloadMore() {
+            while (next < candidates.size() && !ShutdownHelper.isStopping()) {
+                long possible = (long) verified + inFlight.size();
+                if (possible > 0 && nodeSignatureVerifier.canReachConsensus(possible, nodeCount)) {
+                    break;
+                }
+
+                SignatureCandidate candidate = candidates.get(next++);
+                PendingDownload pendingDownload = pendingDownload(candidate.getStreamFilename(),
+                        candidate.getS3Prefix());
+                inFlight.add(pendingDownload);
+                pendingDownload.getFuture().whenCompleteAsync((r, e) -> onDownload(candidate, pendingDownload),
+                        signatureDownloadThreadPool);
+            }
+
+            if (inFlight.isEmpty()) {
+                done.complete(null);
+            }
+        }
+
+        private void onDownload(SignatureCandidate candidate, PendingDownload pendingDownload) {
+            EntityId nodeAccountId = candidate.getNodeAccountId();
+            FileStreamSignature fileStreamSignature = null;
+            boolean valid = false;
+
+            try {
+                if (done.isDone()) {
+                    // Downloads cancelled once consensus was reached only show the node was slower than the others
+                    recordNodeLatency(nodeAccountId, pendingDownload.getStopwatch().elapsed(),
+                            pendingDownload.getFuture().isCancelled());
+                    return;
+                }
+
+                Optional<FileStreamSignature> signature = parseSignatureFile(pendingDownload, nodeAccountId);
+                recordNodeLatency(nodeAccountId, pendingDownload.getStopwatch().elapsed(), false);
+
+                if (signature.isPresent()) {
+                    fileStreamSignature = signature.get();
+                    valid = nodeSignatureVerifier.verifySignature(fileStreamSignature, addressBook);
+                }
+            } catch (InterruptedException e) {
+                log.warn("Failed downloading {} in {}", pendingDownload.getS3key(), pendingDownload.getStopwatch(), e);
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("Failed to parse signature file {}: {}", pendingDownload.getS3key(), e);
+            } finally {
+                onResult(pendingDownload, fileStreamSignature, valid);
+            }
+        }
+
+        private synchronized void onResult(PendingDownload pendingDownload, FileStreamSignature fileStreamSignature,
+                                           boolean valid) {
+            inFlight.remove(pendingDownload);
+
+            if (done.isDone()) {
+                return;
+            }
+
+            if (fileStreamSignature != null) {
+                sigFilesMap.put(fileStreamSignature.getFilename(), fileStreamSignature);
+            }
+
+            if (valid) {
+                int count = hashCounts.merge(fileStreamSignature.getFileHashAsHex(), 1, Integer::sum);
+                verified = Math.max(verified, count);
+
+                if (nodeSignatureVerifier.canReachConsensus(verified, nodeCount)) {
+                    inFlight.forEach(p -> p.getFuture().cancel(true));
+                    inFlight.clear();
+                    done.complete(null);
+                    return;
+                }
+            }
+
+            downloadMore();
+        }
+    }
+
+    @Value
+    private static class Prefetch {
+        private final FileStreamSignature signature;
+        private final PendingDownload pendingDownload;
+        private final SignatureVerificationException exception;
+
+        void cancel() {
+            if (pendingDownload != null) {
+                pendingDownload.getFuture().cancel(true);
+            }
+        }
+    }
 }
@@ -28,7 +28,10 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.security.PublicKey;
 import java.security.Signature;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
@@ -65,7 +68,7 @@ public class NodeSignatureVerifier {
         this.meterRegistry = meterRegistry;
     }
 
-    private boolean canReachConsensus(long actualNodes, long expectedNodes) {
+    boolean canReachConsensus(long actualNodes, long expectedNodes) {
         return actualNodes >= Math.ceil(expectedNodes * commonDownloaderProperties.getConsensusRatio());
     }
 
@@ -78,6 +81,9 @@ public class NodeSignatureVerifier {
      *      valid, we put the hash in its content and its file to the map, to see if at least 1/3 valid signatures have
      *      the same hash</li>
      * </ol>
+     * Signatures already marked as verified by {@link #verifySignature(FileStreamSignature, AddressBook)} are not
+     * verified again. Once enough signatures for a hash are verified to reach consensus, the remaining signatures with
+     * that hash are skipped.
      *
      * @param signatures a list of signature files which have the same filename
      * @throws SignatureVerificationException
@@ -104,11 +110,25 @@ public class NodeSignatureVerifier {
                     statusMap(signatures, nodeAccountIDPubKeyMap)));
         }
 
-        for (FileStreamSignature fileStreamSignature : signatures) {
-            if (verifySignature(fileStreamSignature, nodeAccountIDPubKeyMap)) {
+        int skipped = 0;
+        for (FileStreamSignature fileStreamSignature : verificationOrder(signatures)) {
+            String hash = fileStreamSignature.getFileHashAsHex();
+
+            if (fileStreamSignature.getStatus() != SignatureStatus.VERIFIED) {
+                Collection<FileStreamSignature> verified = signatureHashMap.get(hash);
+                if (!verified.isEmpty() && canReachConsensus(verified.size(), nodeCount)) {
+                    skipped++;
+                    continue;
+                }
+
+                if (!verifySignature(fileStreamSignature, nodeAccountIDPubKeyMap)) {
+                    continue;
+                }
+
                 fileStreamSignature.setStatus(SignatureStatus.VERIFIED);
-                signatureHashMap.put(fileStreamSignature.getFileHashAsHex(), fileStreamSignature);
             }
+
+            signatureHashMap.put(hash, fileStreamSignature);
         }
 
         if (commonDownloaderProperties.getConsensusRatio() == 0 && signatureHashMap.size() > 0) {
@@ -125,7 +145,9 @@ public class NodeSignatureVerifier {
             }
         }
 
-        if (consensusCount == nodeCount) {
+        // Only enough signatures to reach consensus are downloaded in signature quorum mode
+        long expectedCount = commonDownloaderProperties.isSignatureQuorum() ? sigFileCount : nodeCount;
+        if (consensusCount + skipped == expectedCount) {
             log.debug("Verified signature file {} reached consensus", filename);
             return;
         } else if (consensusCount > 0) {
@@ -137,6 +159,37 @@ public class NodeSignatureVerifier {
         throw new SignatureVerificationException("Signature verification failed for file " + filename + ": " + statusMap(signatures, nodeAccountIDPubKeyMap));
     }
 
+    /**
+     * Verifies a single signature against the public key of its node, marking it as verified if valid. This allows the
+     * signatures to be verified concurrently as they're downloaded instead of sequentially by
+     * {@link #verify(Collection)}.
+     *
+     * @param fileStreamSignature the signature to verify
+     * @param addressBook         the address book containing the node public keys
+     * @return true if the signature is valid
+     */
+    public boolean verifySignature(FileStreamSignature fileStreamSignature, AddressBook addressBook) {
+        if (verifySignature(fileStreamSignature, addressBook.getNodeAccountIDPubKeyMap())) {
+            fileStreamSignature.setStatus(SignatureStatus.VERIFIED);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Orders the signatures so the already verified ones come first, followed by the rest grouped by hash with the most
+     * common hash first. This lets consensus be reached with the fewest verifications.
+     */
+    private List<FileStreamSignature> verificationOrder(Collection<FileStreamSignature> signatures) {
+        Map<String, Integer> hashCounts = new HashMap<>();
+        signatures.forEach(s -> hashCounts.merge(s.getFileHashAsHex(), 1, Integer::sum));
+        return signatures.stream()
+                .sorted(Comparator.comparing((FileStreamSignature s) -> s.getStatus() != SignatureStatus.VERIFIED)
+                        .thenComparing(s -> hashCounts.get(s.getFileHashAsHex()), Comparator.reverseOrder()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * check whether the given signature is valid
      *
@@ -21,25 +21,25 @@ package com.hedera.mirror.importer.downloader;
  */
 
 import com.google.common.base.Stopwatch;
+import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import lombok.Value;
 import lombok.experimental.NonFinal;
 import lombok.extern.log4j.Log4j2;
-import software.amazon.awssdk.core.ResponseBytes;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 import com.hedera.mirror.importer.domain.StreamFilename;
+import com.hedera.mirror.importer.downloader.provider.StreamFileObject;
 
 /**
- * The results of a pending download from the AWS TransferManager. Call waitForCompletion() to wait for the transfer to
+ * The results of a pending download from the StreamFileProvider. Call waitForCompletion() to wait for the transfer to
  * complete and get the status of whether it was successful or not.
  */
 @Log4j2
 @Value
 class PendingDownload {
 
-    private final CompletableFuture<ResponseBytes<GetObjectResponse>> future;
+    private final CompletableFuture<StreamFileObject> future;
     private final StreamFilename streamFilename;
     private final Stopwatch stopwatch;
     private final String s3key;
@@ -50,7 +50,7 @@ class PendingDownload {
     @NonFinal
     private boolean downloadSuccessful = false;
 
-    PendingDownload(CompletableFuture<ResponseBytes<GetObjectResponse>> future, StreamFilename streamFilename,
+    PendingDownload(CompletableFuture<StreamFileObject> future, StreamFilename streamFilename,
                     String s3key) {
         this.future = future;
         stopwatch = Stopwatch.createStarted();
@@ -59,11 +59,11 @@ class PendingDownload {
     }
 
     byte[] getBytes() throws ExecutionException, InterruptedException {
-        return future.get().asByteArrayUnsafe();
+        return future.get().getBytes();
     }
 
-    GetObjectResponse getObjectResponse() throws ExecutionException, InterruptedException {
-        return future.get().response();
+    Instant getLastModified() throws ExecutionException, InterruptedException {
+        return future.get().getLastModified();
     }
 
     /**
@@ -23,7 +23,6 @@ package com.hedera.mirror.importer.downloader.event;
 import io.micrometer.core.instrument.MeterRegistry;
 import javax.inject.Named;
 import org.springframework.scheduling.annotation.Scheduled;
-import software.amazon.awssdk.services.s3.S3AsyncClient;
 
 import com.hedera.mirror.importer.addressbook.AddressBookService;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
@@ -31,6 +30,7 @@ import com.hedera.mirror.common.domain.event.EventFile;
 import com.hedera.mirror.importer.downloader.Downloader;
 import com.hedera.mirror.importer.downloader.NodeSignatureVerifier;
 import com.hedera.mirror.importer.downloader.StreamFileNotifier;
+import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.reader.event.EventFileReader;
 import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
@@ -39,13 +39,13 @@ import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 public class EventFileDownloader extends Downloader<EventFile> {
 
     public EventFileDownloader(
-            S3AsyncClient s3Client, AddressBookService addressBookService,
+            StreamFileProvider streamFileProvider, AddressBookService addressBookService,
             EventDownloaderProperties downloaderProperties,
             MeterRegistry meterRegistry, EventFileReader eventFileReader,
             NodeSignatureVerifier nodeSignatureVerifier, SignatureFileReader signatureFileReader,
             StreamFileNotifier streamFileNotifier,
             MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor) {
-        super(s3Client, addressBookService, downloaderProperties, meterRegistry,
+        super(streamFileProvider, addressBookService, downloaderProperties, meterRegistry,
                 nodeSignatureVerifier, signatureFileReader, eventFileReader, streamFileNotifier,
                 mirrorDateRangePropertiesProcessor);
     }
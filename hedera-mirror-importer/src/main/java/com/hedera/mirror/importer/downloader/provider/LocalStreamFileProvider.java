@@ -0,0 +1,189 @@
+package com.hedera.mirror.importer.downloader.provider;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+import com.hedera.mirror.importer.exception.FileOperationException;
+
+/**
+ * Reads the stream files from a local directory with the same layout as the cloud storage bucket, such as one
+ * populated by the writeFiles and writeSignatures properties or copied from the bucket. Files are read in parallel
+ * and memory mapped, so their contents are copied once from the page cache into the heap without intermediate
+ * buffers.
+ * <p>
+ * Listing a directory with millions of files is expensive, so each scan keeps a sorted window of the lowest filenames
+ * after the marker that serves the following pages. The directory is only scanned again once the window runs out or
+ * the modification time of the directory changes because files were added or removed.
+ */
+@Log4j2
+public class LocalStreamFileProvider implements StreamFileProvider {
+
+    private static final int LISTING_PAGES = 100;
+
+    private final ExecutorService executor;
+    private final Map<Path, Listing> listings = new ConcurrentHashMap<>();
+    private final Path root;
+
+    public LocalStreamFileProvider(Path root) {
+        this.root = root;
+        int threads = Runtime.getRuntime().availableProcessors();
+        executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("local-provider-%d")
+                .build());
+    }
+
+    @Override
+    public CompletableFuture<List<String>> list(String prefix, String marker, int limit) {
+        return CompletableFuture.supplyAsync(() -> {
+            Path directory = root.resolve(prefix);
+            String after = marker.startsWith(prefix) ? marker.substring(prefix.length()) : "";
+            List<String> filenames = list(directory, after, limit);
+            List<String> keys = new ArrayList<>(filenames.size());
+            filenames.forEach(f -> keys.add(prefix + f));
+            return keys;
+        }, executor);
+    }
+
+    @Override
+    public CompletableFuture<StreamFileObject> get(String key) {
+        CompletableFuture<StreamFileObject> future = new CompletableFuture<>();
+        Future<?> task = executor.submit(() -> {
+            try {
+                future.complete(read(root.resolve(key)));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        // A cancelled read is skipped if still queued or interrupted, which closes its interruptible file channel
+        future.whenComplete((s, t) -> {
+            if (future.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return future;
+    }
+
+    private List<String> list(Path directory, String after, int limit) {
+        FileTime modified;
+        try {
+            modified = Files.getLastModifiedTime(directory);
+        } catch (NoSuchFileException e) {
+            log.debug("Directory {} does not exist", directory);
+            return Collections.emptyList();
+        } catch (IOException e) {
+            throw new FileOperationException("Unable to list directory " + directory, e);
+        }
+
+        Listing listing = listings.get(directory);
+        if (listing != null && listing.getModified().equals(modified) && after.compareTo(listing.getAfter()) >= 0) {
+            List<String> filenames = page(listing, after, limit);
+            if (filenames.size() == limit || listing.isComplete()) {
+                return filenames;
+            }
+        }
+
+        // The modification time is read before scanning so files added during the scan invalidate the listing
+        listing = scan(directory, after, limit * LISTING_PAGES, modified);
+        listings.put(directory, listing);
+        return page(listing, after, limit);
+    }
+
+    private List<String> page(Listing listing, String after, int limit) {
+        List<String> filenames = new ArrayList<>(limit);
+        for (String filename : listing.getFilenames().tailSet(after, false)) {
+            if (filenames.size() >= limit) {
+                break;
+            }
+            filenames.add(filename);
+        }
+        return filenames;
+    }
+
+    private Listing scan(Path directory, String after, int size, FileTime modified) {
+        NavigableSet<String> filenames = new TreeSet<>();
+        boolean complete = true;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+            for (Path path : stream) {
+                String filename = path.getFileName().toString();
+                if (filename.compareTo(after) > 0) {
+                    filenames.add(filename);
+                    if (filenames.size() > size) {
+                        filenames.pollLast();
+                        complete = false;
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            log.debug("Directory {} does not exist", directory);
+        } catch (IOException e) {
+            throw new FileOperationException("Unable to list directory " + directory, e);
+        }
+
+        return new Listing(after, complete, Collections.unmodifiableNavigableSet(filenames), modified);
+    }
+
+    private StreamFileObject read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            Instant lastModified = Files.getLastModifiedTime(path).toInstant();
+            return new StreamFileObject(bytes, lastModified);
+        } catch (IOException e) {
+            throw new FileOperationException("Unable to read file " + path, e);
+        }
+    }
+
+    @Value
+    private static class Listing {
+        private final String after;
+        private final boolean complete;
+        private final NavigableSet<String> filenames;
+        private final FileTime modified;
+    }
+}
@@ -0,0 +1,79 @@
+package com.hedera.mirror.importer.downloader.provider;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
+import software.amazon.awssdk.services.s3.model.RequestPayer;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
+
+/**
+ * Retrieves the stream files from a S3 compatible cloud storage bucket.
+ */
+@RequiredArgsConstructor
+public class S3StreamFileProvider implements StreamFileProvider {
+
+    private final CommonDownloaderProperties commonDownloaderProperties;
+    private final S3AsyncClient s3Client;
+
+    @Override
+    public CompletableFuture<List<String>> list(String prefix, String marker, int limit) {
+        // Not using ListObjectsV2Request because it does not work with GCP.
+        ListObjectsRequest listRequest = ListObjectsRequest.builder()
+                .bucket(commonDownloaderProperties.getBucketName())
+                .prefix(prefix)
+                .delimiter("/")
+                .marker(marker)
+                .maxKeys(limit)
+                .requestPayer(RequestPayer.REQUESTER)
+                .build();
+        return s3Client.listObjects(listRequest)
+                .thenApply(r -> r.contents().stream().map(S3Object::key).collect(Collectors.toList()));
+    }
+
+    @Override
+    public CompletableFuture<StreamFileObject> get(String key) {
+        var request = GetObjectRequest.builder()
+                .bucket(commonDownloaderProperties.getBucketName())
+                .key(key)
+                .requestPayer(RequestPayer.REQUESTER)
+                .build();
+        var download = s3Client.getObject(request, AsyncResponseTransformer.toBytes());
+        var result = download.thenApply(r -> new StreamFileObject(r.asByteArrayUnsafe(), r.response().lastModified()));
+
+        // Cancelling a dependent future doesn't cancel its source, so abort the request explicitly
+        result.whenComplete((r, e) -> {
+            if (e instanceof CancellationException) {
+                download.cancel(true);
+            }
+        });
+        return result;
+    }
+}
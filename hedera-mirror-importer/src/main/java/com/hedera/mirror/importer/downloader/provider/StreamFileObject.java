@@ -1,4 +1,4 @@
-package com.hedera.mirror.common.domain.token;
+package com.hedera.mirror.importer.downloader.provider;
 
 /*-
  * ‌
@@ -20,16 +20,11 @@ package com.hedera.mirror.common.domain.token;
  * ‍
  */
 
-import com.hedera.mirror.common.domain.entity.EntityId;
-
-import lombok.AllArgsConstructor;
+import java.time.Instant;
 import lombok.Value;
 
 @Value
-@AllArgsConstructor
-public class TokenAccountKey {
-
-    private EntityId tokenId;
-
-    private EntityId accountId;
+public class StreamFileObject {
+    private final byte[] bytes;
+    private final Instant lastModified;
 }
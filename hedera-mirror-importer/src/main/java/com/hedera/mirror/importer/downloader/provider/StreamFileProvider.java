@@ -0,0 +1,49 @@
+package com.hedera.mirror.importer.downloader.provider;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A source of stream and signature files laid out like the cloud storage bucket, where the files of a node are stored
+ * under a common key prefix.
+ */
+public interface StreamFileProvider {
+
+    /**
+     * Lists the keys of the files directly under the prefix, in lexical order.
+     *
+     * @param prefix the key prefix, ending with a '/'
+     * @param marker the key to start listing after
+     * @param limit  the maximum number of keys to return
+     * @return the keys lexically after the marker
+     */
+    CompletableFuture<List<String>> list(String prefix, String marker, int limit);
+
+    /**
+     * Gets the contents of the file with the key. Cancelling the returned future cancels the retrieval.
+     *
+     * @param key the key of the file
+     * @return the contents of the file
+     */
+    CompletableFuture<StreamFileObject> get(String key);
+}
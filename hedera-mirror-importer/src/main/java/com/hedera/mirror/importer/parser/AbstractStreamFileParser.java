@@ -25,6 +25,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -81,8 +83,7 @@ public abstract class AbstractStreamFileParser<T extends StreamFile> implements
                 log.info("Successfully processed {} items from {} in {}",
                         streamFile.getCount(), streamFile.getName(), stopwatch);
                 success = true;
-                Instant consensusInstant = Instant.ofEpochSecond(0L, streamFile.getConsensusEnd());
-                parseLatencyMetric.record(Duration.between(consensusInstant, Instant.now()));
+                recordLatency(streamFile);
             } catch (Exception e) {
                 log.error("Error parsing file {} after {}", streamFile.getName(), stopwatch, e);
                 throw e;
@@ -95,8 +96,58 @@ public abstract class AbstractStreamFileParser<T extends StreamFile> implements
         postParse(streamFile);
     }
 
+    /**
+     * Parses consecutive stream files as a single unit so their changes are persisted together. Subclasses that can
+     * persist the changes of multiple files at once should override {@link #doParse(List)}.
+     *
+     * @param streamFiles the stream files in consensus order
+     */
+    protected void parse(List<T> streamFiles) {
+        if (streamFiles.size() == 1) {
+            parse(streamFiles.get(0));
+            return;
+        }
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        boolean success = false;
+        List<T> filtered = streamFiles.stream().filter(this::shouldParse).collect(Collectors.toList());
+
+        if (!filtered.isEmpty()) {
+            T first = filtered.get(0);
+            T last = filtered.get(filtered.size() - 1);
+
+            try {
+                doParse(filtered);
+
+                long count = filtered.stream().mapToLong(StreamFile::getCount).sum();
+                log.info("Successfully processed {} items from {} files {} to {} in {}", count, filtered.size(),
+                        first.getName(), last.getName(), stopwatch);
+                success = true;
+                recordLatency(last);
+            } catch (Exception e) {
+                log.error("Error parsing {} files {} to {} after {}", filtered.size(), first.getName(),
+                        last.getName(), stopwatch, e);
+                throw e;
+            } finally {
+                Timer timer = success ? parseDurationMetricSuccess : parseDurationMetricFailure;
+                timer.record(stopwatch.elapsed());
+            }
+        }
+
+        streamFiles.forEach(this::postParse);
+    }
+
     protected abstract void doParse(T streamFile);
 
+    protected void doParse(List<T> streamFiles) {
+        streamFiles.forEach(this::doParse);
+    }
+
+    private void recordLatency(T streamFile) {
+        Instant consensusInstant = Instant.ofEpochSecond(0L, streamFile.getConsensusEnd());
+        parseLatencyMetric.record(Duration.between(consensusInstant, Instant.now()));
+    }
+
     private void postParse(T streamFile) {
         streamFile.setBytes(null);
         streamFile.setItems(null);
@@ -39,6 +39,8 @@ import com.hedera.mirror.common.domain.transaction.TransactionType;
 @ConfigurationProperties("hedera.mirror.importer.parser")
 public class CommonParserProperties {
 
+    private boolean binaryCopy = false;
+
     @Min(8192)
     private int bufferSize = 32768; // tested max byte size of buffer used by PGCopyOutputStream
 
@@ -48,6 +50,8 @@ public class CommonParserProperties {
     @NotNull
     private Collection<TransactionFilter> include = new ArrayList<>();
 
+    private boolean mergeUpsert = false;
+
     @Min(1)
     private int tempTableBufferSize = 256; // Size in MB
 
@@ -49,6 +49,7 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
 
     private final BatchPersister batchPersister;
     private final MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor;
+    private final ParallelBalanceLoader parallelBalanceLoader;
     private final BalanceStreamFileListener streamFileListener;
 
     public AccountBalanceFileParser(BatchPersister batchPersister,
@@ -56,10 +57,12 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
                                     BalanceParserProperties parserProperties,
                                     StreamFileRepository<AccountBalanceFile, Long> accountBalanceFileRepository,
                                     MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor,
+                                    ParallelBalanceLoader parallelBalanceLoader,
                                     BalanceStreamFileListener streamFileListener) {
         super(meterRegistry, parserProperties, accountBalanceFileRepository);
         this.batchPersister = batchPersister;
         this.mirrorDateRangePropertiesProcessor = mirrorDateRangePropertiesProcessor;
+        this.parallelBalanceLoader = parallelBalanceLoader;
         this.streamFileListener = streamFileListener;
     }
 
@@ -82,30 +85,14 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
     protected void doParse(AccountBalanceFile accountBalanceFile) {
         log.info("Starting processing account balances file {}", accountBalanceFile.getName());
         DateRangeFilter filter = mirrorDateRangePropertiesProcessor.getDateRangeFilter(StreamType.BALANCE);
-        int batchSize = ((BalanceParserProperties) parserProperties).getBatchSize();
         long count = 0L;
 
         if (filter.filter(accountBalanceFile.getConsensusTimestamp())) {
-            List<AccountBalance> accountBalances = new ArrayList<>(batchSize);
-            List<TokenBalance> tokenBalances = new ArrayList<>(batchSize);
-
-            count = accountBalanceFile.getItems().doOnNext(accountBalance -> {
-                accountBalances.add(accountBalance);
-                tokenBalances.addAll(accountBalance.getTokenBalances());
-
-                if (accountBalances.size() >= batchSize) {
-                    batchPersister.persist(accountBalances);
-                    accountBalances.clear();
-                }
-
-                if (tokenBalances.size() >= batchSize) {
-                    batchPersister.persist(tokenBalances);
-                    tokenBalances.clear();
-                }
-            }).count().block();
-
-            batchPersister.persist(accountBalances);
-            batchPersister.persist(tokenBalances);
+            if (((BalanceParserProperties) parserProperties).getPartitions() > 1) {
+                count = parallelBalanceLoader.load(accountBalanceFile);
+            } else {
+                count = persist(accountBalanceFile);
+            }
         }
 
         Instant loadEnd = Instant.now();
@@ -114,4 +101,29 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
         streamFileListener.onEnd(accountBalanceFile);
         streamFileRepository.save(accountBalanceFile);
     }
+
+    private long persist(AccountBalanceFile accountBalanceFile) {
+        int batchSize = ((BalanceParserProperties) parserProperties).getBatchSize();
+        List<AccountBalance> accountBalances = new ArrayList<>(batchSize);
+        List<TokenBalance> tokenBalances = new ArrayList<>(batchSize);
+
+        long count = accountBalanceFile.getItems().doOnNext(accountBalance -> {
+            accountBalances.add(accountBalance);
+            tokenBalances.addAll(accountBalance.getTokenBalances());
+
+            if (accountBalances.size() >= batchSize) {
+                batchPersister.persist(accountBalances);
+                accountBalances.clear();
+            }
+
+            if (tokenBalances.size() >= batchSize) {
+                batchPersister.persist(tokenBalances);
+                tokenBalances.clear();
+            }
+        }).count().block();
+
+        batchPersister.persist(accountBalances);
+        batchPersister.persist(tokenBalances);
+        return count;
+    }
 }
@@ -0,0 +1,465 @@
+package com.hedera.mirror.importer.parser.balance;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.Stopwatch;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.inject.Named;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import com.hedera.mirror.common.domain.balance.AccountBalance;
+import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
+import com.hedera.mirror.common.domain.balance.TokenBalance;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.batch.BatchInserter;
+
+/**
+ * Loads the balances of an account balance file using multiple database connections in parallel. The balance stream is
+ * split into chunks of consecutive accounts and the chunks are distributed across the partitions. Each partition copies
+ * the account and token balances of its chunks in its own transaction.
+ * <p>
+ * If the database allows enough prepared transactions ({@code max_prepared_transactions}), the partitions are prepared
+ * when the surrounding transaction is about to commit and are committed with {@code COMMIT PREPARED} once it has. A
+ * crash in between leaves prepared transactions that are committed or rolled back on the next load depending on
+ * whether the account balance file was committed. Otherwise, the partitions are committed one after another just before
+ * the surrounding transaction, their rows are deleted again if it then rolls back, and any rows for the file left
+ * behind by a crash in between are deleted before loading it again.
+ * <p>
+ * Either way the load is not atomic for readers: the partitions become visible one at a time, so a query for the
+ * latest balances can briefly see part of the snapshot. Without prepared transactions this window spans all the
+ * partition commits and, after a crash, lasts until the file is loaded again.
+ */
+@Log4j2
+@Named
+public class ParallelBalanceLoader {
+
+    static final String METRIC_DURATION = "hedera.mirror.importer.parse.balance.partition";
+    static final String METRIC_ROWS = "hedera.mirror.importer.parse.balance.partition.rows";
+
+    private static final String DELETE_SQL = "delete from %s where consensus_timestamp = ?";
+    private static final String FILE_EXISTS_SQL = "select exists(select 1 from account_balance_file where " +
+            "consensus_timestamp = ?)";
+    private static final String GID_PREFIX = "balance_";
+    private static final String PREPARED_SQL = "select gid from pg_prepared_xacts where database = " +
+            "current_database() and gid like 'balance\\_%'";
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final BalanceParserProperties properties;
+    private final BatchInserter accountBalanceInserter;
+    private final BatchInserter tokenBalanceInserter;
+
+    public ParallelBalanceLoader(DataSource dataSource, MeterRegistry meterRegistry,
+                                 BalanceParserProperties properties,
+                                 CommonParserProperties commonParserProperties) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        accountBalanceInserter = new BatchInserter(AccountBalance.class, dataSource, meterRegistry,
+                commonParserProperties);
+        tokenBalanceInserter = new BatchInserter(TokenBalance.class, dataSource, meterRegistry,
+                commonParserProperties);
+    }
+
+    /**
+     * Copies the balances of the file to the database and returns the number of account balances loaded.
+     */
+    public long load(AccountBalanceFile accountBalanceFile) {
+        int partitionCount = getPartitionCount();
+        long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
+        List<Partition> partitions = new ArrayList<>(partitionCount);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        // Transactions and rows left behind by an earlier attempt that crashed after its partitions were prepared or
+        // committed
+        boolean twoPhaseCommit = recover(partitionCount);
+        delete(consensusTimestamp);
+        Scheduler scheduler = Schedulers.newParallel("balance-loader", partitionCount);
+
+        try {
+            for (int i = 0; i < partitionCount; ++i) {
+                partitions.add(new Partition(i, GID_PREFIX + consensusTimestamp + "_" + i));
+            }
+
+            // A prefetch of one limits the chunks in memory to a few per partition
+            accountBalanceFile.getItems()
+                    .buffer(properties.getBatchSize())
+                    .parallel(partitionCount, 1)
+                    .runOn(scheduler, 1)
+                    .groups()
+                    .flatMap(rail -> rail.doOnNext(partitions.get(rail.key())::write), partitionCount)
+                    .then()
+                    .block();
+        } catch (Exception e) {
+            try {
+                rollback(partitions, consensusTimestamp);
+            } catch (Exception ex) {
+                e.addSuppressed(ex);
+            }
+
+            if (e instanceof ParserException) {
+                throw (ParserException) e;
+            }
+            throw new ParserException("Error loading account balance file " + accountBalanceFile.getName(), e);
+        } finally {
+            scheduler.dispose();
+        }
+
+        long count = 0L;
+        for (Partition partition : partitions) {
+            count += partition.accountBalanceCount;
+            log.info("Partition {} copied {} account balances and {} token balances in {} ({} rows/s)",
+                    partition.index, partition.accountBalanceCount, partition.tokenBalanceCount,
+                    partition.elapsed, partition.getRowsPerSecond());
+        }
+
+        log.info("Copied {} account balances using {} partitions in {}", count, partitionCount, stopwatch);
+        commit(partitions, consensusTimestamp, twoPhaseCommit);
+        return count;
+    }
+
+    private void commit(List<Partition> partitions, long consensusTimestamp, boolean twoPhaseCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitAll(partitions, consensusTimestamp);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (twoPhaseCommit) {
+                    prepareAll(partitions, consensusTimestamp);
+                } else {
+                    commitAll(partitions, consensusTimestamp);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    rollback(partitions, consensusTimestamp);
+                } else if (twoPhaseCommit) {
+                    try {
+                        finishPrepared(partitions, true);
+                    } catch (Exception e) {
+                        log.error("Unable to commit prepared partitions, retrying on the next load", e);
+                    }
+                }
+            }
+        });
+    }
+
+    private void prepareAll(List<Partition> partitions, long consensusTimestamp) {
+        try {
+            for (Partition partition : partitions) {
+                partition.prepare();
+            }
+        } catch (Exception e) {
+            var exception = new ParserException("Error preparing account balance partitions", e);
+            try {
+                rollback(partitions, consensusTimestamp);
+            } catch (Exception ex) {
+                exception.addSuppressed(ex);
+            }
+            throw exception;
+        }
+    }
+
+    private void commitAll(List<Partition> partitions, long consensusTimestamp) {
+        try {
+            for (Partition partition : partitions) {
+                partition.commit();
+            }
+        } catch (Exception e) {
+            var exception = new ParserException("Error committing account balance partitions", e);
+            try {
+                rollback(partitions, consensusTimestamp);
+            } catch (Exception ex) {
+                exception.addSuppressed(ex);
+            }
+            throw exception;
+        }
+    }
+
+    private void rollback(List<Partition> partitions, long consensusTimestamp) {
+        boolean committed = false;
+
+        for (Partition partition : partitions) {
+            committed |= partition.rollback();
+        }
+
+        finishPrepared(partitions, false);
+
+        if (committed) {
+            delete(consensusTimestamp);
+        }
+    }
+
+    /**
+     * Commits or rolls back the prepared partitions. This needs a connection that is not in a transaction, since
+     * {@code COMMIT PREPARED} can't run inside one.
+     */
+    private void finishPrepared(List<Partition> partitions, boolean commit) {
+        if (partitions.stream().noneMatch(partition -> partition.prepared)) {
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+
+            for (Partition partition : partitions) {
+                if (partition.prepared) {
+                    statement.execute(String.format("%s prepared '%s'", commit ? "commit" : "rollback",
+                            partition.gid));
+                    partition.prepared = false;
+                }
+            }
+        } catch (SQLException e) {
+            throw new ParserException("Unable to finish prepared account balance partitions", e);
+        }
+    }
+
+    /**
+     * Resolves the partitions left prepared by a crash after the parser transaction either committed or rolled back,
+     * and returns whether the database allows enough prepared transactions to prepare the partitions of this load.
+     */
+    private boolean recover(int partitionCount) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            int maxPreparedTransactions = 0;
+
+            try (ResultSet resultSet = statement.executeQuery("show max_prepared_transactions")) {
+                if (resultSet.next()) {
+                    maxPreparedTransactions = Integer.parseInt(resultSet.getString(1));
+                }
+            }
+
+            if (maxPreparedTransactions <= 0) {
+                return false;
+            }
+
+            List<String> gids = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery(PREPARED_SQL)) {
+                while (resultSet.next()) {
+                    gids.add(resultSet.getString(1));
+                }
+            }
+
+            for (String gid : gids) {
+                long consensusTimestamp = Long.parseLong(gid.split("_")[1]);
+                boolean commit = fileExists(connection, consensusTimestamp);
+                log.warn("{} prepared partition {} left behind by an earlier attempt", commit ? "Committing" :
+                        "Rolling back", gid);
+                statement.execute(String.format("%s prepared '%s'", commit ? "commit" : "rollback", gid));
+            }
+
+            return maxPreparedTransactions >= partitionCount;
+        } catch (SQLException e) {
+            throw new ParserException("Unable to recover prepared account balance partitions", e);
+        }
+    }
+
+    private boolean fileExists(Connection connection, long consensusTimestamp) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FILE_EXISTS_SQL)) {
+            statement.setLong(1, consensusTimestamp);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * Deletes the committed balances for the timestamp in its own transaction. It can't run in the parser transaction
+     * since the partitions would then block on the row locks of the deleted rows until that transaction ends.
+     */
+    private void delete(long consensusTimestamp) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+
+            for (String table : List.of("account_balance", "token_balance")) {
+                try (PreparedStatement statement = connection.prepareStatement(String.format(DELETE_SQL, table))) {
+                    statement.setLong(1, consensusTimestamp);
+                    int deleted = statement.executeUpdate();
+
+                    if (deleted > 0) {
+                        log.warn("Deleted {} committed rows from {} table for timestamp {}", deleted, table,
+                                consensusTimestamp);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new ParserException("Unable to delete committed balances for timestamp " + consensusTimestamp, e);
+        }
+    }
+
+    /**
+     * Each partition holds a connection in addition to the one of the parser transaction, so the partitions are capped
+     * to half of the connection pool to leave connections for the other parsers.
+     */
+    private int getPartitionCount() {
+        int partitions = properties.getPartitions();
+
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                int maxPartitions = Math.max(dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() / 2, 1);
+
+                if (partitions > maxPartitions) {
+                    log.warn("Limiting the {} configured partitions to {} based on the connection pool size",
+                            partitions, maxPartitions);
+                    return maxPartitions;
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Unable to determine the connection pool size", e);
+        }
+
+        return partitions;
+    }
+
+    private class Partition {
+
+        private final Connection connection;
+        private final String gid;
+        private final int index;
+        private final Timer durationMetric;
+        private final Counter accountBalanceMetric;
+        private final Counter tokenBalanceMetric;
+        private long accountBalanceCount = 0L;
+        private long tokenBalanceCount = 0L;
+        private Duration elapsed = Duration.ZERO;
+        private boolean committed = false;
+        private boolean prepared = false;
+        private boolean closed = false;
+
+        private Partition(int index, String gid) throws SQLException {
+            this.gid = gid;
+            this.index = index;
+            String partition = String.valueOf(index);
+            durationMetric = Timer.builder(METRIC_DURATION)
+                    .description("The time it took to copy a chunk of balances in a partition")
+                    .tag("partition", partition)
+                    .register(meterRegistry);
+            accountBalanceMetric = rowsMetric(partition, "account_balance");
+            tokenBalanceMetric = rowsMetric(partition, "token_balance");
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+        }
+
+        private Counter rowsMetric(String partition, String table) {
+            return Counter.builder(METRIC_ROWS)
+                    .description("The number of rows copied by a partition")
+                    .tag("partition", partition)
+                    .tag("table", table)
+                    .register(meterRegistry);
+        }
+
+        private void write(List<AccountBalance> accountBalances) {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            List<TokenBalance> tokenBalances = accountBalances.stream()
+                    .flatMap(accountBalance -> accountBalance.getTokenBalances().stream())
+                    .collect(Collectors.toList());
+
+            accountBalanceInserter.persist(accountBalances, connection);
+            tokenBalanceInserter.persist(tokenBalances, connection);
+
+            Duration duration = stopwatch.elapsed();
+            elapsed = elapsed.plus(duration);
+            durationMetric.record(duration);
+            accountBalanceCount += accountBalances.size();
+            tokenBalanceCount += tokenBalances.size();
+            accountBalanceMetric.increment(accountBalances.size());
+            tokenBalanceMetric.increment(tokenBalances.size());
+        }
+
+        private long getRowsPerSecond() {
+            long millis = Math.max(elapsed.toMillis(), 1L);
+            return (accountBalanceCount + tokenBalanceCount) * 1000L / millis;
+        }
+
+        private void commit() throws SQLException {
+            if (!closed) {
+                connection.commit();
+                committed = true;
+                close();
+            }
+        }
+
+        /**
+         * Prepares the transaction for {@code COMMIT PREPARED}. It's no longer tied to the connection afterwards, so
+         * the connection is released.
+         */
+        private void prepare() throws SQLException {
+            if (!closed) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(String.format("prepare transaction '%s'", gid));
+                }
+                prepared = true;
+                close();
+            }
+        }
+
+        /**
+         * Rolls back the partition if it was not committed or prepared yet and returns whether it had been committed.
+         */
+        private boolean rollback() {
+            boolean wasCommitted = committed;
+            committed = false;
+
+            if (!closed) {
+                try {
+                    connection.rollback();
+                } catch (SQLException e) {
+                    log.error("Unable to rollback partition {}", index, e);
+                }
+                close();
+            }
+
+            return wasCommitted;
+        }
+
+        private void close() {
+            closed = true;
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.warn("Unable to close connection for partition {}", index, e);
+            }
+        }
+    }
+}
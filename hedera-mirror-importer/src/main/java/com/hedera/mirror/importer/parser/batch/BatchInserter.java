@@ -27,6 +27,7 @@ import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import com.google.common.base.CaseFormat;
 import com.google.common.base.Stopwatch;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Lists;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -34,6 +35,8 @@ import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import lombok.extern.log4j.Log4j2;
@@ -56,11 +59,14 @@ public class BatchInserter implements BatchPersister {
 
     protected final DataSource dataSource;
     protected final MeterRegistry meterRegistry;
+    protected final String columns;
     protected final String tableName;
     protected final Timer insertDurationMetric;
+    private final Class<?> entityClass;
     private final String sql;
     private final ObjectWriter writer;
     private final CommonParserProperties properties;
+    private final Supplier<Optional<BinaryCopyWriter>> binaryCopyWriter;
 
     public BatchInserter(Class<?> entityClass, DataSource dataSource, MeterRegistry meterRegistry,
                          CommonParserProperties properties) {
@@ -70,6 +76,7 @@ public class BatchInserter implements BatchPersister {
     public BatchInserter(Class<?> entityClass, DataSource dataSource, MeterRegistry meterRegistry,
                          CommonParserProperties properties, String tableName) {
         this.dataSource = dataSource;
+        this.entityClass = entityClass;
         this.properties = properties;
         this.meterRegistry = meterRegistry;
         this.tableName = CaseFormat.UPPER_CAMEL.to(
@@ -83,12 +90,13 @@ public class BatchInserter implements BatchPersister {
         mapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_EMPTY_STRINGS, true);
         var schema = mapper.schemaFor(entityClass);
         writer = mapper.writer(schema);
-        String columnsCsv = Lists.newArrayList(schema.iterator()).stream()
+        columns = Lists.newArrayList(schema.iterator()).stream()
                 .map(CsvSchema.Column::getName)
                 .distinct()
                 .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
                 .collect(Collectors.joining(", "));
-        sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+        sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columns);
+        binaryCopyWriter = Suppliers.memoize(() -> createBinaryCopyWriter(mapper, schema));
         insertDurationMetric = Timer.builder("hedera.mirror.importer.parse.insert")
                 .description("Time to insert transactions into table")
                 .tag("table", tableName)
@@ -103,6 +111,22 @@ public class BatchInserter implements BatchPersister {
 
         Connection connection = DataSourceUtils.getConnection(dataSource);
 
+        try {
+            persist(items, connection);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Copies the items using the provided connection. The caller is responsible for the connection's transaction and
+     * for releasing it.
+     */
+    public void persist(Collection<?> items, Connection connection) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
         try {
             Stopwatch stopwatch = Stopwatch.createStarted();
             persistItems(items, connection);
@@ -110,13 +134,18 @@ public class BatchInserter implements BatchPersister {
             log.info("Copied {} rows to {} table in {}", items.size(), tableName, stopwatch);
         } catch (Exception e) {
             throw new ParserException(String.format("Error copying %d items to table %s", items.size(), tableName), e);
-        } finally {
-            DataSourceUtils.releaseConnection(connection, dataSource);
         }
     }
 
     protected void persistItems(Collection<?> items, Connection connection) throws SQLException, IOException {
         PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        var binaryWriter = properties.isBinaryCopy() ? binaryCopyWriter.get() : Optional.<BinaryCopyWriter>empty();
+
+        if (binaryWriter.isPresent()) {
+            persistItemsBinary(items, pgConnection, binaryWriter.get());
+            return;
+        }
+
         CopyIn copyIn = pgConnection.getCopyAPI().copyIn(sql);
 
         if (log.isTraceEnabled()) {
@@ -132,4 +161,34 @@ public class BatchInserter implements BatchPersister {
             }
         }
     }
+
+    private void persistItemsBinary(Collection<?> items, PGConnection pgConnection, BinaryCopyWriter binaryWriter)
+            throws SQLException, IOException {
+        CopyIn copyIn = pgConnection.getCopyAPI().copyIn(binaryWriter.getSql());
+
+        try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
+            binaryWriter.write(items, pgCopyOutputStream);
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Creates the binary writer on first use since the column types are looked up from the database and a subclass may
+     * create its table after this constructor runs. Falls back to CSV if the entity class has a column that can't be
+     * encoded in the binary format.
+     */
+    private Optional<BinaryCopyWriter> createBinaryCopyWriter(CsvMapper mapper, CsvSchema schema) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+
+        try {
+            return BinaryCopyWriter.create(mapper, schema, entityClass, tableName, connection);
+        } catch (SQLException e) {
+            throw new ParserException("Error looking up the column types of table " + tableName, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
 }
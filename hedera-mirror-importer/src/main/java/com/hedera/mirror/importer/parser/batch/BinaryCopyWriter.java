@@ -0,0 +1,385 @@
+package com.hedera.mirror.importer.parser.batch;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.UnwrappingBeanPropertyWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.common.base.CaseFormat;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+
+/**
+ * Writes domain objects in the PostgreSQL binary COPY format. The columns are taken in order from the same CSV schema
+ * the CSV writer uses and their values are read through the mapper's bean properties, so both formats copy the same
+ * columns. Each column is encoded according to its type in the database so that numbers, bytea, arrays and ranges are
+ * written without converting them to text.
+ */
+@Log4j2
+class BinaryCopyWriter {
+
+    private static final byte[] HEADER = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final String COLUMN_TYPES_SQL = "select a.attname, t.typname, t.typtype from pg_attribute a " +
+            "join pg_type t on a.atttypid = t.oid where a.attrelid = ?::regclass and a.attnum > 0 and not " +
+            "a.attisdropped";
+    private static final int INT8_OID = 20;
+    private static final int NULL_LENGTH = -1;
+
+    // Range flags as defined in PostgreSQL's rangetypes.h
+    private static final int RANGE_EMPTY = 0x01;
+    private static final int RANGE_LB_INC = 0x02;
+    private static final int RANGE_UB_INC = 0x04;
+    private static final int RANGE_LB_INF = 0x08;
+    private static final int RANGE_UB_INF = 0x10;
+
+    private final List<Column> columns;
+
+    @Getter
+    private final String sql;
+
+    private BinaryCopyWriter(String tableName, List<Column> columns) {
+        this.columns = columns;
+        String columnNames = columns.stream().map(Column::getName).collect(Collectors.joining(", "));
+        sql = String.format("COPY %s(%s) FROM STDIN WITH BINARY", tableName, columnNames);
+    }
+
+    /**
+     * Creates a writer for the columns of the CSV schema if all of them map to table columns with a supported binary
+     * encoding.
+     *
+     * @param mapper      the mapper the CSV schema was created from
+     * @param schema      the CSV schema of the entity class
+     * @param entityClass the domain class
+     * @param tableName   the table to copy into
+     * @param connection  the connection used to look up the column types
+     * @return the writer or empty if the entity class can't be written in the binary format
+     */
+    static Optional<BinaryCopyWriter> create(CsvMapper mapper, CsvSchema schema, Class<?> entityClass,
+                                             String tableName, Connection connection) throws SQLException {
+        Map<String, PgType> columnTypes = getColumnTypes(tableName, connection);
+        Map<String, Column> columns = new LinkedHashMap<>();
+
+        try {
+            Map<String, Property> properties = new HashMap<>();
+            for (var property : getProperties(mapper, entityClass, Function.identity())) {
+                properties.putIfAbsent(property.getName(), property);
+            }
+
+            for (var csvColumn : schema) {
+                String name = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, csvColumn.getName());
+                Property property = properties.get(csvColumn.getName());
+
+                if (property == null) {
+                    log.info("Using CSV for table {} since column {} has no property", tableName, name);
+                    return Optional.empty();
+                }
+
+                Class<?> javaType = property.getType();
+                PgType pgType = columnTypes.get(name);
+                Encoder encoder = pgType != null ? pgType.encoderFor(javaType) : null;
+
+                if (encoder == null) {
+                    log.info("Using CSV for table {} since column {} of type {} can't be mapped from {}", tableName,
+                            name, pgType, javaType.getSimpleName());
+                    return Optional.empty();
+                }
+
+                columns.putIfAbsent(name, new Column(name, property.getAccessor(), encoder));
+            }
+        } catch (Exception e) {
+            log.warn("Using CSV for table {} since unable to introspect {}: {}", tableName, entityClass, e.getMessage());
+            return Optional.empty();
+        }
+
+        return Optional.of(new BinaryCopyWriter(tableName, new ArrayList<>(columns.values())));
+    }
+
+    void write(Collection<?> items, OutputStream outputStream) throws IOException {
+        var out = new DataOutputStream(outputStream);
+        out.write(HEADER);
+        out.writeInt(0); // flags
+        out.writeInt(0); // header extension length
+
+        for (Object item : items) {
+            out.writeShort(columns.size());
+            for (Column column : columns) {
+                Object value = column.getAccessor().apply(item);
+                if (value == null) {
+                    out.writeInt(NULL_LENGTH);
+                } else {
+                    column.getEncoder().encode(value, out);
+                }
+            }
+        }
+
+        out.writeShort(-1); // trailer
+        out.flush();
+    }
+
+    private static Map<String, PgType> getColumnTypes(String tableName, Connection connection) throws SQLException {
+        Map<String, PgType> columnTypes = new HashMap<>();
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(COLUMN_TYPES_SQL)) {
+            preparedStatement.setString(1, tableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    String typeName = resultSet.getString(2);
+                    boolean isEnum = "e".equals(resultSet.getString(3));
+                    columnTypes.put(resultSet.getString(1), isEnum ? PgType.ENUM : PgType.of(typeName));
+                }
+            }
+        }
+
+        return columnTypes;
+    }
+
+    private static List<Property> getProperties(CsvMapper mapper, Class<?> beanClass, Function<Object, Object> parent)
+            throws Exception {
+        SerializerProvider provider = mapper.getSerializerProviderInstance();
+        JsonSerializer<Object> serializer = provider.findValueSerializer(beanClass);
+        List<Property> properties = new ArrayList<>();
+
+        for (Iterator<PropertyWriter> iterator = serializer.properties(); iterator.hasNext(); ) {
+            var writer = (BeanPropertyWriter) iterator.next();
+            Function<Object, Object> accessor = bean -> get(writer, parent.apply(bean));
+
+            if (writer instanceof UnwrappingBeanPropertyWriter) {
+                properties.addAll(getProperties(mapper, writer.getType().getRawClass(), accessor));
+            } else {
+                properties.add(new Property(writer.getName(), writer.getType().getRawClass(), accessor));
+            }
+        }
+
+        return properties;
+    }
+
+    private static Object get(BeanPropertyWriter writer, Object bean) {
+        if (bean == null) {
+            return null;
+        }
+
+        try {
+            return writer.get(bean);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to get property " + writer.getName(), e);
+        }
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputStream out) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeLong(long value, DataOutputStream out) throws IOException {
+        out.writeInt(Long.BYTES);
+        out.writeLong(value);
+    }
+
+    private static void writeLongArray(Object value, DataOutputStream out) throws IOException {
+        List<?> list = (List<?>) value;
+        boolean empty = list.isEmpty();
+        out.writeInt(empty ? 12 : 20 + list.size() * (Integer.BYTES + Long.BYTES));
+        out.writeInt(empty ? 0 : 1); // dimensions
+        out.writeInt(0); // has nulls
+        out.writeInt(INT8_OID);
+
+        if (!empty) {
+            out.writeInt(list.size());
+            out.writeInt(1); // lower bound
+            for (Object element : list) {
+                writeLong(((Number) element).longValue(), out);
+            }
+        }
+    }
+
+    private static void writeLongRange(Object value, DataOutputStream out) throws IOException {
+        Range<?> range = (Range<?>) value;
+
+        if (range.isEmpty()) {
+            out.writeInt(1);
+            out.writeByte(RANGE_EMPTY);
+            return;
+        }
+
+        int flags = 0;
+        int length = 1;
+
+        if (range.hasLowerBound()) {
+            flags |= range.lowerBoundType() == BoundType.CLOSED ? RANGE_LB_INC : 0;
+            length += Integer.BYTES + Long.BYTES;
+        } else {
+            flags |= RANGE_LB_INF;
+        }
+
+        if (range.hasUpperBound()) {
+            flags |= range.upperBoundType() == BoundType.CLOSED ? RANGE_UB_INC : 0;
+            length += Integer.BYTES + Long.BYTES;
+        } else {
+            flags |= RANGE_UB_INF;
+        }
+
+        out.writeInt(length);
+        out.writeByte(flags);
+
+        if (range.hasLowerBound()) {
+            writeLong(((Number) range.lowerEndpoint()).longValue(), out);
+        }
+
+        if (range.hasUpperBound()) {
+            writeLong(((Number) range.upperEndpoint()).longValue(), out);
+        }
+    }
+
+    private static boolean isNumber(Class<?> javaType) {
+        return Number.class.isAssignableFrom(javaType) || javaType == long.class || javaType == int.class ||
+                javaType == short.class;
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void encode(Object value, DataOutputStream out) throws IOException;
+    }
+
+    private enum PgType {
+        BOOL,
+        BYTEA,
+        ENUM,
+        INT2,
+        INT4,
+        INT8,
+        INT8_ARRAY,
+        INT8_RANGE,
+        TEXT,
+        UNSUPPORTED;
+
+        static PgType of(String typeName) {
+            switch (typeName) {
+                case "bool":
+                    return BOOL;
+                case "bytea":
+                    return BYTEA;
+                case "int2":
+                    return INT2;
+                case "int4":
+                    return INT4;
+                case "int8":
+                    return INT8;
+                case "_int8":
+                    return INT8_ARRAY;
+                case "int8range":
+                    return INT8_RANGE;
+                case "text":
+                case "varchar":
+                    return TEXT;
+                default:
+                    return UNSUPPORTED;
+            }
+        }
+
+        Encoder encoderFor(Class<?> javaType) {
+            switch (this) {
+                case BOOL:
+                    return javaType == Boolean.class || javaType == boolean.class ? (value, out) -> {
+                        out.writeInt(1);
+                        out.writeBoolean((Boolean) value);
+                    } : null;
+                case BYTEA:
+                    return javaType == byte[].class ? (value, out) -> writeBytes((byte[]) value, out) : null;
+                case ENUM:
+                    return javaType.isEnum() ?
+                            (value, out) -> writeBytes(((Enum<?>) value).name().getBytes(StandardCharsets.UTF_8),
+                                    out) : null;
+                case INT2:
+                    return isNumber(javaType) ? (value, out) -> {
+                        out.writeInt(Short.BYTES);
+                        out.writeShort(((Number) value).shortValue());
+                    } : null;
+                case INT4:
+                    return isNumber(javaType) ? (value, out) -> {
+                        out.writeInt(Integer.BYTES);
+                        out.writeInt(((Number) value).intValue());
+                    } : null;
+                case INT8:
+                    if (javaType == EntityId.class) {
+                        return (value, out) -> {
+                            // Empty entity IDs are serialized as null to match EntityIdSerializer
+                            if (EntityId.isEmpty((EntityId) value)) {
+                                out.writeInt(NULL_LENGTH);
+                            } else {
+                                writeLong(((EntityId) value).getId(), out);
+                            }
+                        };
+                    }
+                    return isNumber(javaType) ? (value, out) -> writeLong(((Number) value).longValue(), out) : null;
+                case INT8_ARRAY:
+                    return List.class.isAssignableFrom(javaType) ? BinaryCopyWriter::writeLongArray : null;
+                case INT8_RANGE:
+                    return javaType == Range.class ? BinaryCopyWriter::writeLongRange : null;
+                case TEXT:
+                    return javaType == String.class ?
+                            (value, out) -> writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), out) : null;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    @Value
+    private static class Column {
+        private final String name;
+        private final Function<Object, Object> accessor;
+        private final Encoder encoder;
+    }
+
+    @Value
+    private static class Property {
+        private final String name;
+        private final Class<?> type;
+        private final Function<Object, Object> accessor;
+    }
+}
@@ -72,6 +72,10 @@ public class CompositeBatchPersister implements BatchPersister {
         Upsertable upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
         if (upsertable != null) {
             UpsertQueryGenerator generator = upsertQueryGeneratorFactory.get(domainClass);
+            if (properties.isMergeUpsert()) {
+                return new MergeBatchUpserter(domainClass, dataSource, meterRegistry, properties, generator);
+            }
+
             return new BatchUpserter(domainClass, dataSource, meterRegistry, properties, generator);
         } else {
             return new BatchInserter(domainClass, dataSource, meterRegistry, properties);
@@ -0,0 +1,152 @@
+package com.hedera.mirror.importer.parser.batch;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
+
+/**
+ * Writer to upsert rows into PostgreSQL using COPY into a temp table that lives as long as the database session, then
+ * merging it into the final table with a single insert on conflict do update query. Unlike {@link BatchUpserter}, the
+ * temp table and its index are only created the first time a pooled connection is used, avoiding the catalog churn of
+ * recreating them for every batch. If none of the copied rows exist in the final table yet, the cheaper insert query
+ * is used instead.
+ */
+@Log4j2
+public class MergeBatchUpserter extends BatchInserter {
+
+    static final String PATH_INSERT = "insert";
+    static final String PATH_INSERT_UPDATE = "insert_update";
+    static final String PATH_UPSERT = "upsert";
+    private static final String TABLE = "table";
+
+    private final String existsSql;
+    private final String finalTableName;
+    private final String insertSql;
+    private final String prepareTempTableSql;
+    private final String updateSql;
+    private final String upsertSql;
+    private final Timer copyDurationMetric;
+    private final Timer insertDurationMetric;
+    private final Timer insertUpdateDurationMetric;
+    private final Timer upsertDurationMetric;
+
+    public MergeBatchUpserter(Class<?> entityClass, DataSource dataSource, MeterRegistry meterRegistry,
+                              CommonParserProperties properties, UpsertQueryGenerator upsertQueryGenerator) {
+        super(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator.getTemporaryTableName());
+        existsSql = upsertQueryGenerator.getExistsQuery();
+        finalTableName = upsertQueryGenerator.getFinalTableName();
+        insertSql = upsertQueryGenerator.getInsertQuery();
+        updateSql = upsertQueryGenerator.getUpdateQuery();
+        upsertSql = upsertQueryGenerator.getUpsertQuery();
+
+        // The statements are no-ops once the session has the temp table, except for the delete which discards the rows
+        // of a previous batch in the same transaction. Deleting avoids the new relation file a truncate would create.
+        prepareTempTableSql = String.join(";",
+                String.format("set temp_buffers = '%dMB'", properties.getTempTableBufferSize()),
+                upsertQueryGenerator.getCreateSessionTempTableQuery(),
+                upsertQueryGenerator.getCreateTempIndexQuery(),
+                "delete from " + tableName);
+
+        copyDurationMetric = Timer.builder("hedera.mirror.importer.parse.upsert.copy")
+                .description("Time to copy transaction information from importer to temp table")
+                .tag(TABLE, tableName)
+                .register(meterRegistry);
+        insertDurationMetric = mergeTimer(meterRegistry, PATH_INSERT);
+        insertUpdateDurationMetric = mergeTimer(meterRegistry, PATH_INSERT_UPDATE);
+        upsertDurationMetric = mergeTimer(meterRegistry, PATH_UPSERT);
+    }
+
+    @Override
+    protected void persistItems(Collection<?> items, Connection connection) {
+        if (CollectionUtils.isEmpty(items)) {
+            return;
+        }
+
+        try {
+            executeUpdate(connection, prepareTempTableSql);
+
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            super.persistItems(items, connection);
+            copyDurationMetric.record(stopwatch.elapsed());
+
+            merge(items.size(), connection);
+        } catch (Exception e) {
+            throw new ParserException(String.format("Error copying %d items to table %s", items.size(),
+                    finalTableName), e);
+        }
+    }
+
+    private void merge(int size, Connection connection) throws SQLException {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
+        if (StringUtils.isEmpty(upsertSql)) {
+            int insertCount = executeUpdate(connection, insertSql);
+            int updateCount = StringUtils.isEmpty(updateSql) ? 0 : executeUpdate(connection, updateSql);
+            insertUpdateDurationMetric.record(stopwatch.elapsed());
+            log.debug("Inserted {} and updated {} from a total of {} rows to {}", insertCount, updateCount, size,
+                    finalTableName);
+        } else if (StringUtils.isNotEmpty(existsSql) && !exists(connection)) {
+            int count = executeUpdate(connection, insertSql);
+            insertDurationMetric.record(stopwatch.elapsed());
+            log.debug("Inserted {} from a total of {} new rows to {}", count, size, finalTableName);
+        } else {
+            int count = executeUpdate(connection, upsertSql);
+            upsertDurationMetric.record(stopwatch.elapsed());
+            log.debug("Upserted {} from a total of {} rows to {}", count, size, finalTableName);
+        }
+    }
+
+    private boolean exists(Connection connection) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(existsSql);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    private int executeUpdate(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            return preparedStatement.executeUpdate();
+        }
+    }
+
+    private Timer mergeTimer(MeterRegistry meterRegistry, String path) {
+        return Timer.builder("hedera.mirror.importer.parse.upsert.merge")
+                .description("Time to merge the temp table into the final table by the path taken")
+                .tag("path", path)
+                .tag(TABLE, finalTableName)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,120 @@
+package com.hedera.mirror.importer.parser.batch;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.CaseFormat;
+import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+
+/**
+ * Writer to insert rows into PostgreSQL using COPY into an unlogged staging table, then move them into the final table
+ * in a separate merge step. The copy is expected to run on its own connection outside the parser's transaction so that
+ * multiple tables can be copied concurrently, while the merge runs on the transactional connection so the final tables
+ * still commit or roll back atomically. The merge deletes the rows it moves instead of truncating the staging table,
+ * since a truncate would hold an exclusive lock until the parser's transaction ends and block the next copy.
+ * <p>
+ * The staging table is recreated from the final table when the writer is created so it always matches the current
+ * schema.
+ */
+@Log4j2
+public class StagingBatchInserter extends BatchInserter {
+
+    private static final String STAGING_SUFFIX = "_staging";
+
+    private final String finalTableName;
+    private final String mergeSql;
+    private final Timer mergeDurationMetric;
+    private final String truncateSql;
+
+    public StagingBatchInserter(Class<?> entityClass, DataSource dataSource, MeterRegistry meterRegistry,
+                                CommonParserProperties properties) {
+        super(entityClass, dataSource, meterRegistry, properties, toTableName(entityClass) + STAGING_SUFFIX);
+        finalTableName = toTableName(entityClass);
+        mergeSql = String.format("with staged as (delete from %s returning %s) insert into %s (%s) select %s " +
+                "from staged", tableName, columns, finalTableName, columns, columns);
+        truncateSql = String.format("truncate table %s", tableName);
+        mergeDurationMetric = Timer.builder("hedera.mirror.importer.parse.merge")
+                .description("Time to move rows from the staging table to the final table")
+                .tag("table", finalTableName)
+                .register(meterRegistry);
+        execute(String.format("drop table if exists %1$s; create unlogged table %1$s (like %2$s)", tableName,
+                finalTableName));
+    }
+
+    private static String toTableName(Class<?> entityClass) {
+        return CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, entityClass.getSimpleName());
+    }
+
+    public String getFinalTableName() {
+        return finalTableName;
+    }
+
+    /**
+     * Moves the rows previously copied into the staging table to the final table using the connection bound to the
+     * current transaction. The moved rows are deleted from the staging table in the same statement, so they reappear
+     * if the transaction rolls back and must then be discarded with {@link #discard()}.
+     *
+     * @return the number of rows merged
+     */
+    public int merge() {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(mergeSql)) {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            int count = preparedStatement.executeUpdate();
+            mergeDurationMetric.record(stopwatch.elapsed());
+            log.debug("Merged {} rows from {} table to {} table in {}", count, tableName, finalTableName, stopwatch);
+            return count;
+        } catch (SQLException e) {
+            throw new ParserException(String.format("Error merging table %s to %s", tableName, finalTableName), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Discards the staged rows on a separate connection. It must only be called once the parser's transaction has
+     * ended, otherwise it blocks on the rows locked by the merge.
+     */
+    public void discard() {
+        execute(truncateSql);
+    }
+
+    private void execute(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(true);
+            preparedStatement.execute();
+        } catch (SQLException e) {
+            throw new ParserException("Error executing statement for table " + tableName, e);
+        }
+    }
+}
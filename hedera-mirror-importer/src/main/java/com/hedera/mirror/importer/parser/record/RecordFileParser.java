@@ -23,12 +23,22 @@ package com.hedera.mirror.importer.parser.record;
 import static com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor.DateRangeFilter;
 
 import com.google.common.collect.ImmutableMap;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.NftTransfer;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import com.hederahashgraph.api.proto.java.TransactionBody;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import javax.inject.Named;
 import org.apache.logging.log4j.Level;
 import org.springframework.retry.annotation.Backoff;
@@ -39,6 +49,7 @@ import reactor.core.publisher.Flux;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParser;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
@@ -51,6 +62,8 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     private final RecordItemListener recordItemListener;
     private final RecordStreamFileListener recordStreamFileListener;
     private final MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor;
+    private final EntityIdService entityIdService;
+    private final RecordParserProperties recordParserProperties;
 
     // Metrics
     private final Map<Integer, Timer> latencyMetrics;
@@ -62,11 +75,14 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
                             StreamFileRepository<RecordFile, Long> streamFileRepository,
                             RecordItemListener recordItemListener,
                             RecordStreamFileListener recordStreamFileListener,
-                            MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor) {
+                            MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor,
+                            EntityIdService entityIdService) {
         super(meterRegistry, parserProperties, streamFileRepository);
         this.recordItemListener = recordItemListener;
         this.recordStreamFileListener = recordStreamFileListener;
         this.mirrorDateRangePropertiesProcessor = mirrorDateRangePropertiesProcessor;
+        this.entityIdService = entityIdService;
+        this.recordParserProperties = parserProperties;
 
         // build transaction latency metrics
         ImmutableMap.Builder<Integer, Timer> latencyMetricsBuilder = ImmutableMap.builder();
@@ -111,27 +127,28 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         super.parse(recordFile);
     }
 
+    /**
+     * Parses consecutive record files in a single transaction, persisting the changes of all of them at once
+     *
+     * @param recordFiles the record files to process in consensus order
+     */
     @Override
-    protected void doParse(RecordFile recordFile) {
-        DateRangeFilter dateRangeFilter = mirrorDateRangePropertiesProcessor
-                .getDateRangeFilter(parserProperties.getStreamType());
+    @Leader
+    @Retryable(backoff = @Backoff(
+            delayExpression = "#{@recordParserProperties.getRetry().getMinBackoff().toMillis()}",
+            maxDelayExpression = "#{@recordParserProperties.getRetry().getMaxBackoff().toMillis()}",
+            multiplierExpression = "#{@recordParserProperties.getRetry().getMultiplier()}"),
+            maxAttemptsExpression = "#{@recordParserProperties.getRetry().getMaxAttempts()}")
+    @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
+    public void parse(List<RecordFile> recordFiles) {
+        super.parse(recordFiles);
+    }
 
+    @Override
+    protected void doParse(RecordFile recordFile) {
         try {
-            Flux<RecordItem> recordItems = recordFile.getItems();
-
-            if (log.getLevel().isInRange(Level.DEBUG, Level.TRACE)) {
-                recordItems = recordItems.doOnNext(this::logItem);
-            }
-
             recordStreamFileListener.onStart();
-            long count = recordItems.filter(r -> dateRangeFilter.filter(r.getConsensusTimestamp()))
-                    .doOnNext(recordItemListener::onItem)
-                    .doOnNext(this::recordMetrics)
-                    .count()
-                    .block();
-
-            recordFile.setCount(count);
-            recordFile.setLoadEnd(Instant.now().getEpochSecond());
+            parseItems(recordFile);
             recordStreamFileListener.onEnd(recordFile);
         } catch (Exception ex) {
             recordStreamFileListener.onError();
@@ -139,6 +156,45 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         }
     }
 
+    @Override
+    protected void doParse(List<RecordFile> recordFiles) {
+        try {
+            recordStreamFileListener.onStart();
+            recordFiles.forEach(this::parseItems);
+            recordStreamFileListener.onBatchEnd(recordFiles);
+        } catch (Exception ex) {
+            recordStreamFileListener.onError();
+            throw ex;
+        }
+    }
+
+    private void parseItems(RecordFile recordFile) {
+        DateRangeFilter dateRangeFilter = mirrorDateRangePropertiesProcessor
+                .getDateRangeFilter(parserProperties.getStreamType());
+        Flux<RecordItem> recordItems = recordFile.getItems();
+
+        if (log.getLevel().isInRange(Level.DEBUG, Level.TRACE)) {
+            recordItems = recordItems.doOnNext(this::logItem);
+        }
+
+        recordItems = recordItems.filter(r -> dateRangeFilter.filter(r.getConsensusTimestamp()));
+
+        int aliasPreloadSize = recordParserProperties.getAliasPreloadSize();
+        if (aliasPreloadSize > 0) {
+            recordItems = recordItems.buffer(aliasPreloadSize)
+                    .doOnNext(this::preloadEntityIds)
+                    .flatMapIterable(Function.identity());
+        }
+
+        long count = recordItems.doOnNext(recordItemListener::onItem)
+                .doOnNext(this::recordMetrics)
+                .count()
+                .block();
+
+        recordFile.setCount(count);
+        recordFile.setLoadEnd(Instant.now().getEpochSecond());
+    }
+
     private void logItem(RecordItem recordItem) {
         if (log.isTraceEnabled()) {
             log.trace("Transaction = {}, Record = {}",
@@ -149,6 +205,57 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         }
     }
 
+    /**
+     * Resolves the aliases and EVM addresses referenced by the record items in bulk before the listeners look them up
+     * one at a time.
+     */
+    private void preloadEntityIds(List<RecordItem> recordItems) {
+        List<AccountID> accountIds = new ArrayList<>();
+        List<ContractID> contractIds = new ArrayList<>();
+
+        for (RecordItem recordItem : recordItems) {
+            TransactionBody body = recordItem.getTransactionBody();
+            TransactionBody.DataCase dataCase = body.getDataCase();
+
+            if (dataCase == null) {
+                continue;
+            }
+
+            switch (dataCase) {
+                case CRYPTOTRANSFER:
+                    CryptoTransferTransactionBody cryptoTransfer = body.getCryptoTransfer();
+                    for (AccountAmount accountAmount : cryptoTransfer.getTransfers().getAccountAmountsList()) {
+                        accountIds.add(accountAmount.getAccountID());
+                    }
+
+                    for (TokenTransferList tokenTransferList : cryptoTransfer.getTokenTransfersList()) {
+                        for (AccountAmount accountAmount : tokenTransferList.getTransfersList()) {
+                            accountIds.add(accountAmount.getAccountID());
+                        }
+
+                        for (NftTransfer nftTransfer : tokenTransferList.getNftTransfersList()) {
+                            accountIds.add(nftTransfer.getReceiverAccountID());
+                            accountIds.add(nftTransfer.getSenderAccountID());
+                        }
+                    }
+                    break;
+                case CONTRACTCALL:
+                    contractIds.add(body.getContractCall().getContractID());
+                    break;
+                case CONTRACTDELETEINSTANCE:
+                    contractIds.add(body.getContractDeleteInstance().getContractID());
+                    break;
+                case CONTRACTUPDATEINSTANCE:
+                    contractIds.add(body.getContractUpdateInstance().getContractID());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        entityIdService.preload(accountIds, contractIds);
+    }
+
     private void recordMetrics(RecordItem recordItem) {
         sizeMetrics.getOrDefault(recordItem.getTransactionType(), unknownSizeMetric)
                 .record(recordItem.getTransactionBytes().length);
@@ -20,8 +20,11 @@ package com.hedera.mirror.importer.parser.record;
  * ‍
  */
 
+import java.time.Duration;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -36,9 +39,24 @@ import com.hedera.mirror.importer.parser.PartialDataAction;
 @ConfigurationProperties("hedera.mirror.importer.parser.record")
 public class RecordParserProperties extends AbstractParserProperties {
 
+    @Min(0)
+    private int aliasPreloadSize = 0;
+
+    @Min(1)
+    private int batchMaxFiles = 1;
+
+    @DurationMin(millis = 0L)
+    @NotNull
+    private Duration batchMaxWait = Duration.ofSeconds(1L);
+
     @NotNull
     private PartialDataAction partialDataAction = PartialDataAction.ERROR;
 
+    private boolean streamItems = false;
+
+    @Min(1)
+    private int streamWindow = 256;
+
     @Override
     public StreamType getStreamType() {
         return StreamType.RECORD;
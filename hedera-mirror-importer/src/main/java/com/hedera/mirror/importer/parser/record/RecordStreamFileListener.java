@@ -20,8 +20,16 @@ package com.hedera.mirror.importer.parser.record;
  * ‍
  */
 
+import java.util.List;
+
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.exception.ImporterException;
 import com.hedera.mirror.importer.parser.StreamFileListener;
 
 public interface RecordStreamFileListener extends StreamFileListener<RecordFile> {
+
+    /**
+     * Called once after processing the items of multiple record files parsed together in a single transaction.
+     */
+    void onBatchEnd(List<RecordFile> recordFiles) throws ImporterException;
 }
@@ -25,8 +25,11 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.base.Stopwatch;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
@@ -38,9 +41,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.SessionCallback;
 
+import com.hedera.mirror.common.converter.TopicMessageCodec;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.importer.MirrorProperties;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
@@ -135,7 +140,11 @@ public class RedisEntityListener implements BatchEntityListener {
     private void publish(List<TopicMessage> messages) {
         try {
             Stopwatch stopwatch = Stopwatch.createStarted();
-            timer.record(() -> redisOperations.executePipelined(callback(messages)));
+            if (redisProperties.isBinaryFormat()) {
+                timer.record(() -> redisOperations.executePipelined(binaryCallback(messages)));
+            } else {
+                timer.record(() -> redisOperations.executePipelined(callback(messages)));
+            }
             log.info("Finished notifying {} messages in {}", messages.size(), stopwatch);
         } catch (Exception e) {
             log.error("Unable to publish to redis", e);
@@ -156,6 +165,23 @@ public class RedisEntityListener implements BatchEntityListener {
         };
     }
 
+    // Batch send using Redis pipelining and a single binary encoded publish per topic
+    private RedisCallback<Object> binaryCallback(List<TopicMessage> messages) {
+        Map<Long, List<TopicMessage>> messagesByTopic = new LinkedHashMap<>();
+        for (TopicMessage topicMessage : messages) {
+            messagesByTopic.computeIfAbsent(topicMessage.getTopicId().getId(), k -> new ArrayList<>())
+                    .add(topicMessage);
+        }
+
+        return connection -> {
+            messagesByTopic.forEach((topicId, topicMessages) -> {
+                byte[] channel = channelNames.get(topicId).getBytes(StandardCharsets.UTF_8);
+                connection.publish(channel, TopicMessageCodec.encode(topicMessages));
+            });
+            return null;
+        };
+    }
+
     private String getChannelName(Long id) {
         return String.format(TOPIC_FORMAT, id);
     }
@@ -32,6 +32,8 @@ import com.hedera.mirror.importer.parser.record.entity.EntityListenerProperties;
 @ConfigurationProperties("hedera.mirror.importer.parser.record.entity.redis")
 public class RedisProperties implements EntityListenerProperties {
 
+    private boolean binaryFormat = false;
+
     private boolean enabled = true;
 
     @Min(1)
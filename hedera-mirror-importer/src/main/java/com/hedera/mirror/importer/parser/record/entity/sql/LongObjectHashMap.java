@@ -0,0 +1,226 @@
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * An open addressing hash map keyed by one or two primitive longs that holds the state merged within a record file.
+ * Unlike {@link java.util.HashMap}, keys aren't boxed, no entry is allocated per insert, and the backing arrays are
+ * kept when cleared so the next record file reuses them unless they've grown far larger than the record file needed.
+ * Null values are not supported.
+ *
+ * @param <V> the type of the values
+ */
+@SuppressWarnings("unchecked")
+class LongObjectHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int SHRINK_RATIO = 8;
+
+    private final int initialCapacity;
+    private final Collection<V> valuesView = new Values();
+
+    private long[] keys; // two longs per slot
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongObjectHashMap(int capacity) {
+        initialCapacity = tableSizeFor(capacity);
+        allocate(initialCapacity);
+    }
+
+    V get(long key) {
+        return get(key, 0L);
+    }
+
+    V get(long key1, long key2) {
+        for (int slot = slot(key1, key2); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot * 2] == key1 && keys[slot * 2 + 1] == key2) {
+                return (V) values[slot];
+            }
+        }
+
+        return null;
+    }
+
+    V merge(long key, V value, BinaryOperator<V> remappingFunction) {
+        return merge(key, 0L, value, remappingFunction);
+    }
+
+    /**
+     * Same as {@link java.util.Map#merge(Object, Object, java.util.function.BiFunction)}, except that the remapping
+     * function must not return null since entries can't be removed.
+     */
+    V merge(long key1, long key2, V value, BinaryOperator<V> remappingFunction) {
+        Objects.requireNonNull(value, "value is required");
+
+        for (int slot = slot(key1, key2); ; slot = (slot + 1) & mask) {
+            Object current = values[slot];
+
+            if (current == null) {
+                insert(slot, key1, key2, value);
+                return value;
+            }
+
+            if (keys[slot * 2] == key1 && keys[slot * 2 + 1] == key2) {
+                V merged = Objects.requireNonNull(remappingFunction.apply((V) current, value), "merged is required");
+                values[slot] = merged;
+                return merged;
+            }
+        }
+    }
+
+    /**
+     * Removes all entries. Clearing costs time proportional to the capacity, so if the map held far fewer entries than
+     * its capacity, e.g. after a single large record file, the arrays are reallocated at the size the entries needed
+     * instead of being scanned.
+     */
+    void clear() {
+        if (values.length > initialCapacity && size < values.length / SHRINK_RATIO) {
+            allocate(Math.max(initialCapacity, tableSizeFor(size * 2)));
+        } else if (size > 0) {
+            Arrays.fill(values, null);
+        }
+
+        size = 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return a live view of the values in no particular order
+     */
+    Collection<V> values() {
+        return valuesView;
+    }
+
+    int capacity() {
+        return values.length;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity * 2];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private void insert(int slot, long key1, long key2, V value) {
+        keys[slot * 2] = key1;
+        keys[slot * 2 + 1] = key2;
+        values[slot] = value;
+
+        // keep the load factor at or below one half so probe sequences stay short
+        if (++size > values.length / 2 && values.length < MAX_CAPACITY) {
+            rehash(values.length * 2);
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                long key1 = oldKeys[i * 2];
+                long key2 = oldKeys[i * 2 + 1];
+                int slot = slot(key1, key2);
+
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+
+                keys[slot * 2] = key1;
+                keys[slot * 2 + 1] = key2;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private int slot(long key1, long key2) {
+        long hash = key1 * 0x9E3779B97F4A7C15L + key2 * 0xC2B2AE3D27D4EB4FL;
+        hash ^= hash >>> 32;
+        return (int) (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        return Math.min(n, MAX_CAPACITY);
+    }
+
+    private class Values extends AbstractCollection<V> {
+
+        @Override
+        public Iterator<V> iterator() {
+            return new Iterator<>() {
+                private int next = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next < values.length;
+                }
+
+                @Override
+                public V next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    V value = (V) values[next];
+                    next = advance(next + 1);
+                    return value;
+                }
+
+                private int advance(int from) {
+                    int slot = from;
+                    while (slot < values.length && values[slot] == null) {
+                        slot++;
+                    }
+                    return slot;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
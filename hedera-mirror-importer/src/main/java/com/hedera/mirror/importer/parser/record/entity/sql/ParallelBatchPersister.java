@@ -0,0 +1,189 @@
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import javax.sql.DataSource;
+import lombok.Data;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.batch.StagingBatchInserter;
+import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+
+/**
+ * Persists independent insert-only collections concurrently. Each collection is copied into its staging table on a
+ * separate connection, then all staging tables are merged into their final tables on the connection bound to the
+ * current transaction. A failure in either phase rolls back the final tables since nothing is written to them outside
+ * the transaction, and the rows left in the staging tables are discarded once the transaction has rolled back.
+ */
+@Log4j2
+@Named
+@ConditionOnEntityRecordParser
+public class ParallelBatchPersister {
+
+    private final Map<Class<?>, StagingBatchInserter> batchInserters = new ConcurrentHashMap<>();
+    private final DataSource dataSource;
+    private final ExecutorService executorService;
+    private final MeterRegistry meterRegistry;
+    private final CommonParserProperties properties;
+    private final SqlProperties sqlProperties;
+
+    public ParallelBatchPersister(DataSource dataSource, MeterRegistry meterRegistry,
+                                  CommonParserProperties properties, SqlProperties sqlProperties) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.sqlProperties = sqlProperties;
+        // The number of workers submitted per batch bounds the concurrency, so idle threads are not kept around
+        executorService = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("parallel-persister-%d")
+                .build());
+    }
+
+    public void persist(Collection<? extends Collection<?>> batches) {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        List<StagedBatch> stagedBatches = new ArrayList<>();
+
+        for (Collection<?> items : batches) {
+            if (items != null && !items.isEmpty()) {
+                var batchInserter = batchInserters.computeIfAbsent(items.iterator().next().getClass(), this::create);
+                stagedBatches.add(new StagedBatch(batchInserter, items));
+            }
+        }
+
+        if (stagedBatches.isEmpty()) {
+            return;
+        }
+
+        discardOnRollback(stagedBatches);
+        copy(stagedBatches);
+
+        StagedBatch criticalPath = null;
+        Duration serialElapsed = Duration.ZERO;
+        for (StagedBatch stagedBatch : stagedBatches) {
+            serialElapsed = serialElapsed.plus(stagedBatch.getElapsed());
+            if (criticalPath == null || stagedBatch.getElapsed().compareTo(criticalPath.getElapsed()) > 0) {
+                criticalPath = stagedBatch;
+            }
+        }
+
+        Duration copyElapsed = stopwatch.elapsed();
+        stagedBatches.forEach(s -> s.getBatchInserter().merge());
+
+        // The sum of the copy durations is what copying the tables one after another would have taken
+        log.info("Copied {} tables in parallel in {} instead of {} serially with critical path {} in {}, merged in {}",
+                stagedBatches.size(), copyElapsed, serialElapsed, criticalPath.getBatchInserter().getFinalTableName(),
+                criticalPath.getElapsed(), stopwatch.elapsed().minus(copyElapsed));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executorService.shutdown();
+    }
+
+    /**
+     * Copies the batches using up to the configured parallelism of workers and waits for all of them to finish, even
+     * if one fails, so no copy can commit rows to a staging table after they have been discarded.
+     */
+    private void copy(List<StagedBatch> stagedBatches) {
+        Queue<StagedBatch> queue = new ConcurrentLinkedQueue<>(stagedBatches);
+        int workers = Math.min(sqlProperties.getParallelism(), stagedBatches.size());
+        List<Future<?>> futures = new ArrayList<>(workers);
+
+        for (int i = 0; i < workers; ++i) {
+            futures.add(executorService.submit(() -> {
+                StagedBatch stagedBatch;
+                while ((stagedBatch = queue.poll()) != null) {
+                    Stopwatch stopwatch = Stopwatch.createStarted();
+                    stagedBatch.getBatchInserter().persist(stagedBatch.getItems());
+                    stagedBatch.setElapsed(stopwatch.elapsed());
+                }
+            }));
+        }
+
+        ParserException exception = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exception = new ParserException(e);
+                queue.clear();
+            } catch (ExecutionException e) {
+                ParserException cause = e.getCause() instanceof ParserException ? (ParserException) e.getCause() :
+                        new ParserException(e.getCause());
+                exception = exception == null ? cause : exception;
+                queue.clear();
+            }
+        }
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private void discardOnRollback(List<StagedBatch> stagedBatches) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    stagedBatches.forEach(s -> s.getBatchInserter().discard());
+                }
+            }
+        });
+    }
+
+    private StagingBatchInserter create(Class<?> domainClass) {
+        return new StagingBatchInserter(domainClass, dataSource, meterRegistry, properties);
+    }
+
+    @Data
+    private static class StagedBatch {
+        private final StagingBatchInserter batchInserter;
+        private final Collection<?> items;
+        private Duration elapsed = Duration.ZERO;
+    }
+}
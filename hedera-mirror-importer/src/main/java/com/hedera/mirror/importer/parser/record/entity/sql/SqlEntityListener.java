@@ -26,6 +26,7 @@ import com.google.common.base.Stopwatch;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.inject.Named;
 import lombok.extern.log4j.Log4j2;
@@ -51,7 +52,6 @@ import com.hedera.mirror.common.domain.token.NftId;
 import com.hedera.mirror.common.domain.token.NftTransfer;
 import com.hedera.mirror.common.domain.token.Token;
 import com.hedera.mirror.common.domain.token.TokenAccount;
-import com.hedera.mirror.common.domain.token.TokenAccountKey;
 import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
@@ -83,6 +83,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private final BatchPersister batchPersister;
     private final EntityIdService entityIdService;
     private final ApplicationEventPublisher eventPublisher;
+    private final ParallelBatchPersister parallelBatchPersister;
     private final RecordFileRepository recordFileRepository;
     private final SqlProperties sqlProperties;
     private final BatchPersister tokenDissociateTransferBatchPersister;
@@ -112,30 +113,32 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private final Collection<TransactionSignature> transactionSignatures;
 
     // maps of upgradable domains
-    private final Map<Long, Contract> contractState;
-    private final Map<Long, Entity> entityState;
+    private final LongObjectHashMap<Contract> contractState;
+    private final LongObjectHashMap<Entity> entityState;
     private final Map<CryptoAllowance.Id, CryptoAllowance> cryptoAllowanceState;
     private final Map<NftId, Nft> nfts;
     private final Map<NftAllowance.Id, NftAllowance> nftAllowanceState;
-    private final Map<Long, Schedule> schedules;
-    private final Map<Long, Token> tokens;
+    private final LongObjectHashMap<Schedule> schedules;
+    private final LongObjectHashMap<Token> tokens;
     private final Map<TokenAllowance.Id, TokenAllowance> tokenAllowanceState;
 
     // tracks the state of <token, account> relationships in a batch, the initial state before the batch is in db.
     // for each <token, account> update, merge the state and the update, save the merged state to the batch.
     // during batch upsert, the merged state at time T is again merged with the initial state before the batch to
     // get the full state at time T
-    private final Map<TokenAccountKey, TokenAccount> tokenAccountState;
+    private final LongObjectHashMap<TokenAccount> tokenAccountState;
 
     public SqlEntityListener(BatchPersister batchPersister,
                              EntityIdService entityIdService,
                              ApplicationEventPublisher eventPublisher,
+                             ParallelBatchPersister parallelBatchPersister,
                              RecordFileRepository recordFileRepository,
                              SqlProperties sqlProperties,
                              @Qualifier(TOKEN_DISSOCIATE_BATCH_PERSISTER) BatchPersister tokenDissociateTransferBatchPersister) {
         this.batchPersister = batchPersister;
         this.entityIdService = entityIdService;
         this.eventPublisher = eventPublisher;
+        this.parallelBatchPersister = parallelBatchPersister;
         this.recordFileRepository = recordFileRepository;
         this.sqlProperties = sqlProperties;
         this.tokenDissociateTransferBatchPersister = tokenDissociateTransferBatchPersister;
@@ -163,14 +166,14 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         transactions = new ArrayList<>();
         transactionSignatures = new ArrayList<>();
 
-        contractState = new HashMap<>();
+        contractState = new LongObjectHashMap<>();
         cryptoAllowanceState = new HashMap<>();
-        entityState = new HashMap<>();
+        entityState = new LongObjectHashMap<>();
         nfts = new HashMap<>();
         nftAllowanceState = new HashMap<>();
-        schedules = new HashMap<>();
-        tokens = new HashMap<>();
-        tokenAccountState = new HashMap<>();
+        schedules = new LongObjectHashMap<>();
+        tokens = new LongObjectHashMap<>();
+        tokenAccountState = new LongObjectHashMap<>();
         tokenAllowanceState = new HashMap<>();
     }
 
@@ -192,6 +195,12 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    @Override
+    public void onBatchEnd(List<RecordFile> recordFiles) {
+        executeBatches();
+        recordFileRepository.saveAll(recordFiles);
+    }
+
     @Override
     public void onError() {
         cleanup();
@@ -243,19 +252,15 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
             Stopwatch stopwatch = Stopwatch.createStarted();
 
-            // insert only operations
-            batchPersister.persist(assessedCustomFees);
-            batchPersister.persist(contractLogs);
-            batchPersister.persist(contractResults);
-            batchPersister.persist(contractStateChanges);
-            batchPersister.persist(cryptoTransfers);
-            batchPersister.persist(customFees);
-            batchPersister.persist(ethereumTransactions);
-            batchPersister.persist(fileData);
-            batchPersister.persist(liveHashes);
-            batchPersister.persist(topicMessages);
-            batchPersister.persist(transactions);
-            batchPersister.persist(transactionSignatures);
+            // insert only operations have no dependency on each other and can be persisted concurrently
+            var insertOnly = List.of(assessedCustomFees, contractLogs, contractResults, contractStateChanges,
+                    cryptoTransfers, customFees, ethereumTransactions, fileData, liveHashes, topicMessages,
+                    transactions, transactionSignatures);
+            if (sqlProperties.getParallelism() > 1) {
+                parallelBatchPersister.persist(insertOnly);
+            } else {
+                insertOnly.forEach(batchPersister::persist);
+            }
 
             // insert operations with conflict management
             batchPersister.persist(contracts);
@@ -391,8 +396,9 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     @Override
     public void onTokenAccount(TokenAccount tokenAccount) throws ImporterException {
-        var key = new TokenAccountKey(tokenAccount.getId().getTokenId(), tokenAccount.getId().getAccountId());
-        TokenAccount merged = tokenAccountState.merge(key, tokenAccount, this::mergeTokenAccount);
+        var id = tokenAccount.getId();
+        TokenAccount merged = tokenAccountState.merge(id.getTokenId().getId(), id.getAccountId().getId(), tokenAccount,
+                this::mergeTokenAccount);
         tokenAccounts.add(merged);
     }
 
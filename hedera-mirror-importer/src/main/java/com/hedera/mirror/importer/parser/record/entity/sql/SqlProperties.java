@@ -35,4 +35,7 @@ public class SqlProperties {
     private int batchSize = 20_000;
 
     private boolean enabled = true;
+
+    @Min(1)
+    private int parallelism = 1;
 }
@@ -20,6 +20,7 @@ package com.hedera.mirror.importer.parser.record.pubsub;
  * ‍
  */
 
+import java.util.List;
 import javax.inject.Named;
 import lombok.RequiredArgsConstructor;
 
@@ -47,6 +48,11 @@ public class PubSubRecordStreamFileListener implements RecordStreamFileListener
         }
     }
 
+    @Override
+    public void onBatchEnd(List<RecordFile> recordFiles) throws ImporterException {
+        recordFileRepository.saveAll(recordFiles);
+    }
+
     @Override
     public void onError() {
         // Do nothing
@@ -26,16 +26,12 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import reactor.core.publisher.Flux;
 
@@ -83,44 +79,54 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
 
     protected abstract String getVersionHeaderPrefix();
 
+    /**
+     * Reads the header of the balance file and returns an account balance file whose items are parsed lazily from the
+     * file contents as they are requested, so only the lines in flight are held in memory. The count is set once all
+     * the items have been emitted.
+     */
     @Override
     public AccountBalanceFile read(StreamFileData streamFileData) {
-        MessageDigest messageDigest = DigestUtils.getSha384Digest();
         int bufferSize = balanceParserProperties.getFileBufferSize();
 
-        try (InputStream inputStream = new DigestInputStream(streamFileData.getInputStream(), messageDigest);
+        try (InputStream inputStream = streamFileData.getInputStream();
+             InputStream hashInputStream = streamFileData.getInputStream();
              BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, CHARSET), bufferSize)) {
             long consensusTimestamp = parseConsensusTimestamp(reader);
-            AtomicLong count = new AtomicLong(0L);
-            List<AccountBalance> items = new ArrayList<>();
 
             AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
             accountBalanceFile.setBytes(streamFileData.getBytes());
             accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
+            accountBalanceFile.setFileHash(DigestUtils.sha384Hex(hashInputStream));
+            accountBalanceFile.setItems(toFlux(streamFileData, accountBalanceFile));
             accountBalanceFile.setLoadStart(Instant.now().getEpochSecond());
             accountBalanceFile.setName(streamFileData.getFilename());
+            return accountBalanceFile;
+        } catch (IOException ex) {
+            throw new InvalidDatasetException("Error reading account balance file", ex);
+        }
+    }
+
+    private Flux<AccountBalance> toFlux(StreamFileData streamFileData, AccountBalanceFile accountBalanceFile) {
+        int bufferSize = balanceParserProperties.getFileBufferSize();
+        long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
 
-            reader.lines()
-                    .map(line -> {
+        return Flux.using(() -> new BufferedReader(new InputStreamReader(streamFileData.getInputStream(), CHARSET),
+                bufferSize), reader -> {
+            parseConsensusTimestamp(reader); // Skip the header lines
+            AtomicLong count = new AtomicLong(0L);
+
+            return Flux.fromStream(reader.lines())
+                    .<AccountBalance>handle((line, sink) -> {
                         try {
                             AccountBalance accountBalance = parser.parse(line, consensusTimestamp);
                             count.incrementAndGet();
-                            return accountBalance;
+                            sink.next(accountBalance);
                         } catch (InvalidDatasetException ex) {
                             log.error(ex);
-                            return null;
                         }
                     })
-                    .filter(Objects::nonNull)
-                    .forEachOrdered(items::add);
-
-            accountBalanceFile.setCount(count.get());
-            accountBalanceFile.setFileHash(DomainUtils.bytesToHex(messageDigest.digest()));
-            accountBalanceFile.setItems(Flux.fromIterable(items));
-            return accountBalanceFile;
-        } catch (IOException ex) {
-            throw new InvalidDatasetException("Error reading account balance file", ex);
-        }
+                    .doOnComplete(() -> accountBalanceFile.setCount(count.get()));
+        }, IOUtils::closeQuietly);
     }
 
     protected abstract long parseConsensusTimestamp(BufferedReader reader);
@@ -21,9 +21,12 @@ package com.hedera.mirror.importer.reader.record;
  */
 
 import com.google.common.primitives.Longs;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
 import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -33,26 +36,33 @@ import java.util.List;
 import javax.inject.Named;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.binary.Hex;
 import org.springframework.data.util.Version;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
 
 import com.hedera.mirror.common.domain.DigestAlgorithm;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
 import com.hedera.mirror.importer.exception.StreamFileReaderException;
+import com.hedera.mirror.importer.parser.record.RecordParserProperties;
 import com.hedera.mirror.importer.reader.AbstractStreamObject;
 import com.hedera.mirror.importer.reader.HashObject;
 import com.hedera.mirror.importer.reader.ValidatedDataInputStream;
 
 @Named
+@RequiredArgsConstructor
 public class RecordFileReaderImplV5 implements RecordFileReader {
 
     private static final DigestAlgorithm DIGEST_ALGORITHM = DigestAlgorithm.SHA384;
     private static final int VERSION = 5;
 
+    private final RecordParserProperties parserProperties;
+
     @Override
     public RecordFile read(StreamFileData streamFileData) {
         MessageDigest messageDigestFile = createMessageDigest(DIGEST_ALGORITHM);
@@ -73,7 +83,7 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
             recordFile.setName(filename);
 
             readHeader(vdis, recordFile);
-            readBody(vdis, digestInputStream, recordFile);
+            readBody(vdis, digestInputStream, recordFile, streamFileData);
 
             recordFile.setFileHash(Hex.encodeHexString(messageDigestFile.digest()));
             recordFile.setMetadataHash(Hex.encodeHexString(messageDigestMetadata.digest()));
@@ -93,7 +103,7 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
     }
 
     private void readBody(ValidatedDataInputStream vdis, DigestInputStream metadataDigestInputStream,
-                          RecordFile recordFile) throws IOException {
+                          RecordFile recordFile, StreamFileData streamFileData) throws IOException {
         String filename = recordFile.getName();
 
         vdis.readInt(); // object stream version
@@ -103,8 +113,28 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
         metadataDigestInputStream.on(false); // metadata hash is not calculated on record stream objects
         long hashObjectClassId = startHashObject.getClassId();
 
+        if (parserProperties.isStreamItems()) {
+            scanItems(vdis, hashObjectClassId, recordFile);
+            recordFile.setItems(streamItems(streamFileData, recordFile.getHapiVersion()));
+        } else {
+            readItems(vdis, hashObjectClassId, recordFile);
+        }
+
+        // end object running hash, metadata hash is calculated on it
+        metadataDigestInputStream.on(true);
+        HashObject endHashObject = new HashObject(vdis, DIGEST_ALGORITHM);
+
+        if (vdis.available() != 0) {
+            throw new InvalidStreamFileException("Extra data discovered in record file " + filename);
+        }
+
+        recordFile.setHash(Hex.encodeHexString(endHashObject.getHash()));
+        recordFile.setPreviousHash(Hex.encodeHexString(startHashObject.getHash()));
+    }
+
+    private void readItems(ValidatedDataInputStream vdis, long hashObjectClassId, RecordFile recordFile)
+            throws IOException {
         int count = 0;
-        long consensusStart = 0;
         List<RecordItem> items = new ArrayList<>();
         RecordItem lastRecordItem = null;
 
@@ -123,7 +153,7 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
             items.add(recordItem);
 
             if (count == 0) {
-                consensusStart = recordItem.getConsensusTimestamp();
+                recordFile.setConsensusStart(recordItem.getConsensusTimestamp());
             }
 
             lastRecordItem = recordItem;
@@ -131,24 +161,44 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
         }
 
         if (count == 0) {
-            throw new InvalidStreamFileException("No record stream objects in record file " + filename);
+            throw new InvalidStreamFileException("No record stream objects in record file " + recordFile.getName());
         }
-        long consensusEnd = lastRecordItem.getConsensusTimestamp();
 
-        // end object running hash, metadata hash is calculated on it
-        metadataDigestInputStream.on(true);
-        HashObject endHashObject = new HashObject(vdis, DIGEST_ALGORITHM);
+        recordFile.setConsensusEnd(lastRecordItem.getConsensusTimestamp());
+        recordFile.setCount((long) count);
+        recordFile.setItems(Flux.fromIterable(items));
+    }
 
-        if (vdis.available() != 0) {
-            throw new InvalidStreamFileException("Extra data discovered in record file " + filename);
+    /**
+     * Reads past the record stream objects so the hashes can be calculated, but only decodes the first and the last
+     * record to get the consensus range of the file. The items themselves are decoded later by {@link ItemStream}.
+     */
+    private void scanItems(ValidatedDataInputStream vdis, long hashObjectClassId, RecordFile recordFile)
+            throws IOException {
+        int count = 0;
+        RecordStreamObject lastRecordStreamObject = null;
+
+        while (!isHashObject(vdis, hashObjectClassId)) {
+            lastRecordStreamObject = new RecordStreamObject(vdis, recordFile.getHapiVersion(), count);
+
+            if (count == 0) {
+                recordFile.setConsensusStart(lastRecordStreamObject.getConsensusTimestamp());
+            }
+
+            count++;
+        }
+
+        if (count == 0) {
+            throw new InvalidStreamFileException("No record stream objects in record file " + recordFile.getName());
         }
 
+        recordFile.setConsensusEnd(lastRecordStreamObject.getConsensusTimestamp());
         recordFile.setCount((long) count);
-        recordFile.setConsensusEnd(consensusEnd);
-        recordFile.setConsensusStart(consensusStart);
-        recordFile.setHash(Hex.encodeHexString(endHashObject.getHash()));
-        recordFile.setItems(Flux.fromIterable(items));
-        recordFile.setPreviousHash(Hex.encodeHexString(startHashObject.getHash()));
+    }
+
+    private Flux<RecordItem> streamItems(StreamFileData streamFileData, Version hapiVersion) {
+        return Flux.generate(() -> new ItemStream(streamFileData, hapiVersion), ItemStream::next, ItemStream::close)
+                .limitRate(parserProperties.getStreamWindow());
     }
 
     private MessageDigest createMessageDigest(DigestAlgorithm digestAlgorithm) {
@@ -190,5 +240,78 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
                 throw new InvalidStreamFileException(e);
             }
         }
+
+        long getConsensusTimestamp() {
+            try {
+                var transactionRecord = TransactionRecord.parseFrom(recordBytes);
+                return DomainUtils.timestampInNanosMax(transactionRecord.getConsensusTimestamp());
+            } catch (InvalidProtocolBufferException e) {
+                throw new InvalidStreamFileException(e);
+            }
+        }
+    }
+
+    /**
+     * Re-reads the record stream objects of an already validated record file and decodes one record item per request,
+     * so only the items in flight are held in memory.
+     */
+    private class ItemStream {
+
+        private final String filename;
+        private final Version hapiVersion;
+        private final ValidatedDataInputStream vdis;
+        private final long hashObjectClassId;
+        private int count = 0;
+        private RecordItem lastRecordItem;
+
+        private ItemStream(StreamFileData streamFileData, Version hapiVersion) {
+            this.filename = streamFileData.getFilename();
+            this.hapiVersion = hapiVersion;
+            InputStream inputStream = new BufferedInputStream(streamFileData.getInputStream());
+            vdis = new ValidatedDataInputStream(inputStream, filename);
+
+            try {
+                vdis.readInt(VERSION, "record file version");
+                vdis.skipBytes(3 * Integer.BYTES); // hapi version
+                vdis.readInt(); // object stream version
+                hashObjectClassId = new HashObject(vdis, DIGEST_ALGORITHM).getClassId();
+            } catch (IOException e) {
+                close();
+                throw new StreamFileReaderException("Error streaming record file " + filename, e);
+            }
+        }
+
+        private ItemStream next(SynchronousSink<RecordItem> sink) {
+            try {
+                if (isHashObject(vdis, hashObjectClassId)) {
+                    sink.complete();
+                    return this;
+                }
+
+                RecordStreamObject recordStreamObject = new RecordStreamObject(vdis, hapiVersion, count);
+                lastRecordItem = RecordItem.builder()
+                        .hapiVersion(hapiVersion)
+                        .previous(lastRecordItem)
+                        .recordBytes(recordStreamObject.recordBytes)
+                        .retainPrevious(false)
+                        .transactionIndex(count)
+                        .transactionBytes(recordStreamObject.transactionBytes)
+                        .build();
+                count++;
+                sink.next(lastRecordItem);
+            } catch (IOException e) {
+                sink.error(new StreamFileReaderException("Error streaming record file " + filename, e));
+            }
+
+            return this;
+        }
+
+        private void close() {
+            try {
+                vdis.close();
+            } catch (IOException e) {
+                throw new StreamFileReaderException("Error closing record file " + filename, e);
+            }
+        }
     }
 }
@@ -23,16 +23,18 @@ package com.hedera.mirror.importer.reconciliation;
 import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.ReconciliationStatus.FAILURE_CRYPTO_TRANSFERS;
 import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.ReconciliationStatus.FAILURE_FIFTY_BILLION;
 import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.ReconciliationStatus.FAILURE_TOKEN_TRANSFERS;
+import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.ReconciliationStatus.RUNNING;
 import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.ReconciliationStatus.SUCCESS;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.Maps;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.inject.Named;
 import lombok.Getter;
@@ -41,11 +43,19 @@ import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
-import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.util.DomainUtils;
-import com.hedera.mirror.importer.repository.AccountBalanceFileRepository;
 
+/**
+ * Reconciles consecutive balance files against the crypto and token transfers between them. The difference between the
+ * previous balances plus the transfers and the current balances is calculated in the database, so only mismatched
+ * balances are returned. Each pair of balance files is independent, so pairs are reconciled in parallel, but progress is
+ * only checkpointed up to the last pair that succeeded with all the pairs before it.
+ */
 @Log4j2
 @Named
 class BalanceReconciliationService {
@@ -53,29 +63,71 @@ class BalanceReconciliationService {
     static final long FIFTY_BILLION_HBARS = 50_000_000_000L * 100_000_000L;
     static final String METRIC = "hedera.mirror.reconciliation";
 
-    private static final String BALANCE_QUERY = "select account_id, balance from account_balance " +
-            "where consensus_timestamp = ?";
+    private static final int DIFFERENCE_LIMIT = 10;
+    private static final int PAGE_SIZE = 1000;
 
-    private static final String CRYPTO_TRANSFER_QUERY = "select entity_id, sum(amount) balance from crypto_transfer " +
-            "where consensus_timestamp > ? and consensus_timestamp <= ? and (errata is null or errata <> 'DELETE') " +
-            "group by entity_id";
+    private static final String BALANCE_FILE_QUERY = "select consensus_timestamp, name, time_offset " +
+            "from account_balance_file where consensus_timestamp >= ? and consensus_timestamp <= ? " +
+            "order by consensus_timestamp asc limit ?";
 
-    private static final String TOKEN_BALANCE_QUERY = "select account_id, token_id, balance from token_balance " +
+    private static final String BALANCE_TOTAL_QUERY = "select coalesce(sum(balance), 0) from account_balance " +
             "where consensus_timestamp = ?";
 
-    private static final String TOKEN_TRANSFER_QUERY = "select account_id, token_id, sum(amount) as balance " +
-            "from token_transfer where consensus_timestamp > ? and consensus_timestamp <= ? " +
-            "group by token_id, account_id";
+    private static final String CRYPTO_TRANSFER_QUERY = "with previous as (" +
+            "  select account_id, balance from account_balance where consensus_timestamp = ?" +
+            "), transfer as (" +
+            "  select entity_id as account_id, sum(amount) as balance from crypto_transfer" +
+            "  where consensus_timestamp > ? and consensus_timestamp <= ? and (errata is null or errata <> 'DELETE')" +
+            "  group by entity_id" +
+            "), expected as (" +
+            "  select coalesce(p.account_id, t.account_id) as account_id," +
+            "    coalesce(p.balance, 0) + coalesce(t.balance, 0) as balance" +
+            "  from previous p full outer join transfer t on p.account_id = t.account_id" +
+            "), actual as (" +
+            "  select account_id, balance from account_balance where consensus_timestamp = ?" +
+            ") " +
+            "select coalesce(e.account_id, a.account_id), coalesce(e.balance, 0), coalesce(a.balance, 0) " +
+            "from expected e full outer join actual a on e.account_id = a.account_id " +
+            "where coalesce(e.balance, 0) <> coalesce(a.balance, 0) limit ?";
+
+    private static final String TOKEN_TRANSFER_QUERY = "with previous as (" +
+            "  select account_id, token_id, balance from token_balance where consensus_timestamp = ?" +
+            "), transfer as (" +
+            "  select account_id, token_id, sum(amount) as balance from token_transfer" +
+            "  where consensus_timestamp > ? and consensus_timestamp <= ?" +
+            "  group by token_id, account_id" +
+            "), expected as (" +
+            "  select coalesce(p.account_id, t.account_id) as account_id," +
+            "    coalesce(p.token_id, t.token_id) as token_id," +
+            "    coalesce(p.balance, 0) + coalesce(t.balance, 0) as balance" +
+            "  from previous p full outer join transfer t" +
+            "    on p.account_id = t.account_id and p.token_id = t.token_id" +
+            "), actual as (" +
+            "  select account_id, token_id, balance from token_balance where consensus_timestamp = ?" +
+            ") " +
+            "select coalesce(e.account_id, a.account_id), coalesce(e.token_id, a.token_id), " +
+            "coalesce(e.balance, 0), coalesce(a.balance, 0) " +
+            "from expected e full outer join actual a on e.account_id = a.account_id and e.token_id = a.token_id " +
+            "where coalesce(e.balance, 0) <> coalesce(a.balance, 0) limit ?";
+
+    private static final String JOB_CHECKPOINT_QUERY = "select consensus_timestamp from reconciliation_job " +
+            "order by timestamp_start desc limit 1";
+
+    private static final String JOB_INSERT = "insert into reconciliation_job (consensus_timestamp, count, status, " +
+            "timestamp_start) values (?, 0, ?, ?)";
+
+    private static final String JOB_UPDATE_CHECKPOINT = "update reconciliation_job set consensus_timestamp = ?, " +
+            "count = ? where timestamp_start = ?";
+
+    private static final String JOB_UPDATE_STATUS = "update reconciliation_job set error = ?, status = ?, " +
+            "timestamp_end = ? where timestamp_start = ?";
 
-    private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final JdbcOperations jdbcOperations;
     private final ReconciliationProperties reconciliationProperties;
     private final AtomicReference<ReconciliationStatus> status;
 
-    BalanceReconciliationService(AccountBalanceFileRepository accountBalanceFileRepository,
-                                 JdbcOperations jdbcOperations, MeterRegistry meterRegistry,
+    BalanceReconciliationService(JdbcOperations jdbcOperations, MeterRegistry meterRegistry,
                                  ReconciliationProperties reconciliationProperties) {
-        this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.jdbcOperations = jdbcOperations;
         this.reconciliationProperties = reconciliationProperties;
         status = new AtomicReference<>(SUCCESS);
@@ -91,61 +143,80 @@ class BalanceReconciliationService {
         }
 
         Stopwatch stopwatch = Stopwatch.createStarted();
-        Optional<BalanceSnapshot> previous = Optional.empty();
+        ReconciliationJob job = startJob();
+        String error = "";
+        Scheduler scheduler = Schedulers.newParallel("reconciliation", reconciliationProperties.getParallelism());
 
         try {
             log.info("Reconciling balance files between {} and {}",
                     reconciliationProperties.getStartDate(), reconciliationProperties.getEndDate());
-            previous = getNextBalanceSnapshot(Optional.empty());
+            long fromTimestamp = DomainUtils.convertToNanosMax(reconciliationProperties.getStartDate());
+            List<BalanceSnapshot> snapshots = getBalanceSnapshots(fromTimestamp);
 
-            if (previous.isEmpty()) {
+            if (snapshots.isEmpty()) {
                 log.info("No balance files to process");
                 return;
             }
 
-            var current = getNextBalanceSnapshot(previous);
-
-            while (current.isPresent()) {
-                reconcile(previous.get(), current.get());
-                previous = current;
-                current = getNextBalanceSnapshot(previous);
+            verifyFiftyBillion(snapshots.get(0));
+            job.start(snapshots.get(0));
+
+            while (snapshots.size() > 1) {
+                List<SnapshotPair> pairs = new ArrayList<>(snapshots.size() - 1);
+                for (int i = 1; i < snapshots.size(); ++i) {
+                    pairs.add(new SnapshotPair(snapshots.get(i - 1), snapshots.get(i)));
+                }
+
+                // Materialize so a failed pair only surfaces after all the pairs before it have been checkpointed
+                Flux.fromIterable(pairs)
+                        .flatMapSequential(pair -> Mono.fromRunnable(() -> reconcile(pair))
+                                .subscribeOn(scheduler)
+                                .thenReturn(pair)
+                                .materialize(), reconciliationProperties.getParallelism())
+                        .<SnapshotPair>dematerialize()
+                        .doOnNext(pair -> job.checkpoint(pair.getCurrent()))
+                        .blockLast();
+
+                long lastTimestamp = snapshots.get(snapshots.size() - 1).getTimestamp();
+                snapshots = snapshots.size() < PAGE_SIZE ? List.of() : getBalanceSnapshots(lastTimestamp);
             }
 
             log.info("Reconciliation completed successfully in {}", stopwatch);
         } catch (ReconciliationException e) {
             status.set(e.getStatus());
+            error = e.getMessage();
             log.warn("Reconciliation completed unsuccessfully in {}: {}", stopwatch, e.getMessage());
         } catch (Exception e) {
             status.set(ReconciliationStatus.FAILURE_UNKNOWN);
+            error = String.valueOf(e.getMessage());
             log.error("Reconciliation completed unsuccessfully in {}", stopwatch, e);
         } finally {
-            previous.map(BalanceSnapshot::getInstant).ifPresent(reconciliationProperties::setStartDate);
+            scheduler.dispose();
+            job.finish(status.get(), error);
         }
     }
 
-    private void reconcile(BalanceSnapshot previous, BalanceSnapshot current) {
+    private void reconcile(SnapshotPair pair) {
         Stopwatch stopwatch = Stopwatch.createStarted();
 
-        reconcileCryptoTransfers(previous, current);
-        reconcileTokenTransfers(previous, current);
+        verifyFiftyBillion(pair.getCurrent());
+        reconcileCryptoTransfers(pair.getPrevious(), pair.getCurrent());
+        reconcileTokenTransfers(pair.getPrevious(), pair.getCurrent());
 
-        String name = current.getAccountBalanceFile().getName();
-        log.info("Reconciled balance file {} in {}", name, stopwatch);
+        log.info("Reconciled balance file {} in {}", pair.getCurrent().getName(), stopwatch);
     }
 
     private void reconcileCryptoTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
-        long fromTimestamp = previous.getTimestamp();
-        long toTimestamp = current.getTimestamp();
-        var transfersBalance = previous.getBalances();
+        long fromTimestamp = previous.getTransferTimestamp();
+        long toTimestamp = current.getTransferTimestamp();
+        Map<Long, String> difference = new LinkedHashMap<>();
 
         jdbcOperations.query(CRYPTO_TRANSFER_QUERY, rs -> {
             long accountId = rs.getLong(1);
-            long balance = rs.getLong(2);
-            transfersBalance.merge(accountId, balance, Math::addExact);
-        }, fromTimestamp, toTimestamp);
+            difference.put(accountId, difference(rs.getLong(2), rs.getLong(3)));
+        }, previous.getTimestamp(), fromTimestamp, toTimestamp, current.getTimestamp(), DIFFERENCE_LIMIT);
 
-        if (!equals(transfersBalance, current.getBalances())) {
-            var difference = Maps.difference(transfersBalance, current.getBalances());
+        if (!difference.isEmpty()) {
             throw new ReconciliationException(FAILURE_CRYPTO_TRANSFERS, fromTimestamp, toTimestamp, difference);
         }
     }
@@ -155,89 +226,59 @@ class BalanceReconciliationService {
             return;
         }
 
-        long fromTimestamp = previous.getTimestamp();
-        long toTimestamp = current.getTimestamp();
-        var tokenBalances = previous.getTokenBalances();
+        long fromTimestamp = previous.getTransferTimestamp();
+        long toTimestamp = current.getTransferTimestamp();
+        Map<TokenAccountId, String> difference = new LinkedHashMap<>();
 
         jdbcOperations.query(TOKEN_TRANSFER_QUERY, rs -> {
-            long accountId = rs.getLong(1);
-            long tokenId = rs.getLong(2);
-            long balance = rs.getLong(3);
-            var tokenAccountId = new TokenAccountId(accountId, tokenId);
-            tokenBalances.merge(tokenAccountId, balance, Math::addExact);
-        }, fromTimestamp, toTimestamp);
-
-        if (!equals(tokenBalances, current.getTokenBalances())) {
-            var difference = Maps.difference(tokenBalances, current.getTokenBalances());
-            throw new ReconciliationException(FAILURE_TOKEN_TRANSFERS, fromTimestamp, toTimestamp, difference);
-        }
-    }
+            var tokenAccountId = new TokenAccountId(rs.getLong(1), rs.getLong(2));
+            difference.put(tokenAccountId, difference(rs.getLong(3), rs.getLong(4)));
+        }, previous.getTimestamp(), fromTimestamp, toTimestamp, current.getTimestamp(), DIFFERENCE_LIMIT);
 
-    private <T> boolean equals(Map<T, Long> previous, Map<T, Long> current) {
-        for (var previousEntry : previous.entrySet()) {
-            long currentValue = current.getOrDefault(previousEntry.getKey(), 0L);
-            if (previousEntry.getValue() != currentValue) {
-                return false;
-            }
-        }
-        for (var currentEntry : current.entrySet()) {
-            long previousValue = previous.getOrDefault(currentEntry.getKey(), 0L);
-            if (currentEntry.getValue() != previousValue) {
-                return false;
-            }
+        if (!difference.isEmpty()) {
+            throw new ReconciliationException(FAILURE_TOKEN_TRANSFERS, fromTimestamp, toTimestamp, difference);
         }
-        return true;
     }
 
-    private Optional<BalanceSnapshot> getNextBalanceSnapshot(Optional<BalanceSnapshot> previous) {
-
-        long toTimestamp = DomainUtils.convertToNanosMax(reconciliationProperties.getEndDate());
-        long fromTimestamp = previous.map(BalanceSnapshot::getAccountBalanceFile)
-                .map(AccountBalanceFile::getConsensusTimestamp)
-                .map(t -> t + 1L)
-                .orElseGet(() -> DomainUtils.convertToNanosMax(reconciliationProperties.getStartDate()));
-
-        return accountBalanceFileRepository.findNextInRange(fromTimestamp, toTimestamp)
-                .map(accountBalanceFile -> {
-                    var balances = getAccountBalances(accountBalanceFile);
-                    var tokenBalances = getTokenBalances(accountBalanceFile);
-                    return new BalanceSnapshot(accountBalanceFile, balances, tokenBalances);
-                });
+    private String difference(long expected, long actual) {
+        return "(" + expected + ", " + actual + ")";
     }
 
-    private Map<Long, Long> getAccountBalances(AccountBalanceFile accountBalanceFile) {
-        Map<Long, Long> balances = new HashMap<>();
-        AtomicLong total = new AtomicLong(0L);
-        long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
+    private void verifyFiftyBillion(BalanceSnapshot snapshot) {
+        Long total = jdbcOperations.queryForObject(BALANCE_TOTAL_QUERY, Long.class, snapshot.getTimestamp());
 
-        jdbcOperations.query(BALANCE_QUERY, rs -> {
-            long accountId = rs.getLong(1);
-            long balance = rs.getLong(2);
-            balances.put(accountId, balance);
-            total.addAndGet(balance);
-        }, consensusTimestamp);
-
-        if (total.get() != FIFTY_BILLION_HBARS) {
-            String name = accountBalanceFile.getName();
-            throw new ReconciliationException(FAILURE_FIFTY_BILLION, name, total.get());
+        if (total == null || total != FIFTY_BILLION_HBARS) {
+            throw new ReconciliationException(FAILURE_FIFTY_BILLION, snapshot.getName(), total);
         }
-
-        return balances;
     }
 
-    private Map<TokenAccountId, Long> getTokenBalances(AccountBalanceFile accountBalanceFile) {
-        Map<TokenAccountId, Long> balances = new HashMap<>();
-        long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
+    private List<BalanceSnapshot> getBalanceSnapshots(long fromTimestamp) {
+        long toTimestamp = DomainUtils.convertToNanosMax(reconciliationProperties.getEndDate());
+        return jdbcOperations.query(BALANCE_FILE_QUERY, (rs, rowNum) -> new BalanceSnapshot(rs.getLong(1),
+                rs.getString(2), rs.getInt(3)), fromTimestamp, toTimestamp, PAGE_SIZE);
+    }
 
-        jdbcOperations.query(TOKEN_BALANCE_QUERY, rs -> {
-            long accountId = rs.getLong(1);
-            long tokenId = rs.getLong(2);
-            long balance = rs.getLong(3);
-            var tokenAccountId = new TokenAccountId(accountId, tokenId);
-            balances.put(tokenAccountId, balance);
-        }, consensusTimestamp);
+    /**
+     * Resumes from the checkpoint of the last job if it is after the configured start date.
+     */
+    private ReconciliationJob startJob() {
+        Instant startDate = reconciliationProperties.getStartDate();
+        Optional<Instant> checkpoint = jdbcOperations.query(JOB_CHECKPOINT_QUERY,
+                        (rs, rowNum) -> Instant.ofEpochSecond(0L, rs.getLong(1)))
+                .stream()
+                .findFirst()
+                .filter(c -> c.isAfter(startDate) && !c.isAfter(reconciliationProperties.getEndDate()));
+
+        if (checkpoint.isPresent()) {
+            log.info("Resuming reconciliation from checkpoint {}", checkpoint.get());
+            reconciliationProperties.setStartDate(checkpoint.get());
+        }
 
-        return balances;
+        var job = new ReconciliationJob(Instant.now(), DomainUtils.convertToNanosMax(
+                reconciliationProperties.getStartDate()));
+        jdbcOperations.update(JOB_INSERT, job.consensusTimestamp, RUNNING.ordinal(),
+                Timestamp.from(job.timestampStart));
+        return job;
     }
 
     @Getter
@@ -248,7 +289,8 @@ class BalanceReconciliationService {
         FAILURE_CRYPTO_TRANSFERS("Crypto transfers in range (%d, %d]: %s"),
         FAILURE_FIFTY_BILLION("Balance file %s does not add up to 50B: %d"),
         FAILURE_TOKEN_TRANSFERS("Token transfers in range (%d, %d]: %s"),
-        FAILURE_UNKNOWN("Unknown error");
+        FAILURE_UNKNOWN("Unknown error"),
+        RUNNING("");
 
         private final String message;
     }
@@ -260,17 +302,59 @@ class BalanceReconciliationService {
     }
 
     @Value
-    private class BalanceSnapshot {
-        private final AccountBalanceFile accountBalanceFile;
-        private final Map<Long, Long> balances;
-        private final Map<TokenAccountId, Long> tokenBalances;
+    private static class BalanceSnapshot {
+        private final long timestamp;
+        private final String name;
+        private final int timeOffset;
 
         private Instant getInstant() {
-            return Instant.ofEpochSecond(0L, accountBalanceFile.getConsensusTimestamp());
+            return Instant.ofEpochSecond(0L, timestamp);
+        }
+
+        private long getTransferTimestamp() {
+            return timestamp + timeOffset;
+        }
+    }
+
+    @Value
+    private static class SnapshotPair {
+        private final BalanceSnapshot previous;
+        private final BalanceSnapshot current;
+    }
+
+    /**
+     * Tracks the progress of a reconciliation run in the reconciliation_job table. The checkpoint is the last balance
+     * file that was reconciled along with all the files before it.
+     */
+    private class ReconciliationJob {
+
+        private final Instant timestampStart;
+        private long consensusTimestamp;
+        private long count = 0L;
+
+        private ReconciliationJob(Instant timestampStart, long consensusTimestamp) {
+            this.timestampStart = timestampStart;
+            this.consensusTimestamp = consensusTimestamp;
+        }
+
+        private void start(BalanceSnapshot snapshot) {
+            update(snapshot);
+        }
+
+        private void checkpoint(BalanceSnapshot snapshot) {
+            ++count;
+            update(snapshot);
+        }
+
+        private void update(BalanceSnapshot snapshot) {
+            consensusTimestamp = snapshot.getTimestamp();
+            reconciliationProperties.setStartDate(snapshot.getInstant());
+            jdbcOperations.update(JOB_UPDATE_CHECKPOINT, consensusTimestamp, count, Timestamp.from(timestampStart));
         }
 
-        private long getTimestamp() {
-            return accountBalanceFile.getConsensusTimestamp() + accountBalanceFile.getTimeOffset();
+        private void finish(ReconciliationStatus reconciliationStatus, String error) {
+            jdbcOperations.update(JOB_UPDATE_STATUS, error, reconciliationStatus.ordinal(),
+                    Timestamp.from(Instant.now()), Timestamp.from(timestampStart));
         }
     }
 }
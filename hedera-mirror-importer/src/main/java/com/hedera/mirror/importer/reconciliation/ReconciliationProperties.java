@@ -21,6 +21,7 @@ package com.hedera.mirror.importer.reconciliation;
  */
 
 import java.time.Instant;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 import lombok.Data;
@@ -42,6 +43,9 @@ class ReconciliationProperties {
     @NotNull
     private Instant endDate = Utility.MAX_INSTANT_LONG;
 
+    @Min(1)
+    private int parallelism = 4;
+
     @NotNull
     private Instant startDate = Instant.EPOCH;
 
@@ -20,6 +20,8 @@ package com.hedera.mirror.importer.repository;
  * ‍
  */
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -30,4 +32,8 @@ public interface ContractRepository extends CrudRepository<Contract, Long> {
 
     @Query(value = "select id from contract where evm_address = ?1 and deleted <> true", nativeQuery = true)
     Optional<Long> findByEvmAddress(byte[] evmAddress);
+
+    @Query(value = "select evm_address as alias, id from contract where evm_address in (?1) and deleted <> true",
+            nativeQuery = true)
+    List<AliasEntityId> findByEvmAddressIn(Collection<byte[]> evmAddresses);
 }
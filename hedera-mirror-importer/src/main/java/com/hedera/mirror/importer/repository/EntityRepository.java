@@ -20,6 +20,8 @@ package com.hedera.mirror.importer.repository;
  * ‍
  */
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -30,4 +32,7 @@ public interface EntityRepository extends CrudRepository<Entity, Long> {
 
     @Query(value = "select id from entity where alias = ?1 and deleted <> true", nativeQuery = true)
     Optional<Long> findByAlias(byte[] alias);
+
+    @Query(value = "select alias, id from entity where alias in (?1) and deleted <> true", nativeQuery = true)
+    List<AliasEntityId> findByAliasIn(Collection<byte[]> aliases);
 }
@@ -74,6 +74,14 @@ public abstract class AbstractUpsertQueryGenerator<T> implements UpsertQueryGene
         return EMPTY_CLAUSE;
     }
 
+    /**
+     * The where clause of the upsert query. The final table is left joined with the temporary table so a null final
+     * table id denotes a new row. An empty clause indicates the generator doesn't support the upsert query.
+     */
+    protected String getUpsertWhereClause() {
+        return EMPTY_CLAUSE;
+    }
+
     protected boolean needsOnConflictAction() {
         return true;
     }
@@ -142,6 +150,54 @@ public abstract class AbstractUpsertQueryGenerator<T> implements UpsertQueryGene
         return insertQueryBuilder.toString();
     }
 
+    @Override
+    public String getExistsQuery() {
+        if (isInsertOnly() || StringUtils.isEmpty(getUpsertWhereClause())) {
+            return EMPTY_CLAUSE;
+        }
+
+        return String.format("select exists (select 1 from %s join %s on %s)",
+                getTemporaryTableName(), getFinalTableName(), getIdJoinClause());
+    }
+
+    /**
+     * Builds a single insert on conflict do update query that has the same result as running the insert query followed
+     * by the update query. New rows get the values of the insert query and existing rows get the values of the update
+     * query, with non-updatable columns keeping their existing values.
+     */
+    @Override
+    public String getUpsertQuery() {
+        if (isInsertOnly()) {
+            return getInsertQuery();
+        }
+
+        String upsertWhereClause = getUpsertWhereClause();
+        if (StringUtils.isEmpty(upsertWhereClause)) {
+            return EMPTY_CLAUSE;
+        }
+
+        List<DomainField> domainFields = getSelectableDomainFields();
+        String selectClause = domainFields.stream()
+                .map(this::getUpsertSelectQuery)
+                .collect(Collectors.joining(", "));
+        String updateClause = domainFields.stream()
+                .map(DomainField::getName)
+                .filter(this::isUpdatableColumn)
+                .map(this::getFormattedColumnName)
+                .map(c -> String.format("%1$s = excluded.%1$s", c))
+                .collect(Collectors.joining(", "));
+
+        return String.format("insert into %s (%s) select %s from %s left join %s on %s%s%s",
+                getFinalTableName(),
+                getColumnListFromSelectableColumns(),
+                selectClause,
+                getTemporaryTableName(),
+                getFinalTableName(),
+                getIdJoinClause(),
+                upsertWhereClause,
+                getConflictClause("update set " + updateClause));
+    }
+
     @Override
     public String getUpdateQuery() {
         if (isInsertOnly()) {
@@ -205,11 +261,41 @@ public abstract class AbstractUpsertQueryGenerator<T> implements UpsertQueryGene
 
     private String getUpdateCoalesceAssign(String column) {
         // e.g. "memo = coalesce(entity_temp.memo, entity.memo)"
-        String formattedColumnName = getFullFinalTableColumnName(column);
-        return String.format("%s = coalesce(%s, %s)",
-                getFormattedColumnName(column),
+        return String.format("%s = %s", getFormattedColumnName(column), getUpdateCoalesce(column));
+    }
+
+    private String getUpdateCoalesce(String column) {
+        return String.format("coalesce(%s, %s)",
                 getFullTempTableColumnName(column),
-                formattedColumnName);
+                getFullFinalTableColumnName(column));
+    }
+
+    private String getIdJoinClause() {
+        return getConflictIdColumns()
+                .stream()
+                .map(c -> String.format("%s = %s", getFullFinalTableColumnName(c), getFullTempTableColumnName(c)))
+                .collect(Collectors.joining(" and "));
+    }
+
+    private boolean isUpdatableColumn(String column) {
+        return !getNonUpdatableColumns().contains(column);
+    }
+
+    private String getUpsertSelectQuery(DomainField domainField) {
+        // e.g. "case when token.token_id is null then token_temp.name else coalesce(token_temp.name, token.name) end"
+        String column = domainField.getName();
+        String existingValue = getFullFinalTableColumnName(column);
+
+        if (isUpdatableColumn(column)) {
+            String attributeUpdateQuery = getAttributeUpdateQuery(column);
+            existingValue = StringUtils.isEmpty(attributeUpdateQuery) ? getUpdateCoalesce(column) :
+                    StringUtils.removeStart(attributeUpdateQuery, getFormattedColumnName(column) + " = ");
+        }
+
+        return String.format("case when %s is null then %s else %s end",
+                getFullFinalTableColumnName(getConflictIdColumns().get(0)),
+                getAttributeSelectQuery(domainField.getType(), column),
+                existingValue);
     }
 
     private String getDoNothingConflictClause() {
@@ -105,6 +105,14 @@ public class GenericUpsertQueryGenerator implements UpsertQueryGenerator {
         return "";
     }
 
+    /**
+     * The insert query already updates existing rows via its on conflict clause
+     */
+    @Override
+    public String getUpsertQuery() {
+        return getInsertQuery();
+    }
+
     private String closeRange(String input) {
         return input.replace("e.timestamp_range",
                 "int8range(min(lower(e.timestamp_range)), min(lower(t.timestamp_range))) as timestamp_range");
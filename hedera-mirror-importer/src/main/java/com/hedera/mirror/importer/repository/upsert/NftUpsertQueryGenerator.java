@@ -20,6 +20,7 @@ package com.hedera.mirror.importer.repository.upsert;
  * ‍
  */
 
+import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Set;
 import javax.inject.Named;
@@ -64,6 +65,19 @@ public class NftUpsertQueryGenerator extends AbstractUpsertQueryGenerator<Nft_>
         return insertWhereQueryBuilder.toString();
     }
 
+    @Override
+    public String getUpsertWhereClause() {
+        // update existing nfts and insert new nfts when created and the token is present
+        return String.format(" where %s is not null or (%s is null and %s is not null and exists " +
+                        "(select 1 from %s where %s = %s))",
+                getFullFinalTableColumnName(Nft_.CREATED_TIMESTAMP),
+                getFullFinalTableColumnName(NftId_.TOKEN_ID),
+                getFullTempTableColumnName(Nft_.CREATED_TIMESTAMP),
+                TokenUpsertQueryGenerator.TABLE,
+                getFullTableColumnName(TokenUpsertQueryGenerator.TABLE, TokenId_.TOKEN_ID),
+                getFullTempTableColumnName(NftId_.TOKEN_ID));
+    }
+
     @Override
     public String getUpdateWhereClause() {
         // update rows when incoming created is not set with matching ids
@@ -75,6 +89,18 @@ public class NftUpsertQueryGenerator extends AbstractUpsertQueryGenerator<Nft_>
                 getFullTempTableColumnName(NftId_.SERIAL_NUMBER));
     }
 
+    @Override
+    protected String getAttributeSelectQuery(Type attributeType, String attributeName) {
+        if (attributeName.equalsIgnoreCase(Nft_.ACCOUNT_ID)) {
+            // same as the update so an insert of a deleted nft doesn't need the update to clear its account
+            return String.format("case when %s = true then null else %s end",
+                    getFullTempTableColumnName(Nft_.DELETED),
+                    getFullTempTableColumnName(Nft_.ACCOUNT_ID));
+        }
+
+        return super.getAttributeSelectQuery(attributeType, attributeName);
+    }
+
     @Override
     public String getAttributeUpdateQuery(String attributeName) {
         if (attributeName.equalsIgnoreCase(Nft_.ACCOUNT_ID)) {
@@ -23,6 +23,7 @@ package com.hedera.mirror.importer.repository.upsert;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import javax.inject.Named;
 import javax.persistence.metamodel.SingularAttribute;
 import lombok.Getter;
@@ -43,6 +44,10 @@ public class TokenAccountUpsertQueryGenerator extends AbstractUpsertQueryGenerat
     // special care. Other columns are set by coalescing the temp table column and the last association column
     private static final Set<String> COALESCE_COLUMNS = Set.of(TokenAccount_.ASSOCIATED,
             TokenAccount_.AUTOMATIC_ASSOCIATION, TokenAccount_.CREATED_TIMESTAMP);
+    // the remaining columns are recomputed from the temp table when a row with the same primary key already exists
+    private static final List<String> UPSERT_COLUMNS = List.of(TokenAccount_.ASSOCIATED,
+            TokenAccount_.AUTOMATIC_ASSOCIATION, TokenAccount_.CREATED_TIMESTAMP, TokenAccount_.FREEZE_STATUS,
+            TokenAccount_.KYC_STATUS);
     private final String finalTableName = "token_account";
     private final String temporaryTableName = getFinalTableName() + "_temp";
     private final List<String> conflictIdColumns = List.of(TokenAccountId_.ACCOUNT_ID, TokenAccountId_.TOKEN_ID);
@@ -148,6 +153,24 @@ public class TokenAccountUpsertQueryGenerator extends AbstractUpsertQueryGenerat
         return super.getAttributeSelectQuery(attributeType, attributeName);
     }
 
+    /**
+     * Token account rows are history rows keyed by the modified timestamp, so the upsert is the insert query with a
+     * conflict clause on the primary key instead of a separate update query.
+     */
+    @Override
+    public String getUpsertQuery() {
+        String updateClause = UPSERT_COLUMNS.stream()
+                .map(this::getFormattedColumnName)
+                .map(c -> String.format("%1$s = excluded.%1$s", c))
+                .collect(Collectors.joining(", "));
+        return String.format("%s on conflict (%s, %s, %s) do update set %s",
+                getInsertQuery(),
+                getFormattedColumnName(TokenAccountId_.ACCOUNT_ID),
+                getFormattedColumnName(TokenAccountId_.MODIFIED_TIMESTAMP),
+                getFormattedColumnName(TokenAccountId_.TOKEN_ID),
+                updateClause);
+    }
+
     @Override
     protected boolean needsOnConflictAction() {
         return false;
@@ -76,4 +76,9 @@ public class TokenDissociateTransferUpsertQueryGenerator implements UpsertQueryG
     public String getUpdateQuery() {
         return "";
     }
+
+    @Override
+    public String getUpsertQuery() {
+        return INSERT_SQL;
+    }
 }
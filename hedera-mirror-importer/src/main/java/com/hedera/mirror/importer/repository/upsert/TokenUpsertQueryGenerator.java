@@ -77,6 +77,14 @@ public class TokenUpsertQueryGenerator extends AbstractUpsertQueryGenerator<Toke
                 getFullTempTableColumnName(Token_.CREATED_TIMESTAMP));
     }
 
+    @Override
+    public String getUpsertWhereClause() {
+        // insert new tokens when created and update existing tokens when not created
+        return String.format(" where (%1$s is null and %2$s is not null) or (%1$s is not null and %2$s is null)",
+                getFullFinalTableColumnName(Token_.TOKEN_ID),
+                getFullTempTableColumnName(Token_.CREATED_TIMESTAMP));
+    }
+
     @Override
     public String getUpdateWhereClause() {
         return String.format(" where %s = %s and %s is null",
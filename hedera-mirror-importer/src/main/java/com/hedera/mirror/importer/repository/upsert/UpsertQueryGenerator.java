@@ -26,6 +26,24 @@ public interface UpsertQueryGenerator {
 
     String getCreateTempTableQuery();
 
+    /**
+     * Creates the temporary table for the lifetime of the database session instead of the transaction, so it's only
+     * created once per connection. Its rows are discarded on commit.
+     */
+    default String getCreateSessionTempTableQuery() {
+        return String.format("create temporary table if not exists %s on commit delete rows as table %s limit 0",
+                getTemporaryTableName(), getFinalTableName());
+    }
+
+    /**
+     * Returns a query that selects whether any row in the temporary table already exists in the final table. If none
+     * do, the insert query alone is sufficient to persist the temporary table. An empty query indicates the check is
+     * not supported.
+     */
+    default String getExistsQuery() {
+        return "";
+    }
+
     String getFinalTableName();
 
     String getInsertQuery();
@@ -33,4 +51,12 @@ public interface UpsertQueryGenerator {
     String getTemporaryTableName();
 
     String getUpdateQuery();
+
+    /**
+     * Returns a single query that both inserts new rows and updates existing rows in the final table from the
+     * temporary table, or empty if the generator requires separate insert and update queries.
+     */
+    default String getUpsertQuery() {
+        return "";
+    }
 }
@@ -0,0 +1,14 @@
+-------------------
+-- Add a reconciliation_job table to checkpoint the progress of the balance reconciliation job
+-------------------
+
+create table if not exists reconciliation_job
+(
+    consensus_timestamp bigint                   not null,
+    count               bigint                   not null,
+    error               text                     not null default '',
+    status              smallint                 not null,
+    timestamp_end       timestamp with time zone null,
+    timestamp_start     timestamp with time zone primary key
+);
+comment on table reconciliation_job is 'Progress of the balance reconciliation job runs';
@@ -356,6 +356,18 @@ create table if not exists non_fee_transfer
 );
 comment on table non_fee_transfer is 'Crypto account non fee Hbar transfers';
 
+-- reconciliation_job
+create table if not exists reconciliation_job
+(
+    consensus_timestamp bigint                   not null,
+    count               bigint                   not null,
+    error               text                     not null default '',
+    status              smallint                 not null,
+    timestamp_end       timestamp with time zone null,
+    timestamp_start     timestamp with time zone not null
+);
+comment on table reconciliation_job is 'Progress of the balance reconciliation job runs';
+
 -- record_file
 create table if not exists record_file
 (
@@ -61,3 +61,5 @@ select create_distributed_table('transaction_signature', 'entity_id', colocate_w
 
 -- Reference tables
 select create_reference_table('account_balance_file');
+
+select create_reference_table('reconciliation_job');
@@ -152,6 +152,10 @@ create unique index if not exists nft_transfer__token_id_serial_num_timestamp
 create index if not exists non_fee_transfer__consensus_timestamp
     on non_fee_transfer (consensus_timestamp);
 
+-- reconciliation_job
+alter table reconciliation_job
+    add constraint reconciliation_job__pk primary key (timestamp_start);
+
 -- record_file
 alter table record_file
     add constraint record_file__pk primary key (consensus_end, node_account_id);
@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.List;
 import javax.annotation.Resource;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -41,6 +42,7 @@ import com.hedera.mirror.importer.IntegrationTest;
 import com.hedera.mirror.importer.exception.AliasNotFoundException;
 import com.hedera.mirror.importer.exception.InvalidDatasetException;
 import com.hedera.mirror.importer.repository.ContractRepository;
+import com.hedera.mirror.importer.repository.EntityRepository;
 
 class EntityIdServiceImplTest extends IntegrationTest {
 
@@ -60,6 +62,9 @@ class EntityIdServiceImplTest extends IntegrationTest {
     @Resource
     private EntityIdService entityIdService;
 
+    @Resource
+    private EntityRepository entityRepository;
+
     @Test
     void cache() {
         Contract contract = domainBuilder.contract().persist();
@@ -274,6 +279,39 @@ class EntityIdServiceImplTest extends IntegrationTest {
         assertThrows(AliasNotFoundException.class, () -> entityIdService.lookup(getProtoContractId(contract)));
     }
 
+    @Test
+    void preload() {
+        Entity account = domainBuilder.entity().persist();
+        Entity accountDeleted = domainBuilder.entity().customize(e -> e.deleted(true)).persist();
+        Contract contract = domainBuilder.contract().persist();
+        AccountID accountId = getProtoAccountId(account);
+        AccountID accountIdDeleted = getProtoAccountId(accountDeleted);
+        AccountID accountIdMissing = getProtoAccountId(domainBuilder.entity().get());
+        ContractID contractId = getProtoContractId(contract);
+        ContractID contractIdParsable = ContractID.newBuilder()
+                .setEvmAddress(DomainUtils.fromBytes(PARSABLE_EVM_ADDRESS))
+                .build();
+
+        entityIdService.preload(List.of(accountId, accountIdDeleted, accountIdMissing, AccountID.getDefaultInstance()),
+                List.of(contractId, contractIdParsable));
+
+        // served from the cache once the rows are gone
+        entityRepository.deleteById(account.getId());
+        contractRepository.deleteById(contract.getId());
+        assertThat(entityIdService.lookup(accountId)).isEqualTo(account.toEntityId());
+        assertThat(entityIdService.lookup(contractId)).isEqualTo(contract.toEntityId());
+        assertThat(entityIdService.lookup(contractIdParsable)).isEqualTo(EntityId.of(100, CONTRACT));
+
+        // unresolved IDs are left to the regular lookup
+        assertThrows(AliasNotFoundException.class, () -> entityIdService.lookup(accountIdDeleted));
+        assertThrows(AliasNotFoundException.class, () -> entityIdService.lookup(accountIdMissing));
+    }
+
+    @Test
+    void preloadEmpty() {
+        assertDoesNotThrow(() -> entityIdService.preload(List.of(), List.of()));
+    }
+
     @Test
     void storeNull() {
         assertDoesNotThrow(() -> entityIdService.notify(null));
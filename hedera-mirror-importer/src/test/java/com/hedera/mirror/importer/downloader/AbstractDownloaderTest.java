@@ -29,6 +29,7 @@ import static org.mockito.Mockito.verify;
 
 import com.hedera.mirror.common.util.DomainUtils;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.logging.LoggingMeterRegistry;
 import java.io.File;
@@ -66,6 +67,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -92,6 +94,9 @@ import com.hedera.mirror.importer.config.CloudStorageConfiguration;
 import com.hedera.mirror.importer.config.MetricsExecutionInterceptor;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
 import com.hedera.mirror.importer.domain.StreamFilename;
+import com.hedera.mirror.importer.downloader.provider.LocalStreamFileProvider;
+import com.hedera.mirror.importer.downloader.provider.S3StreamFileProvider;
+import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
 import com.hedera.mirror.importer.reader.signature.CompositeSignatureFileReader;
 import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 import com.hedera.mirror.importer.reader.signature.SignatureFileReaderV2;
@@ -116,6 +121,7 @@ public abstract class AbstractDownloaderTest {
     protected CommonDownloaderProperties commonDownloaderProperties;
     protected MirrorProperties mirrorProperties;
     protected S3AsyncClient s3AsyncClient;
+    protected StreamFileProvider streamFileProvider;
     protected DownloaderProperties downloaderProperties;
     protected Downloader downloader;
     protected MeterRegistry meterRegistry = new LoggingMeterRegistry();
@@ -214,6 +220,7 @@ public abstract class AbstractDownloaderTest {
         commonDownloaderProperties.setAllowAnonymousAccess(true);
         s3AsyncClient = new CloudStorageConfiguration(commonDownloaderProperties,
                 new MetricsExecutionInterceptor(meterRegistry)).s3CloudStorageClient();
+        streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, s3AsyncClient);
 
         signatureFileReader = new CompositeSignatureFileReader(new SignatureFileReaderV2(),
                 new SignatureFileReaderV5());
@@ -302,6 +309,91 @@ public abstract class AbstractDownloaderTest {
         verifyForSuccess();
     }
 
+    @ParameterizedTest(name = "prefetch {0}")
+    @ValueSource(ints = {1, 2, 10})
+    @DisplayName("Download and verify files with prefetch")
+    void prefetch(int prefetch) throws Exception {
+        commonDownloaderProperties.setPrefetch(prefetch);
+        mirrorProperties.setStartBlockNumber(null);
+
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+        assertThat(meterRegistry.find("hedera.mirror.download.prefetch.depth").gauge())
+                .isNotNull()
+                .returns(0.0, Gauge::value);
+    }
+
+    @Test
+    @DisplayName("Download and verify files from the local filesystem")
+    void local() throws Exception {
+        streamFileProvider = new LocalStreamFileProvider(s3Path.resolve(commonDownloaderProperties.getBucketName()));
+        downloader = getDownloader();
+        mirrorProperties.setStartBlockNumber(null);
+
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+    }
+
+    @Test
+    @DisplayName("Download and verify files with signature quorum")
+    void signatureQuorum() throws Exception {
+        commonDownloaderProperties.setSignatureQuorum(true);
+        downloaderProperties.setWriteSignatures(true);
+        mirrorProperties.setStartBlockNumber(null);
+
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+        assertThat(Files.walk(downloaderProperties.getStreamPath()))
+                .filteredOn(this::isSigFile)
+                .hasSizeGreaterThan(0)
+                .hasSizeLessThan(allNodeAccountIds.size() * instantFilenamePairs.size());
+    }
+
+    @ParameterizedTest(name = "node {0} signature file is corrupted with signature quorum")
+    @MethodSource("provideAllNodeAccountIds")
+    void signatureQuorumSigFileCorrupted(EntityId nodeAccountId) throws Exception {
+        commonDownloaderProperties.setSignatureQuorum(true);
+        corruptedNodeAccountId = nodeAccountId;
+        mirrorProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        Files.walk(s3Path).filter(this::isSigFile)
+                .filter(p -> p.toString().contains(nodeAccountId.entityIdToString()))
+                .forEach(AbstractDownloaderTest::corruptFile);
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+        verifyForSuccess();
+    }
+
+    @Test
+    @DisplayName("Less than 1/3 signatures with signature quorum")
+    void signatureQuorumLessThanOneThird() throws Exception {
+        commonDownloaderProperties.setSignatureQuorum(true);
+        fileCopier.filterDirectories("*0.0.3").copy();
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+        verifyUnsuccessful();
+    }
+
+    @Test
+    @DisplayName("Prefetch with signature doesn't match file")
+    void prefetchSignatureMismatch() throws Exception {
+        commonDownloaderProperties.setPrefetch(2);
+        fileCopier.copy();
+        Files.walk(s3Path).filter(this::isSigFile).forEach(AbstractDownloaderTest::corruptFile);
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+        verifyUnsuccessful();
+    }
+
     @Test
     @DisplayName("Exactly 1/3 consensus")
     void oneThirdConsensus() throws Exception {
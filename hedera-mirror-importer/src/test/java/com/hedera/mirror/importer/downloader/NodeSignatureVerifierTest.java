@@ -49,6 +49,7 @@ import com.hedera.mirror.common.domain.addressbook.AddressBook;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.importer.domain.FileStreamSignature;
+import com.hedera.mirror.importer.domain.FileStreamSignature.SignatureStatus;
 import com.hedera.mirror.importer.domain.FileStreamSignature.SignatureType;
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.exception.SignatureVerificationException;
@@ -278,6 +279,68 @@ class NodeSignatureVerifierTest {
                 .verify(Arrays.asList(fileStreamSignatureNode3, fileStreamSignatureNode4, fileStreamSignatureNode5));
     }
 
+    @Test
+    void testSkipVerificationOnceConsensusReached() throws GeneralSecurityException {
+        Map<String, PublicKey> nodeAccountIDPubKeyMap = new HashMap();
+        nodeAccountIDPubKeyMap.put("0.0.3", publicKey);
+        nodeAccountIDPubKeyMap.put("0.0.4", publicKey);
+        nodeAccountIDPubKeyMap.put("0.0.5", publicKey);
+        when(currentAddressBook.getNodeAccountIDPubKeyMap()).thenReturn(nodeAccountIDPubKeyMap);
+
+        byte[] fileHash = TestUtils.generateRandomByteArray(48);
+        byte[] fileHashSignature = signHash(fileHash);
+
+        FileStreamSignature fileStreamSignatureNode3 = buildFileStreamSignature(fileHash, fileHashSignature,
+                null, null);
+
+        // Node 4 and 5 signatures are invalid but are never verified since node 3 already reached consensus
+        FileStreamSignature fileStreamSignatureNode4 = buildFileStreamSignature(fileHash,
+                corruptSignature(signHash(fileHash)), null, null);
+        fileStreamSignatureNode4.setNodeAccountId(new EntityId(0L, 0L, 4L, EntityType.ACCOUNT));
+        FileStreamSignature fileStreamSignatureNode5 = buildFileStreamSignature(fileHash,
+                corruptSignature(signHash(fileHash)), null, null);
+        fileStreamSignatureNode5.setNodeAccountId(new EntityId(0L, 0L, 5L, EntityType.ACCOUNT));
+
+        nodeSignatureVerifier
+                .verify(Arrays.asList(fileStreamSignatureNode3, fileStreamSignatureNode4, fileStreamSignatureNode5));
+
+        assertEquals(SignatureStatus.CONSENSUS_REACHED, fileStreamSignatureNode3.getStatus());
+        assertEquals(SignatureStatus.DOWNLOADED, fileStreamSignatureNode4.getStatus());
+        assertEquals(SignatureStatus.DOWNLOADED, fileStreamSignatureNode5.getStatus());
+    }
+
+    @Test
+    void testVerifySignature() throws GeneralSecurityException {
+        byte[] fileHash = TestUtils.generateRandomByteArray(48);
+
+        FileStreamSignature valid = buildFileStreamSignature(fileHash, signHash(fileHash), null, null);
+        FileStreamSignature invalid = buildFileStreamSignature(fileHash, corruptSignature(signHash(fileHash)),
+                null, null);
+
+        AddressBook addressBook = addressBookService.getCurrent();
+        assertTrue(nodeSignatureVerifier.verifySignature(valid, addressBook));
+        assertEquals(SignatureStatus.VERIFIED, valid.getStatus());
+        assertFalse(nodeSignatureVerifier.verifySignature(invalid, addressBook));
+        assertEquals(SignatureStatus.DOWNLOADED, invalid.getStatus());
+
+        nodeSignatureVerifier.verify(List.of(invalid, valid));
+        assertEquals(SignatureStatus.CONSENSUS_REACHED, valid.getStatus());
+    }
+
+    @Test
+    void testAlreadyVerifiedSignature() throws GeneralSecurityException {
+        byte[] fileHash = TestUtils.generateRandomByteArray(48);
+
+        // Invalid signature shows the verification done by verifySignature() isn't repeated
+        FileStreamSignature fileStreamSignature = buildFileStreamSignature(fileHash,
+                corruptSignature(signHash(fileHash)), null, null);
+        fileStreamSignature.setStatus(SignatureStatus.VERIFIED);
+
+        nodeSignatureVerifier.verify(List.of(fileStreamSignature));
+
+        assertEquals(SignatureStatus.CONSENSUS_REACHED, fileStreamSignature.getStatus());
+    }
+
     @Test
     void testNoSignatureType() throws GeneralSecurityException {
 
@@ -0,0 +1,127 @@
+package com.hedera.mirror.importer.downloader.provider;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hedera.mirror.importer.exception.FileOperationException;
+
+class LocalStreamFileProviderTest {
+
+    private static final String PREFIX = "recordstreams/record0.0.3/";
+
+    @TempDir
+    Path root;
+
+    private LocalStreamFileProvider streamFileProvider;
+
+    @BeforeEach
+    void setup() throws Exception {
+        streamFileProvider = new LocalStreamFileProvider(root);
+        Path directory = Files.createDirectories(root.resolve(PREFIX));
+        Files.createDirectories(directory.resolve("sidecar"));
+        for (String filename : new String[] {"e", "a", "c", "b", "d"}) {
+            Files.writeString(directory.resolve(filename), filename);
+        }
+    }
+
+    @Test
+    void list() throws Exception {
+        assertThat(streamFileProvider.list(PREFIX, PREFIX, 2).get()).containsExactly(PREFIX + "a", PREFIX + "b");
+        assertThat(streamFileProvider.list(PREFIX, PREFIX + "b", 2).get()).containsExactly(PREFIX + "c", PREFIX + "d");
+        assertThat(streamFileProvider.list(PREFIX, PREFIX + "d", 2).get()).containsExactly(PREFIX + "e");
+        assertThat(streamFileProvider.list(PREFIX, PREFIX + "e", 2).get()).isEmpty();
+    }
+
+    @Test
+    void listEarlierMarker() throws Exception {
+        assertThat(streamFileProvider.list(PREFIX, PREFIX + "c", 1).get()).containsExactly(PREFIX + "d");
+        assertThat(streamFileProvider.list(PREFIX, PREFIX + "a", 1).get()).containsExactly(PREFIX + "b");
+    }
+
+    @Test
+    void listNewFiles() throws Exception {
+        assertThat(streamFileProvider.list(PREFIX, PREFIX + "d", 2).get()).containsExactly(PREFIX + "e");
+        Files.writeString(root.resolve(PREFIX).resolve("f"), "f");
+        assertThat(streamFileProvider.list(PREFIX, PREFIX + "d", 2).get()).containsExactly(PREFIX + "e", PREFIX + "f");
+    }
+
+    @Test
+    void listLateFile() throws Exception {
+        assertThat(streamFileProvider.list(PREFIX, PREFIX, 2).get()).containsExactly(PREFIX + "a", PREFIX + "b");
+        Files.writeString(root.resolve(PREFIX).resolve("bb"), "bb");
+        assertThat(streamFileProvider.list(PREFIX, PREFIX + "b", 2).get()).containsExactly(PREFIX + "bb",
+                PREFIX + "c");
+    }
+
+    @Test
+    void listUnchangedDirectory() throws Exception {
+        Path directory = root.resolve(PREFIX);
+        assertThat(streamFileProvider.list(PREFIX, PREFIX, 2).get()).containsExactly(PREFIX + "a", PREFIX + "b");
+
+        // the cached listing is used while the directory modification time is unchanged
+        FileTime modified = Files.getLastModifiedTime(directory);
+        Files.writeString(directory.resolve("bb"), "bb");
+        Files.setLastModifiedTime(directory, modified);
+        assertThat(streamFileProvider.list(PREFIX, PREFIX + "b", 2).get()).containsExactly(PREFIX + "c", PREFIX + "d");
+    }
+
+    @Test
+    void listMissingDirectory() throws Exception {
+        String prefix = "recordstreams/record0.0.4/";
+        assertThat(streamFileProvider.list(prefix, prefix, 2).get()).isEmpty();
+    }
+
+    @Test
+    void get() throws Exception {
+        Instant lastModified = Instant.parse("2022-01-01T00:00:00Z");
+        Files.setLastModifiedTime(root.resolve(PREFIX).resolve("a"), FileTime.from(lastModified));
+
+        assertThat(streamFileProvider.get(PREFIX + "a").get())
+                .returns(new byte[] {'a'}, StreamFileObject::getBytes)
+                .returns(lastModified, StreamFileObject::getLastModified);
+    }
+
+    @Test
+    void getCancelled() {
+        var future = streamFileProvider.get(PREFIX + "a");
+        future.cancel(true);
+        assertThatThrownBy(future::get).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void getMissingFile() {
+        assertThatThrownBy(() -> streamFileProvider.get(PREFIX + "z").get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(FileOperationException.class);
+    }
+}
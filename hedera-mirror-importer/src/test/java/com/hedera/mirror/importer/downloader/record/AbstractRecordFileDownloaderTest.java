@@ -28,6 +28,7 @@ import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.downloader.AbstractLinkedStreamDownloaderTest;
 import com.hedera.mirror.importer.downloader.Downloader;
 import com.hedera.mirror.importer.downloader.DownloaderProperties;
+import com.hedera.mirror.importer.parser.record.RecordParserProperties;
 import com.hedera.mirror.importer.reader.record.CompositeRecordFileReader;
 import com.hedera.mirror.importer.reader.record.RecordFileReader;
 import com.hedera.mirror.importer.reader.record.RecordFileReaderImplV1;
@@ -56,8 +57,8 @@ abstract class AbstractRecordFileDownloaderTest extends AbstractLinkedStreamDown
     @Override
     protected Downloader getDownloader() {
         RecordFileReader recordFileReader = new CompositeRecordFileReader(new RecordFileReaderImplV1(),
-                new RecordFileReaderImplV2(), new RecordFileReaderImplV5());
-        return new RecordFileDownloader(s3AsyncClient, addressBookService,
+                new RecordFileReaderImplV2(), new RecordFileReaderImplV5(new RecordParserProperties()));
+        return new RecordFileDownloader(streamFileProvider, addressBookService,
                 (RecordDownloaderProperties) downloaderProperties, meterRegistry,
                 nodeSignatureVerifier, signatureFileReader, recordFileReader, streamFileNotifier, dateRangeProcessor);
     }
@@ -22,8 +22,14 @@ package com.hedera.mirror.importer.parser.balance;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
+import com.google.common.base.Stopwatch;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
 
 import com.hedera.mirror.common.domain.entity.EntityType;
 
@@ -43,6 +49,7 @@ import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.reader.balance.BalanceFileReader;
 import com.hedera.mirror.importer.repository.AccountBalanceFileRepository;
 
+@Log4j2
 @Tag("performance")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class AccountBalanceFileParserPerformanceTest extends IntegrationTest {
@@ -78,7 +85,19 @@ class AccountBalanceFileParserPerformanceTest extends IntegrationTest {
     @Test
     @Timeout(10)
     void parse() {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans()
+                .stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .collect(Collectors.toList());
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        Stopwatch stopwatch = Stopwatch.createStarted();
+
         accountBalanceFiles.forEach(balanceFileParser::parse);
+
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        long count = accountBalanceFiles.stream().mapToLong(AccountBalanceFile::getCount).sum();
+        log.info("Parsed {} account balances from {} files in {} with peak heap usage of {} MiB", count,
+                accountBalanceFiles.size(), stopwatch, peakHeap / 1024 / 1024);
         assertThat(accountBalanceFileRepository.count()).isEqualTo(accountBalanceFiles.size());
     }
 }
@@ -116,6 +116,25 @@ class AccountBalanceFileParserTest extends IntegrationTest {
         parserProperties.setBatchSize(batchSize);
     }
 
+    @Test
+    void partitions() {
+        // given
+        int batchSize = parserProperties.getBatchSize();
+        parserProperties.setBatchSize(1);
+        parserProperties.setPartitions(2);
+        AccountBalanceFile accountBalanceFile = accountBalanceFile(1);
+        List<AccountBalance> items = accountBalanceFile.getItems().collectList().block();
+
+        // when
+        accountBalanceFileParser.parse(accountBalanceFile);
+
+        // then
+        assertAccountBalanceFile(accountBalanceFile, items);
+        assertThat(accountBalanceFile.getCount()).isEqualTo(items.size());
+        parserProperties.setBatchSize(batchSize);
+        parserProperties.setPartitions(1);
+    }
+
     @Test
     void duplicateFile() {
         // given
@@ -0,0 +1,230 @@
+package com.hedera.mirror.importer.parser.balance;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Resource;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.balance.AccountBalance;
+import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
+import com.hedera.mirror.common.domain.balance.TokenBalance;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.repository.AccountBalanceRepository;
+import com.hedera.mirror.importer.repository.TokenBalanceRepository;
+
+class ParallelBalanceLoaderTest extends IntegrationTest {
+
+    private static final long TIMESTAMP = 1L;
+
+    @Resource
+    private AccountBalanceRepository accountBalanceRepository;
+
+    @Resource
+    private DataSource dataSource;
+
+    @Resource
+    private DomainBuilder domainBuilder;
+
+    @Resource
+    private JdbcTemplate jdbcTemplate;
+
+    @Resource
+    private MeterRegistry meterRegistry;
+
+    @Resource
+    private ParallelBalanceLoader parallelBalanceLoader;
+
+    @Resource
+    private BalanceParserProperties parserProperties;
+
+    @Resource
+    private TokenBalanceRepository tokenBalanceRepository;
+
+    @Resource
+    private TransactionTemplate transactionTemplate;
+
+    private int batchSize;
+
+    @BeforeEach
+    void setup() {
+        batchSize = parserProperties.getBatchSize();
+        parserProperties.setBatchSize(2);
+        parserProperties.setPartitions(3);
+    }
+
+    @AfterEach
+    void cleanup() {
+        parserProperties.setBatchSize(batchSize);
+        parserProperties.setPartitions(1);
+    }
+
+    @Test
+    void load() {
+        List<AccountBalance> accountBalances = accountBalances(1, 10);
+
+        long count = parallelBalanceLoader.load(accountBalanceFile(accountBalances));
+
+        assertThat(count).isEqualTo(accountBalances.size());
+        assertBalances(accountBalances);
+        assertThat(meterRegistry.find(ParallelBalanceLoader.METRIC_ROWS).counters())
+                .hasSize(6)
+                .extracting(counter -> counter.getId().getTag("partition"))
+                .containsOnly("0", "1", "2");
+    }
+
+    @Test
+    void loadInTransaction() {
+        List<AccountBalance> accountBalances = accountBalances(1, 10);
+
+        Long count = transactionTemplate.execute(t -> {
+            long loaded = parallelBalanceLoader.load(accountBalanceFile(accountBalances));
+            assertThat(accountBalanceRepository.count()).isZero();
+            return loaded;
+        });
+
+        assertThat(count).isEqualTo(accountBalances.size());
+        assertBalances(accountBalances);
+    }
+
+    @Test
+    void transactionRollback() {
+        List<AccountBalance> accountBalances = accountBalances(1, 10);
+
+        transactionTemplate.executeWithoutResult(t -> {
+            parallelBalanceLoader.load(accountBalanceFile(accountBalances));
+            t.setRollbackOnly();
+        });
+
+        assertBalances(List.of());
+    }
+
+    @Test
+    void partitionFailure() {
+        List<AccountBalance> accountBalances = new ArrayList<>(accountBalances(1, 10));
+        AccountBalance invalid = accountBalances(11, 1).get(0);
+        invalid.getId().setAccountId(null);
+        accountBalances.add(invalid);
+        AccountBalanceFile accountBalanceFile = accountBalanceFile(accountBalances);
+
+        assertThatThrownBy(() -> parallelBalanceLoader.load(accountBalanceFile)).isInstanceOf(ParserException.class);
+        assertBalances(List.of());
+    }
+
+    @Test
+    void existingBalances() {
+        // Left behind by an attempt that crashed after its partitions committed
+        accountBalanceRepository.saveAll(accountBalances(5, 10));
+        List<AccountBalance> accountBalances = accountBalances(1, 10);
+
+        long count = parallelBalanceLoader.load(accountBalanceFile(accountBalances));
+
+        assertThat(count).isEqualTo(accountBalances.size());
+        assertBalances(accountBalances);
+    }
+
+    @Test
+    void preparedPartitions() throws SQLException {
+        // Left prepared by attempts that crashed before and after the parser transaction committed
+        var accountBalanceFile = domainBuilder.accountBalanceFile().persist();
+        long committedTimestamp = accountBalanceFile.getConsensusTimestamp();
+        prepare("insert into account_balance (account_id, balance, consensus_timestamp) values (1, 1, " +
+                committedTimestamp + ")", "balance_" + committedTimestamp + "_0");
+        prepare("insert into account_balance (account_id, balance, consensus_timestamp) values (5001, 1, " +
+                TIMESTAMP + ")", "balance_" + TIMESTAMP + "_0");
+        List<AccountBalance> accountBalances = accountBalances(1, 10);
+
+        Long count = transactionTemplate.execute(t -> parallelBalanceLoader.load(accountBalanceFile(accountBalances)));
+
+        assertThat(count).isEqualTo(accountBalances.size());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from pg_prepared_xacts", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForList("select account_id from account_balance where consensus_timestamp = ?",
+                Long.class, committedTimestamp)).containsExactly(1L);
+        assertThat(jdbcTemplate.queryForList("select account_id from account_balance where consensus_timestamp = ?",
+                Long.class, TIMESTAMP)).hasSize(accountBalances.size()).doesNotContain(5001L);
+    }
+
+    private void prepare(String sql, String gid) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.execute(sql);
+            statement.execute("prepare transaction '" + gid + "'");
+        }
+    }
+
+    private void assertBalances(List<AccountBalance> accountBalances) {
+        List<TokenBalance> tokenBalances = accountBalances.stream()
+                .map(AccountBalance::getTokenBalances)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+        assertThat(accountBalanceRepository.findAll()).containsExactlyInAnyOrderElementsOf(accountBalances);
+        assertThat(tokenBalanceRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenBalances);
+    }
+
+    private AccountBalanceFile accountBalanceFile(List<AccountBalance> accountBalances) {
+        return AccountBalanceFile.builder()
+                .consensusTimestamp(TIMESTAMP)
+                .items(Flux.fromIterable(accountBalances))
+                .name("balances")
+                .build();
+    }
+
+    private List<AccountBalance> accountBalances(int start, int count) {
+        List<AccountBalance> accountBalances = new ArrayList<>();
+
+        for (int i = start; i < start + count; ++i) {
+            EntityId accountId = EntityId.of(0, 0, i + 1000, EntityType.ACCOUNT);
+            EntityId tokenId = EntityId.of(0, 0, i + 2000, EntityType.TOKEN);
+
+            TokenBalance tokenBalance = new TokenBalance();
+            tokenBalance.setBalance(i);
+            tokenBalance.setId(new TokenBalance.Id(TIMESTAMP, accountId, tokenId));
+
+            AccountBalance accountBalance = new AccountBalance();
+            accountBalance.setBalance(i);
+            accountBalance.setId(new AccountBalance.Id(TIMESTAMP, accountId));
+            accountBalance.setTokenBalances(List.of(tokenBalance));
+            accountBalances.add(accountBalance);
+        }
+
+        return accountBalances;
+    }
+}
@@ -0,0 +1,100 @@
+package com.hedera.mirror.importer.parser.batch;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.annotation.Resource;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+
+/**
+ * Compares the throughput of the CSV and binary COPY formats for the two largest tables.
+ */
+@Log4j2
+@Tag("performance")
+class BatchInserterPerformanceTest extends IntegrationTest {
+
+    private static final int ITERATIONS = 5;
+    private static final int ROWS = 100_000;
+
+    @Resource
+    private DataSource dataSource;
+
+    @Resource
+    private DomainBuilder domainBuilder;
+
+    @Resource
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest(name = "binary={0}")
+    @ValueSource(booleans = {false, true})
+    void copy(boolean binary) {
+        var properties = new CommonParserProperties();
+        properties.setBinaryCopy(binary);
+        var meterRegistry = new SimpleMeterRegistry();
+
+        copy(new BatchInserter(CryptoTransfer.class, dataSource, meterRegistry, properties),
+                () -> domainBuilder.cryptoTransfer().get(), binary);
+        copy(new BatchInserter(Transaction.class, dataSource, meterRegistry, properties),
+                () -> domainBuilder.transaction().get(), binary);
+    }
+
+    private void copy(BatchInserter batchInserter, Supplier<?> supplier, boolean binary) {
+        List<Object> items = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; ++i) {
+            items.add(supplier.get());
+        }
+
+        Duration total = Duration.ZERO;
+        String truncateSql = "truncate table " + batchInserter.tableName;
+
+        // The first iteration warms up the JIT and the database and isn't counted
+        for (int i = 0; i <= ITERATIONS; ++i) {
+            jdbcTemplate.execute(truncateSql);
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            batchInserter.persist(items);
+            total = i > 0 ? total.plus(stopwatch.elapsed()) : total;
+        }
+
+        Duration average = total.dividedBy(ITERATIONS);
+        log.info("Copied {} rows to {} using {} COPY in {} ms on average ({} rows/s)", ROWS, batchInserter.tableName,
+                binary ? "binary" : "CSV", average.toMillis(), ROWS * 1000L / Math.max(average.toMillis(), 1L));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from " + batchInserter.tableName, Long.class))
+                .isEqualTo(ROWS);
+    }
+}
@@ -70,6 +70,9 @@ class BatchInserterTest extends IntegrationTest {
     @Resource
     private CryptoTransferRepository cryptoTransferRepository;
 
+    @Resource
+    private DataSource dataSource;
+
     @Resource
     private DomainBuilder domainBuilder;
 
@@ -104,6 +107,37 @@ class BatchInserterTest extends IntegrationTest {
         assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
     }
 
+    @Test
+    void persistBinary() {
+        var properties = new CommonParserProperties();
+        properties.setBinaryCopy(true);
+        var meterRegistry = new SimpleMeterRegistry();
+
+        var assessedCustomFee = new AssessedCustomFee();
+        assessedCustomFee.setAmount(10L);
+        assessedCustomFee.setEffectivePayerAccountIds(List.of(3000L, 3001L));
+        assessedCustomFee.setId(new AssessedCustomFee.Id(EntityId.of("0.0.2000", ACCOUNT), 1L));
+        assessedCustomFee.setPayerAccountId(EntityId.of("0.0.3000", ACCOUNT));
+        var assessedCustomFees = List.of(assessedCustomFee);
+        var cryptoTransfers = List.of(cryptoTransfer(1), cryptoTransfer(2), cryptoTransfer(3));
+        var topicMessages = List.of(topicMessage(1, 1024), topicMessage(2, 6000));
+        var transactions = List.of(transaction(1), transaction(2), transaction(3));
+
+        new BatchInserter(AssessedCustomFee.class, dataSource, meterRegistry, properties).persist(assessedCustomFees);
+        new BatchInserter(CryptoTransfer.class, dataSource, meterRegistry, properties).persist(cryptoTransfers);
+        new BatchInserter(TopicMessage.class, dataSource, meterRegistry, properties).persist(topicMessages);
+        new BatchInserter(Transaction.class, dataSource, meterRegistry, properties).persist(transactions);
+
+        List<AssessedCustomFeeWrapper> actual = jdbcTemplate.query(AssessedCustomFeeWrapper.SELECT_QUERY,
+                AssessedCustomFeeWrapper.ROW_MAPPER);
+        assertThat(actual)
+                .map(AssessedCustomFeeWrapper::getAssessedCustomFee)
+                .containsExactlyInAnyOrderElementsOf(assessedCustomFees);
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(topicMessageRepository.findAll()).containsExactlyInAnyOrderElementsOf(topicMessages);
+        assertThat(transactionRepository.findAll()).containsExactlyInAnyOrderElementsOf(transactions);
+    }
+
     @Test
     void persistDuplicates() {
         var transactions = new HashSet<Transaction>();
@@ -0,0 +1,194 @@
+package com.hedera.mirror.importer.parser.batch;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.google.common.base.CaseFormat;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.ErrataType;
+
+class BinaryCopyWriterTest {
+
+    private static final Map<String, String> CRYPTO_TRANSFER_COLUMNS = Map.of(
+            "amount", "int8",
+            "consensus_timestamp", "int8",
+            "entity_id", "int8",
+            "errata", "errata_type",
+            "is_approval", "bool",
+            "payer_account_id", "int8"
+    );
+
+    private final CsvMapper mapper = new CsvMapper();
+    private final CsvSchema schema = mapper.schemaFor(CryptoTransfer.class);
+
+    @Test
+    void create() throws SQLException {
+        var binaryCopyWriter = create(CRYPTO_TRANSFER_COLUMNS);
+        assertThat(binaryCopyWriter)
+                .get()
+                .extracting(BinaryCopyWriter::getSql)
+                .asString()
+                .startsWith("COPY crypto_transfer(")
+                .contains("amount", "consensus_timestamp", "entity_id", "errata", "is_approval", "payer_account_id")
+                .endsWith(") FROM STDIN WITH BINARY");
+    }
+
+    @Test
+    void createSameColumnsAsCsv() throws SQLException {
+        String csvColumns = StreamSupport.stream(schema.spliterator(), false)
+                .map(column -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, column.getName()))
+                .distinct()
+                .collect(Collectors.joining(", "));
+        assertThat(create(CRYPTO_TRANSFER_COLUMNS))
+                .get()
+                .extracting(BinaryCopyWriter::getSql)
+                .isEqualTo("COPY crypto_transfer(" + csvColumns + ") FROM STDIN WITH BINARY");
+    }
+
+    @Test
+    void createMissingColumn() throws SQLException {
+        var columns = Map.of("amount", "int8", "consensus_timestamp", "int8");
+        assertThat(create(columns)).isEmpty();
+    }
+
+    @Test
+    void createUnsupportedType() throws SQLException {
+        var columns = new HashMap<>(CRYPTO_TRANSFER_COLUMNS);
+        columns.put("amount", "numeric");
+        assertThat(create(columns)).isEmpty();
+    }
+
+    @Test
+    void write() throws Exception {
+        var cryptoTransfer = new CryptoTransfer();
+        cryptoTransfer.setAmount(-100L);
+        cryptoTransfer.setConsensusTimestamp(123L);
+        cryptoTransfer.setEntityId(98L);
+        cryptoTransfer.setErrata(ErrataType.INSERT);
+        cryptoTransfer.setIsApproval(null);
+        cryptoTransfer.setPayerAccountId(EntityId.of(0L, 0L, 1001L, EntityType.ACCOUNT));
+        var binaryCopyWriter = create(CRYPTO_TRANSFER_COLUMNS).get();
+        var outputStream = new ByteArrayOutputStream();
+
+        binaryCopyWriter.write(List.of(cryptoTransfer), outputStream);
+
+        var input = new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertThat(input.readNBytes(11)).isEqualTo(new byte[] {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF,
+                '\r', '\n', 0});
+        assertThat(input.readInt()).isZero();
+        assertThat(input.readInt()).isZero();
+        assertThat(input.readShort()).isEqualTo((short) CRYPTO_TRANSFER_COLUMNS.size());
+
+        String sql = binaryCopyWriter.getSql();
+        String columns = sql.substring(sql.indexOf('(') + 1, sql.indexOf(')'));
+        for (String column : columns.split(", ")) {
+            switch (column) {
+                case "amount":
+                    assertThat(readLong(input)).isEqualTo(-100L);
+                    break;
+                case "consensus_timestamp":
+                    assertThat(readLong(input)).isEqualTo(123L);
+                    break;
+                case "entity_id":
+                    assertThat(readLong(input)).isEqualTo(98L);
+                    break;
+                case "errata":
+                    int length = input.readInt();
+                    assertThat(new String(input.readNBytes(length))).isEqualTo("INSERT");
+                    break;
+                case "is_approval":
+                    assertThat(input.readInt()).isEqualTo(-1);
+                    break;
+                case "payer_account_id":
+                    assertThat(readLong(input)).isEqualTo(1001L);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected column " + column);
+            }
+        }
+
+        assertThat(input.readShort()).isEqualTo((short) -1);
+        assertThat(input.available()).isZero();
+    }
+
+    private Optional<BinaryCopyWriter> create(Map<String, String> columnTypes) throws SQLException {
+        return BinaryCopyWriter.create(mapper, schema, CryptoTransfer.class, "crypto_transfer",
+                connection(columnTypes));
+    }
+
+    private long readLong(DataInputStream input) throws IOException {
+        assertThat(input.readInt()).isEqualTo(Long.BYTES);
+        return input.readLong();
+    }
+
+    private Connection connection(Map<String, String> columnTypes) throws SQLException {
+        var rows = new ArrayList<>(columnTypes.entrySet());
+        var index = new int[] {-1};
+        ResultSet resultSet = mock(ResultSet.class);
+        doAnswer(invocation -> ++index[0] < rows.size()).when(resultSet).next();
+        Answer<String> column = invocation -> {
+            var row = rows.get(index[0]);
+            switch ((int) invocation.getArgument(0)) {
+                case 1:
+                    return row.getKey();
+                case 2:
+                    return row.getValue();
+                default:
+                    return row.getValue().endsWith("_type") ? "e" : "b";
+            }
+        };
+        doAnswer(column).when(resultSet).getString(anyInt());
+
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        doReturn(resultSet).when(preparedStatement).executeQuery();
+        Connection connection = mock(Connection.class);
+        doReturn(preparedStatement).when(connection).prepareStatement(anyString());
+        return connection;
+    }
+}
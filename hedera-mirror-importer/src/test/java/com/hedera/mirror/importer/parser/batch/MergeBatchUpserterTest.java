@@ -0,0 +1,29 @@
+package com.hedera.mirror.importer.parser.batch;
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the upsert tests against the session temp table and single statement merge path
+ */
+@TestPropertySource(properties = "hedera.mirror.importer.parser.mergeUpsert=true")
+class MergeBatchUpserterTest extends BatchUpserterTest {
+}
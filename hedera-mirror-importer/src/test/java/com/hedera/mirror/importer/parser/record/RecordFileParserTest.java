@@ -21,14 +21,23 @@ package com.hedera.mirror.importer.parser.record;
  */
 
 import static com.hedera.mirror.importer.domain.StreamFilename.FileType.DATA;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractCallTransactionBody;
+import com.hederahashgraph.api.proto.java.ContractID;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
@@ -36,11 +45,16 @@ import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
+import com.hederahashgraph.api.proto.java.TransferList;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import reactor.core.publisher.Flux;
 
@@ -52,6 +66,7 @@ import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor.DateRangeFilter;
+import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.exception.ParserSQLException;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParserTest;
@@ -67,6 +82,15 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFileParser
     @Mock(lenient = true)
     private MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor;
 
+    @Mock(lenient = true)
+    private EntityIdService entityIdService;
+
+    @Captor
+    private ArgumentCaptor<Collection<AccountID>> accountIdsCaptor;
+
+    @Captor
+    private ArgumentCaptor<Collection<ContractID>> contractIdsCaptor;
+
     private long count = 0;
 
     private RecordItem recordItem;
@@ -95,7 +119,7 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFileParser
         when(mirrorDateRangePropertiesProcessor.getDateRangeFilter(parserProperties.getStreamType()))
                 .thenReturn(DateRangeFilter.all());
         return new RecordFileParser(new SimpleMeterRegistry(), parserProperties, streamFileRepository,
-                recordItemListener, recordStreamFileListener, mirrorDateRangePropertiesProcessor);
+                recordItemListener, recordStreamFileListener, mirrorDateRangePropertiesProcessor, entityIdService);
     }
 
     @Override
@@ -188,9 +212,104 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFileParser
         assertPostParseStreamFile(recordFile, true);
     }
 
+    @Test
+    void preloadEntityIds() {
+        // given
+        AccountID alias = AccountID.newBuilder().setAlias(ByteString.copyFromUtf8("alias")).build();
+        AccountID accountNum = AccountID.newBuilder().setAccountNum(1000).build();
+        ContractID evmAddress = ContractID.newBuilder().setEvmAddress(ByteString.copyFrom(new byte[20])).build();
+        TransferList transferList = TransferList.newBuilder()
+                .addAccountAmounts(AccountAmount.newBuilder().setAccountID(alias).setAmount(-10))
+                .addAccountAmounts(AccountAmount.newBuilder().setAccountID(accountNum).setAmount(10))
+                .build();
+        RecordItem cryptoTransferItem = recordItem(1L, TransactionBody.newBuilder()
+                .setCryptoTransfer(CryptoTransferTransactionBody.newBuilder().setTransfers(transferList))
+                .build());
+        RecordItem contractCallItem = recordItem(2L, TransactionBody.newBuilder()
+                .setContractCall(ContractCallTransactionBody.newBuilder().setContractID(evmAddress))
+                .build());
+        RecordItem otherItem = recordItem(3L);
+        RecordFile recordFile = (RecordFile) getStreamFile();
+        recordFile.setItems(Flux.just(cryptoTransferItem, contractCallItem, otherItem));
+        ((RecordParserProperties) parserProperties).setAliasPreloadSize(2);
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        verify(entityIdService, times(2)).preload(accountIdsCaptor.capture(), contractIdsCaptor.capture());
+        assertThat(accountIdsCaptor.getAllValues()).containsExactly(List.of(alias, accountNum), List.of());
+        assertThat(contractIdsCaptor.getAllValues()).containsExactly(List.of(evmAddress), List.of());
+        verify(recordItemListener).onItem(cryptoTransferItem);
+        verify(recordItemListener).onItem(contractCallItem);
+        verify(recordItemListener).onItem(otherItem);
+    }
+
+    @Test
+    void preloadEntityIdsDisabled() {
+        RecordFile recordFile = (RecordFile) getStreamFile();
+        ((RecordParserProperties) parserProperties).setAliasPreloadSize(0);
+        parser.parse(recordFile);
+        verify(recordItemListener).onItem(recordItem);
+        verifyNoInteractions(entityIdService);
+    }
+
+    @Test
+    void parseMultiple() {
+        // given
+        RecordFile recordFile1 = (RecordFile) getStreamFile();
+        RecordItem recordItem1 = recordItem;
+        RecordFile recordFile2 = (RecordFile) getStreamFile();
+        RecordItem recordItem2 = recordItem;
+        List<RecordFile> recordFiles = List.of(recordFile1, recordFile2);
+
+        // when
+        parser.parse(recordFiles);
+
+        // then
+        verify(recordStreamFileListener).onStart();
+        verify(recordItemListener).onItem(recordItem1);
+        verify(recordItemListener).onItem(recordItem2);
+        verify(recordStreamFileListener).onBatchEnd(recordFiles);
+        verify(recordStreamFileListener, never()).onEnd(any(RecordFile.class));
+        verify(recordStreamFileListener, never()).onError();
+        assertPostParseStreamFile(recordFile1, true);
+        assertPostParseStreamFile(recordFile2, true);
+    }
+
+    @Test
+    void parseMultipleFailureShouldRollback() {
+        // given
+        RecordFile recordFile1 = (RecordFile) getStreamFile();
+        RecordFile recordFile2 = (RecordFile) getStreamFile();
+        List<RecordFile> recordFiles = List.of(recordFile1, recordFile2);
+        mockDbFailure();
+
+        // when
+        assertThrows(ParserSQLException.class, () -> parser.parse(recordFiles));
+
+        // then
+        verify(recordStreamFileListener).onError();
+        verify(recordStreamFileListener, never()).onBatchEnd(recordFiles);
+        assertPostParseStreamFile(recordFile1, false);
+        assertPostParseStreamFile(recordFile2, false);
+    }
+
+    @Test
+    void parseMultipleSingleFile() {
+        RecordFile recordFile = (RecordFile) getStreamFile();
+        parser.parse(List.of(recordFile));
+        verify(recordStreamFileListener).onEnd(recordFile);
+        verify(recordStreamFileListener, never()).onBatchEnd(anyList());
+        assertPostParseStreamFile(recordFile, true);
+    }
+
     private RecordItem recordItem(long timestamp) {
         CryptoTransferTransactionBody cryptoTransfer = CryptoTransferTransactionBody.newBuilder().build();
-        TransactionBody transactionBody = TransactionBody.newBuilder().setCryptoTransfer(cryptoTransfer).build();
+        return recordItem(timestamp, TransactionBody.newBuilder().setCryptoTransfer(cryptoTransfer).build());
+    }
+
+    private RecordItem recordItem(long timestamp, TransactionBody transactionBody) {
         SignedTransaction signedTransaction = SignedTransaction.newBuilder()
                 .setBodyBytes(transactionBody.toByteString())
                 .setSigMap(SignatureMap.newBuilder().build())
@@ -20,20 +20,26 @@ package com.hedera.mirror.importer.parser.record.entity.redis;
  * ‍
  */
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.SessionCallback;
 import reactor.core.publisher.Flux;
@@ -41,6 +47,7 @@ import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import com.hedera.mirror.common.converter.TopicMessageCodec;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
@@ -132,6 +139,34 @@ class RedisEntityListenerTest {
                 .executePipelined(any(SessionCallback.class));
     }
 
+    @Test
+    void onBinaryFormat() throws InterruptedException {
+        redisProperties.setBinaryFormat(true);
+        TopicMessage topicMessage1 = topicMessage();
+        TopicMessage topicMessage2 = topicMessage();
+
+        entityListener.onTopicMessage(topicMessage1);
+        entityListener.onTopicMessage(topicMessage2);
+        entityListener.onSave(new EntityBatchSaveEvent(this));
+
+        ArgumentCaptor<RedisCallback> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisOperations, timeout(TIMEOUT.toMillis())).executePipelined(callback.capture());
+
+        RedisConnection connection = Mockito.mock(RedisConnection.class);
+        ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+        callback.getValue().doInRedis(connection);
+        verify(connection).publish(eq("topic.1001".getBytes(StandardCharsets.UTF_8)), payload.capture());
+
+        assertThat(TopicMessageCodec.isEncoded(payload.getValue())).isTrue();
+        TopicMessageCodec.Reader reader = TopicMessageCodec.reader(payload.getValue());
+        assertThat(reader.getCount()).isEqualTo(2);
+        assertThat(reader.next()).isTrue();
+        assertThat(reader.getConsensusTimestamp()).isEqualTo(topicMessage1.getConsensusTimestamp());
+        assertThat(reader.next()).isTrue();
+        assertThat(reader.getConsensusTimestamp()).isEqualTo(topicMessage2.getConsensusTimestamp());
+        assertThat(reader.next()).isFalse();
+    }
+
     protected TopicMessage topicMessage() {
         TopicMessage topicMessage = new TopicMessage();
         topicMessage.setChunkNum(1);
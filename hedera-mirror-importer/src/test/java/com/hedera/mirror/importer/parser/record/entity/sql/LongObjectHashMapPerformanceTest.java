@@ -0,0 +1,94 @@
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Measures the bytes allocated per merge when the maps are reused across record files like the SQL entity listener
+ * does, compared to a {@link HashMap} with boxed keys.
+ */
+@Log4j2
+@Tag("performance")
+class LongObjectHashMapPerformanceTest {
+
+    private static final int FILES = 100;
+
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000, 100_000})
+    void allocation(int entries) {
+        Object value = new Object();
+        var longObjectHashMap = new LongObjectHashMap<>();
+        Map<Long, Object> hashMap = new HashMap<>();
+
+        Runnable longObjectHashMapFile = () -> {
+            for (int i = 0; i < entries; ++i) {
+                longObjectHashMap.merge(key(i), value, (a, b) -> b);
+            }
+            longObjectHashMap.clear();
+        };
+        Runnable hashMapFile = () -> {
+            for (int i = 0; i < entries; ++i) {
+                hashMap.merge(key(i), value, (a, b) -> b);
+            }
+            hashMap.clear();
+        };
+
+        long longObjectHashMapBytes = allocated(longObjectHashMapFile) / entries;
+        long hashMapBytes = allocated(hashMapFile) / entries;
+
+        log.info("Merging {} entries per record file allocated {} bytes/entry with LongObjectHashMap and {} " +
+                "bytes/entry with HashMap", entries, longObjectHashMapBytes, hashMapBytes);
+        assertThat(longObjectHashMapBytes).isLessThan(hashMapBytes);
+    }
+
+    private long allocated(Runnable file) {
+        // warm up so class loading, JIT compilation and growing the tables are not measured
+        for (int i = 0; i < FILES; ++i) {
+            file.run();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        for (int i = 0; i < FILES; ++i) {
+            file.run();
+        }
+
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - start) / FILES;
+    }
+
+    // entity IDs well above the range of cached Long instances
+    private static long key(int index) {
+        return 1_000_000L + index * 7L;
+    }
+}
@@ -0,0 +1,134 @@
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LongObjectHashMapTest {
+
+    private final LongObjectHashMap<String> map = new LongObjectHashMap<>(2);
+
+    @Test
+    void empty() {
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.size()).isZero();
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.values()).isEmpty();
+    }
+
+    @Test
+    void merge() {
+        assertThat(map.merge(1L, "a", String::concat)).isEqualTo("a");
+        assertThat(map.merge(1L, "b", String::concat)).isEqualTo("ab");
+        assertThat(map.merge(2L, "c", String::concat)).isEqualTo("c");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1L)).isEqualTo("ab");
+        assertThat(map.get(2L)).isEqualTo("c");
+        assertThat(map.get(3L)).isNull();
+        assertThat(map.values()).containsExactlyInAnyOrder("ab", "c");
+    }
+
+    @Test
+    void mergePairKey() {
+        map.merge(1L, 2L, "a", String::concat);
+        map.merge(2L, 1L, "b", String::concat);
+        map.merge(1L, 2L, "c", String::concat);
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1L, 2L)).isEqualTo("ac");
+        assertThat(map.get(2L, 1L)).isEqualTo("b");
+        assertThat(map.get(1L)).isNull();
+    }
+
+    @Test
+    void mergeNull() {
+        assertThatThrownBy(() -> map.merge(1L, null, String::concat)).isInstanceOf(NullPointerException.class);
+        map.merge(1L, "a", String::concat);
+        assertThatThrownBy(() -> map.merge(1L, "b", (a, b) -> null)).isInstanceOf(NullPointerException.class);
+        assertThat(map.get(1L)).isEqualTo("a");
+    }
+
+    @Test
+    void clearKeepsCapacity() {
+        for (long i = 0; i < 100; i++) {
+            map.merge(i, String.valueOf(i), String::concat);
+        }
+        int capacity = map.capacity();
+
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.values()).isEmpty();
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.capacity()).isEqualTo(capacity).isGreaterThanOrEqualTo(200);
+
+        map.merge(1L, "a", String::concat);
+        assertThat(map.values()).containsExactly("a");
+    }
+
+    @Test
+    void clearShrinks() {
+        for (long i = 0; i < 10_000; i++) {
+            map.merge(i, String.valueOf(i), String::concat);
+        }
+        int capacity = map.capacity();
+
+        map.clear();
+        assertThat(map.capacity()).isEqualTo(capacity);
+
+        for (long i = 0; i < 10; i++) {
+            map.merge(i, String.valueOf(i), String::concat);
+        }
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.values()).isEmpty();
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.capacity()).isBetween(20, 32);
+
+        map.merge(1L, "a", String::concat);
+        assertThat(map.values()).containsExactly("a");
+    }
+
+    @Test
+    void matchesHashMap() {
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(1L);
+
+        for (int i = 0; i < 10_000; i++) {
+            // a narrow key range so keys collide and get merged
+            long key = random.nextInt(2_000) - 1_000L;
+            String value = String.valueOf(i);
+            assertThat(map.merge(key, value, (a, b) -> b + a)).isEqualTo(expected.merge(key, value, (a, b) -> b + a));
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(map.values()).containsExactlyInAnyOrderElementsOf(expected.values());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+}
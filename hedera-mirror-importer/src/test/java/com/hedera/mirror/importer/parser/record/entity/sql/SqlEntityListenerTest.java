@@ -158,6 +158,7 @@ class SqlEntityListenerTest extends IntegrationTest {
     @BeforeEach
     final void beforeEach() {
         sqlProperties.setBatchSize(20_000);
+        sqlProperties.setParallelism(1);
         sqlEntityListener.onStart();
     }
 
@@ -179,6 +180,74 @@ class SqlEntityListenerTest extends IntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    void executeBatchesInParallel() {
+        // given
+        sqlProperties.setParallelism(4);
+        var contractLog = domainBuilder.contractLog().get();
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var entity = domainBuilder.entity().get();
+        var transaction = domainBuilder.transaction().get();
+
+        // when
+        sqlEntityListener.onContractLog(contractLog);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onEntity(entity);
+        sqlEntityListener.onTransaction(transaction);
+        completeFileAndCommit();
+
+        // then
+        assertThat(contractLogRepository.findAll()).containsExactly(contractLog);
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+        assertThat(transactionRepository.findAll()).containsExactly(transaction);
+        assertThat(jdbcOperations.queryForObject("select count(*) from crypto_transfer_staging", Long.class)).isZero();
+        assertThat(jdbcOperations.queryForObject("select count(*) from transaction_staging", Long.class)).isZero();
+    }
+
+    @Test
+    void executeBatchesInParallelRollback() {
+        // given
+        sqlProperties.setParallelism(4);
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var transaction = domainBuilder.transaction().get();
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onTransaction(transaction);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onEnd(null);
+            throw new IllegalStateException();
+        }));
+
+        // then
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(jdbcOperations.queryForObject("select count(*) from crypto_transfer_staging", Long.class)).isZero();
+        assertThat(jdbcOperations.queryForObject("select count(*) from transaction_staging", Long.class)).isZero();
+    }
+
+    @Test
+    void executeBatchesInParallelMultipleTimesPerTransaction() {
+        // given
+        sqlProperties.setBatchSize(1);
+        sqlProperties.setParallelism(4);
+        var recordFile = domainBuilder.recordFile().persist();
+        var transaction1 = domainBuilder.transaction().get();
+        var transaction2 = domainBuilder.transaction().get();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onTransaction(transaction1);
+            sqlEntityListener.onTransaction(transaction2);
+            sqlEntityListener.onEnd(recordFile);
+        });
+
+        // then
+        assertThat(transactionRepository.findAll()).containsExactlyInAnyOrder(transaction1, transaction2);
+        assertThat(jdbcOperations.queryForObject("select count(*) from transaction_staging", Long.class)).isZero();
+    }
+
     @Test
     void isEnabled() {
         sqlProperties.setEnabled(false);
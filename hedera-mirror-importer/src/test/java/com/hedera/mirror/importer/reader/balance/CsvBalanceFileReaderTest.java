@@ -33,6 +33,7 @@ import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.LinkedList;
@@ -43,6 +44,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.springframework.cglib.core.ReflectUtils;
 import org.springframework.util.StringUtils;
+import reactor.test.StepVerifier;
 
 import com.hedera.mirror.common.domain.balance.AccountBalance;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
@@ -104,6 +106,19 @@ abstract class CsvBalanceFileReaderTest {
         verifySuccess(balanceFile, accountBalanceFile, 2);
     }
 
+    @Test
+    void readItemsOnDemand() {
+        StreamFileData streamFileData = StreamFileData.from(balanceFile);
+        AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
+
+        StepVerifier.create(accountBalanceFile.getItems(), 1L)
+                .expectNextCount(1L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(5L));
+        assertThat(accountBalanceFile.getCount()).isNull();
+        assertThat(accountBalanceFile.getItems().count().block()).isEqualTo(expectedCount);
+    }
+
     @Test
     void readInvalidWhenFileHasNoTimestampHeader() throws IOException {
         List<String> lines = FileUtils.readLines(balanceFile, CsvBalanceFileReader.CHARSET);
@@ -253,6 +268,8 @@ abstract class CsvBalanceFileReaderTest {
     protected void assertAccountBalanceFile(AccountBalanceFile accountBalanceFile) {
         assertThat(accountBalanceFile).isNotNull();
         assertThat(accountBalanceFile.getBytes()).isNotEmpty();
+        assertThat(accountBalanceFile.getCount()).isNull();
+        assertThat(accountBalanceFile.getItems().count().block()).isEqualTo(expectedCount);
         assertThat(accountBalanceFile.getCount()).isEqualTo(expectedCount);
         assertThat(accountBalanceFile.getConsensusTimestamp()).isEqualTo(consensusTimestamp);
         assertThat(accountBalanceFile.getLoadStart()).isNotNull().isPositive();
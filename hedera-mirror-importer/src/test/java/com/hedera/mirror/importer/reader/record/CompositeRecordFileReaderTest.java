@@ -20,13 +20,15 @@ package com.hedera.mirror.importer.reader.record;
  * ‍
  */
 
+import com.hedera.mirror.importer.parser.record.RecordParserProperties;
+
 class CompositeRecordFileReaderTest extends RecordFileReaderTest {
 
     @Override
     protected RecordFileReader getRecordFileReader() {
         RecordFileReaderImplV1 v1Reader = new RecordFileReaderImplV1();
         RecordFileReaderImplV2 v2Reader = new RecordFileReaderImplV2();
-        RecordFileReaderImplV5 v5Reader = new RecordFileReaderImplV5();
+        RecordFileReaderImplV5 v5Reader = new RecordFileReaderImplV5(new RecordParserProperties());
         return new CompositeRecordFileReader(v1Reader, v2Reader, v5Reader);
     }
 
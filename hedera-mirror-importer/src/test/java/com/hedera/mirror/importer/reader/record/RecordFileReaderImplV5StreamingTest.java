@@ -0,0 +1,114 @@
+package com.hedera.mirror.importer.reader.record;
+
+/*-
+ * ‌
+ * Hedera Mirror Node
+ * ​
+ * Copyright (C) 2019 - 2022 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.parser.record.RecordParserProperties;
+
+class RecordFileReaderImplV5StreamingTest extends AbstractRecordFileReaderTest {
+
+    @Override
+    protected RecordFileReader getRecordFileReader() {
+        RecordParserProperties parserProperties = new RecordParserProperties();
+        parserProperties.setStreamItems(true);
+        parserProperties.setStreamWindow(2);
+        return new RecordFileReaderImplV5(parserProperties);
+    }
+
+    @Override
+    protected boolean filterFile(int version) {
+        return version == 5;
+    }
+
+    @Override
+    @TestFactory
+    Stream<DynamicTest> verifyRecordItemLinksInValidFile() {
+        String template = "stream file %s without previous links";
+
+        return DynamicTest.stream(
+                getFilteredFiles(false),
+                (recordFile) -> String.format(template, recordFile.getName()),
+                (recordFile) -> {
+                    // given
+                    StreamFileData streamFileData = StreamFileData.from(getTestFile(recordFile).toFile());
+
+                    // when
+                    RecordFile actual = recordFileReader.read(streamFileData);
+
+                    // then
+                    assertThat(actual.getItems().collectList().block())
+                            .hasSize(recordFile.getCount().intValue())
+                            .extracting(RecordItem::getPrevious)
+                            .containsOnlyNulls();
+                });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> streamedItemsMatchMaterializedItems() {
+        String template = "stream file %s";
+        RecordFileReader materializingReader = new RecordFileReaderImplV5(new RecordParserProperties());
+
+        return DynamicTest.stream(
+                getFilteredFiles(false),
+                (recordFile) -> String.format(template, recordFile.getName()),
+                (recordFile) -> {
+                    // given
+                    Path testFile = getTestFile(recordFile);
+                    StreamFileData streamFileData = StreamFileData.from(testFile.toFile());
+                    List<RecordItem> expected = materializingReader.read(streamFileData).getItems()
+                            .collectList()
+                            .block();
+
+                    // when
+                    RecordFile actual = recordFileReader.read(streamFileData);
+
+                    // then
+                    List<RecordItem> items = actual.getItems().collectList().block();
+                    assertThat(items).hasSameSizeAs(expected);
+
+                    for (int i = 0; i < items.size(); i++) {
+                        RecordItem item = items.get(i);
+                        RecordItem expectedItem = expected.get(i);
+                        assertThat(item.getTransactionIndex()).isEqualTo(expectedItem.getTransactionIndex());
+                        assertThat(item.getRecordBytes()).isEqualTo(expectedItem.getRecordBytes());
+                        assertThat(item.getTransactionBytes()).isEqualTo(expectedItem.getTransactionBytes());
+                        assertThat(getParentIndex(item)).isEqualTo(getParentIndex(expectedItem));
+                    }
+
+                    // items can be streamed again when the parser retries the file
+                    assertThat(actual.getItems().count().block()).isEqualTo(actual.getCount());
+                });
+    }
+
+    private Integer getParentIndex(RecordItem recordItem) {
+        return recordItem.getParent() != null ? recordItem.getParent().getTransactionIndex() : null;
+    }
+}
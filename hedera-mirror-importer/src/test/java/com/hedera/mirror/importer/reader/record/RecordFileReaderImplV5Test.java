@@ -32,12 +32,13 @@ import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.parser.record.RecordParserProperties;
 
 class RecordFileReaderImplV5Test extends AbstractRecordFileReaderTest {
 
     @Override
     protected RecordFileReader getRecordFileReader() {
-        return new RecordFileReaderImplV5();
+        return new RecordFileReaderImplV5(new RecordParserProperties());
     }
 
     @Override
@@ -61,6 +61,7 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
     void setup() {
         reconciliationProperties.setEnabled(true);
         reconciliationProperties.setEndDate(Utility.MAX_INSTANT_LONG);
+        reconciliationProperties.setParallelism(4);
         reconciliationProperties.setStartDate(Instant.EPOCH);
         reconciliationProperties.setToken(true);
     }
@@ -82,6 +83,7 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
         // then
         assertMetric(SUCCESS);
         assertStartDate(last);
+        assertJob(SUCCESS, last, 2L);
     }
 
     @Test
@@ -97,6 +99,26 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
         // then
         assertMetric(FAILURE_CRYPTO_TRANSFERS);
         assertStartDate(first);
+        assertJob(FAILURE_CRYPTO_TRANSFERS, first, 0L);
+    }
+
+    @Test
+    void cryptoTransfersParallel() {
+        // given
+        reconciliationProperties.setParallelism(2);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        var third = balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 100L, 3L, 100L)); // Missing 100 tinybar transfer
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 100L, 3L, 100L));
+
+        // when
+        reconciliationService.reconcile();
+
+        // then
+        assertMetric(FAILURE_CRYPTO_TRANSFERS);
+        assertStartDate(third);
+        assertJob(FAILURE_CRYPTO_TRANSFERS, third, 2L);
     }
 
     @Test
@@ -247,6 +269,24 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
         assertMetric(SUCCESS);
     }
 
+    @Test
+    void checkpoint() {
+        // given
+        balance(Map.of(2L, 1L)); // Would fail if checked
+        var balanceFile2 = balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        var last = balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        jdbcOperations.update("insert into reconciliation_job (consensus_timestamp, count, status, timestamp_start) " +
+                "values (?, 1, 0, now() - interval '1 day')", balanceFile2.getConsensusTimestamp());
+
+        // when
+        reconciliationService.reconcile();
+
+        // then
+        assertMetric(SUCCESS);
+        assertStartDate(last);
+        assertJob(SUCCESS, last, 1L);
+    }
+
     @Test
     void endDate() {
         // given
@@ -297,6 +337,17 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
                 .isEqualTo((double) status.ordinal());
     }
 
+    private void assertJob(BalanceReconciliationService.ReconciliationStatus status,
+                           AccountBalanceFile accountBalanceFile, long count) {
+        var job = jdbcOperations.queryForMap("select * from reconciliation_job order by timestamp_start desc limit 1");
+        assertThat(job)
+                .containsEntry("consensus_timestamp", accountBalanceFile.getConsensusTimestamp())
+                .containsEntry("count", count)
+                .containsEntry("status", status.ordinal())
+                .containsKey("timestamp_end");
+        assertThat(job.get("timestamp_end")).isNotNull();
+    }
+
     private void assertStartDate(AccountBalanceFile accountBalanceFile) {
         var expectedStartDate = Instant.ofEpochSecond(0L, accountBalanceFile.getConsensusTimestamp());
         assertThat(reconciliationProperties.getStartDate()).isEqualTo(expectedStartDate);
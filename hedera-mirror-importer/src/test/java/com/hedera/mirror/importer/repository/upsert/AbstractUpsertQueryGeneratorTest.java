@@ -50,6 +50,10 @@ abstract class AbstractUpsertQueryGeneratorTest extends AbstractRepositoryTest {
         return "";
     }
 
+    protected String getUpsertQuery() {
+        return getInsertQuery();
+    }
+
     @Test
     void insert() {
         String insertQuery = getUpdatableDomainRepositoryCustom().getInsertQuery();
@@ -84,6 +88,12 @@ abstract class AbstractUpsertQueryGeneratorTest extends AbstractRepositoryTest {
         assertEqual(updateQuery, getUpdateQuery());
     }
 
+    @Test
+    void upsert() {
+        String upsertQuery = getUpdatableDomainRepositoryCustom().getUpsertQuery();
+        assertEqual(upsertQuery, getUpsertQuery());
+    }
+
     private void assertEqual(String actualSql, String expectedSql) {
         assertThat(formatSql(actualSql)).isEqualTo(formatSql(expectedSql));
     }
@@ -38,7 +38,8 @@ class NftUpsertQueryGeneratorTest extends AbstractUpsertQueryGeneratorTest {
     protected String getInsertQuery() {
         return "insert into nft (account_id, created_timestamp, delegating_spender," +
                 "deleted, metadata, modified_timestamp, serial_number, spender, token_id) " +
-                "select nft_temp.account_id, nft_temp.created_timestamp," +
+                "select case when nft_temp.deleted = true then null else nft_temp.account_id end, " +
+                "nft_temp.created_timestamp," +
                 "nft_temp.delegating_spender, nft_temp.deleted, nft_temp.metadata, nft_temp.modified_timestamp, " +
                 "nft_temp.serial_number, nft_temp.spender, nft_temp.token_id " +
                 "from nft_temp " +
@@ -59,6 +60,35 @@ class NftUpsertQueryGeneratorTest extends AbstractUpsertQueryGeneratorTest {
                 "nft.token_id = nft_temp.token_id and nft.serial_number = nft_temp.serial_number";
     }
 
+    @Override
+    protected String getUpsertQuery() {
+        return "insert into nft (account_id, created_timestamp, delegating_spender," +
+                "deleted, metadata, modified_timestamp, serial_number, spender, token_id) select " +
+                "case when nft.token_id is null then " +
+                "  case when nft_temp.deleted = true then null else nft_temp.account_id end " +
+                "  else case when nft_temp.deleted = true then null " +
+                "    else coalesce(nft_temp.account_id, nft.account_id) end end, " +
+                "case when nft.token_id is null then nft_temp.created_timestamp else nft.created_timestamp end, " +
+                "case when nft.token_id is null then nft_temp.delegating_spender " +
+                "  else nft_temp.delegating_spender end, " +
+                "case when nft.token_id is null then nft_temp.deleted " +
+                "  else coalesce(nft_temp.deleted, nft.deleted) end, " +
+                "case when nft.token_id is null then nft_temp.metadata else nft.metadata end, " +
+                "case when nft.token_id is null then nft_temp.modified_timestamp " +
+                "  else coalesce(nft_temp.modified_timestamp, nft.modified_timestamp) end, " +
+                "case when nft.token_id is null then nft_temp.serial_number else nft.serial_number end, " +
+                "case when nft.token_id is null then nft_temp.spender else nft_temp.spender end, " +
+                "case when nft.token_id is null then nft_temp.token_id else nft.token_id end " +
+                "from nft_temp left join nft on nft.token_id = nft_temp.token_id and " +
+                "nft.serial_number = nft_temp.serial_number " +
+                "where nft.created_timestamp is not null or (nft.token_id is null and " +
+                "nft_temp.created_timestamp is not null and exists " +
+                "(select 1 from token where token.token_id = nft_temp.token_id)) " +
+                "on conflict (token_id, serial_number) do update set account_id = excluded.account_id, " +
+                "delegating_spender = excluded.delegating_spender, deleted = excluded.deleted, " +
+                "modified_timestamp = excluded.modified_timestamp, spender = excluded.spender";
+    }
+
     @Test
     void tableName() {
         String tableName = getUpdatableDomainRepositoryCustom().getFinalTableName();
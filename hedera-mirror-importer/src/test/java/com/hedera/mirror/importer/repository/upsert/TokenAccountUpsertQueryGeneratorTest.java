@@ -80,6 +80,17 @@ class TokenAccountUpsertQueryGeneratorTest extends AbstractUpsertQueryGeneratorT
                 "  order by token_account_temp.modified_timestamp";
     }
 
+    @Override
+    protected String getUpsertQuery() {
+        return getInsertQuery() +
+                "  on conflict (account_id, modified_timestamp, token_id) do update set" +
+                "    associated = excluded.associated," +
+                "    automatic_association = excluded.automatic_association," +
+                "    created_timestamp = excluded.created_timestamp," +
+                "    freeze_status = excluded.freeze_status," +
+                "    kyc_status = excluded.kyc_status";
+    }
+
     @Test
     void tableName() {
         String tableName = getUpdatableDomainRepositoryCustom().getFinalTableName();
@@ -74,6 +74,63 @@ class TokenUpsertQueryGeneratorTest extends AbstractUpsertQueryGeneratorTest {
                 "where token.token_id = token_temp.token_id and token_temp.created_timestamp is null";
     }
 
+    @Override
+    protected String getUpsertQuery() {
+        return "insert into token (created_timestamp, decimals, fee_schedule_key, " +
+                "freeze_default, freeze_key, initial_supply, kyc_key, " +
+                "max_supply, modified_timestamp, name, pause_key, pause_status, supply_key, " +
+                "supply_type, symbol, token_id, total_supply, treasury_account_id, type, wipe_key) select " +
+                "case when token.token_id is null then token_temp.created_timestamp " +
+                "  else token.created_timestamp end, " +
+                "case when token.token_id is null then token_temp.decimals else token.decimals end, " +
+                "case when token.token_id is null then token_temp.fee_schedule_key " +
+                "  else coalesce(token_temp.fee_schedule_key, token.fee_schedule_key) end, " +
+                "case when token.token_id is null then token_temp.freeze_default else token.freeze_default end, " +
+                "case when token.token_id is null then token_temp.freeze_key " +
+                "  else coalesce(token_temp.freeze_key, token.freeze_key) end, " +
+                "case when token.token_id is null then token_temp.initial_supply else token.initial_supply end, " +
+                "case when token.token_id is null then token_temp.kyc_key " +
+                "  else coalesce(token_temp.kyc_key, token.kyc_key) end, " +
+                "case when token.token_id is null then token_temp.max_supply else token.max_supply end, " +
+                "case when token.token_id is null then token_temp.modified_timestamp " +
+                "  else coalesce(token_temp.modified_timestamp, token.modified_timestamp) end, " +
+                "case when token.token_id is null then coalesce(token_temp.name, '') " +
+                "  else coalesce(token_temp.name, token.name) end, " +
+                "case when token.token_id is null then token_temp.pause_key " +
+                "  else coalesce(token_temp.pause_key, token.pause_key) end, " +
+                "case when token.token_id is null then token_temp.pause_status " +
+                "  else coalesce(token_temp.pause_status, token.pause_status) end, " +
+                "case when token.token_id is null then token_temp.supply_key " +
+                "  else coalesce(token_temp.supply_key, token.supply_key) end, " +
+                "case when token.token_id is null then token_temp.supply_type else token.supply_type end, " +
+                "case when token.token_id is null then coalesce(token_temp.symbol, '') " +
+                "  else coalesce(token_temp.symbol, token.symbol) end, " +
+                "case when token.token_id is null then token_temp.token_id else token.token_id end, " +
+                "case when token.token_id is null then token_temp.total_supply " +
+                "  else case when token_temp.total_supply >= 0 then token_temp.total_supply" +
+                "    else token.total_supply + coalesce(token_temp.total_supply, 0) end end, " +
+                "case when token.token_id is null then token_temp.treasury_account_id " +
+                "  else coalesce(token_temp.treasury_account_id, token.treasury_account_id) end, " +
+                "case when token.token_id is null then token_temp.type else token.type end, " +
+                "case when token.token_id is null then token_temp.wipe_key " +
+                "  else coalesce(token_temp.wipe_key, token.wipe_key) end " +
+                "from token_temp left join token on token.token_id = token_temp.token_id " +
+                "where (token.token_id is null and token_temp.created_timestamp is not null) or " +
+                "(token.token_id is not null and token_temp.created_timestamp is null) " +
+                "on conflict (token_id) do update set fee_schedule_key = excluded.fee_schedule_key, " +
+                "freeze_key = excluded.freeze_key, kyc_key = excluded.kyc_key, " +
+                "modified_timestamp = excluded.modified_timestamp, name = excluded.name, " +
+                "pause_key = excluded.pause_key, pause_status = excluded.pause_status, " +
+                "supply_key = excluded.supply_key, symbol = excluded.symbol, total_supply = excluded.total_supply, " +
+                "treasury_account_id = excluded.treasury_account_id, wipe_key = excluded.wipe_key";
+    }
+
+    @Test
+    void exists() {
+        assertThat(getUpdatableDomainRepositoryCustom().getExistsQuery()).isEqualTo(
+                "select exists (select 1 from token_temp join token on token.token_id = token_temp.token_id)");
+    }
+
     @Test
     void tableName() {
         String tableName = getUpdatableDomainRepositoryCustom().getFinalTableName();